@@ -0,0 +1,37 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Build step run by the {@code precompress-static-assets} execution in {@code pom.xml}: writes a
+ * maximally compressed {@code .gz} copy next to each file given, skipping copies that are up to date.
+ * <p>
+ * The files arrive as one argument separated by the platform path separator, as Ant's
+ * {@code pathconvert} joins a fileset. Uses only the JDK, so the build needs no gzip command.
+ */
+public class GzipAssets {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0 || args[0].isBlank()) {
+            return;
+        }
+        for (String name : args[0].split(java.io.File.pathSeparator)) {
+            Path asset = Path.of(name);
+            Path gzipped = asset.resolveSibling(asset.getFileName() + ".gz");
+            if (Files.exists(gzipped)
+                    && Files.getLastModifiedTime(gzipped).compareTo(Files.getLastModifiedTime(asset)) >= 0) {
+                continue;
+            }
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzipped)) {
+                {
+                    def.setLevel(Deflater.BEST_COMPRESSION);
+                }
+            }) {
+                Files.copy(asset, out);
+            }
+        }
+    }
+}
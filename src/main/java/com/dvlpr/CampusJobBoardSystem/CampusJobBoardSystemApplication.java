@@ -2,8 +2,10 @@ package com.dvlpr.CampusJobBoardSystem;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class CampusJobBoardSystemApplication {
 
 	public static void main(String[] args) {
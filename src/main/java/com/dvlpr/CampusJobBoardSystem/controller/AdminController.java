@@ -1,11 +1,20 @@
 package com.dvlpr.CampusJobBoardSystem.controller;
 
+import com.dvlpr.CampusJobBoardSystem.dto.AdminJobSummary;
+import com.dvlpr.CampusJobBoardSystem.dto.UserSearchCriteria;
 import com.dvlpr.CampusJobBoardSystem.entity.JobStatus;
+import com.dvlpr.CampusJobBoardSystem.entity.User;
+import com.dvlpr.CampusJobBoardSystem.entity.UserStatus;
 import com.dvlpr.CampusJobBoardSystem.service.AdminService;
+import com.dvlpr.CampusJobBoardSystem.service.ApplicationService;
 import com.dvlpr.CampusJobBoardSystem.service.JobService;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import java.util.List;
 
 /**
  * Controller for admin-specific operations.
@@ -17,19 +26,25 @@ public class AdminController {
 
     private final JobService jobService;
     private final AdminService adminService;
+    private final ApplicationService applicationService;
 
-    public AdminController(JobService jobService, AdminService adminService) {
+    public AdminController(JobService jobService, AdminService adminService, ApplicationService applicationService) {
         this.jobService = jobService;
         this.adminService = adminService;
+        this.applicationService = applicationService;
     }
 
     /**
-     * Display admin dashboard with all jobs.
+     * Display admin dashboard with all jobs, their applicant counts and the overall total.
      */
     @GetMapping("/dashboard")
     public String dashboard(Model model) {
         // Admin sees ALL jobs (Pending, Approved, Rejected)
-        model.addAttribute("jobs", jobService.getAllJobs());
+        List<AdminJobSummary> jobs = jobService.getAllJobs();
+        model.addAttribute("jobs", jobs);
+        model.addAttribute("applicationCounts",
+                applicationService.getApplicationCounts(jobs.stream().map(AdminJobSummary::id).toList()));
+        model.addAttribute("totalApplications", applicationService.getTotalApplications());
         return "admin/dashboard";
     }
 
@@ -52,14 +67,56 @@ public class AdminController {
     }
 
     /**
-     * Display user management page with all users.
+     * Approve or reject all selected pending jobs at once.
+     */
+    @PostMapping("/jobs/moderate")
+    public String moderateJobs(@RequestParam(name = "jobIds", required = false) List<Long> jobIds,
+                               @RequestParam("status") JobStatus status,
+                               RedirectAttributes redirectAttributes) {
+        int changed = jobService.moderateJobs(jobIds != null ? jobIds : List.of(), status);
+        redirectAttributes.addAttribute("moderated", changed);
+        redirectAttributes.addAttribute("status", status.name().toLowerCase());
+        return "redirect:/admin/dashboard";
+    }
+
+    /**
+     * Display one page of users matching the filters.
      */
     @GetMapping("/users")
-    public String manageUsers(Model model) {
-        model.addAttribute("users", adminService.getAllUsers());
+    public String manageUsers(@ModelAttribute("criteria") UserSearchCriteria criteria,
+                              @RequestParam(defaultValue = "0") int page,
+                              @RequestParam(defaultValue = "" + AdminService.DEFAULT_PAGE_SIZE) int size,
+                              Model model) {
+        Page<User> users = adminService.findUsers(criteria, page, size);
+        model.addAttribute("users", users.getContent());
+        model.addAttribute("page", users);
         return "admin/users";
     }
 
+    /**
+     * Activate or deactivate all selected users at once.
+     */
+    @PostMapping("/users/status")
+    public String updateSelectedUsers(@RequestParam(name = "userIds", required = false) List<Long> userIds,
+                                      @RequestParam("newStatus") UserStatus newStatus,
+                                      RedirectAttributes redirectAttributes) {
+        int changed = adminService.updateStatus(userIds != null ? userIds : List.of(), newStatus);
+        redirectAttributes.addAttribute("updated", changed);
+        return "redirect:/admin/users";
+    }
+
+    /**
+     * Activate or deactivate every user matching the filters at once.
+     */
+    @PostMapping("/users/status/matching")
+    public String updateMatchingUsers(@ModelAttribute UserSearchCriteria criteria,
+                                      @RequestParam("newStatus") UserStatus newStatus,
+                                      RedirectAttributes redirectAttributes) {
+        int changed = adminService.updateStatus(criteria, newStatus);
+        redirectAttributes.addAttribute("updated", changed);
+        return "redirect:/admin/users";
+    }
+
     /**
      * Activate a user account.
      */
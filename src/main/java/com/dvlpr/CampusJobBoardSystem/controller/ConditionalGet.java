@@ -0,0 +1,57 @@
+package com.dvlpr.CampusJobBoardSystem.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.support.RequestContextUtils;
+
+import java.util.Objects;
+
+/**
+ * Answers conditional GETs of the job pages from their change versions.
+ * <p>
+ * The pages embed the signed-in user and the session's CSRF token, so every tag is scoped to the
+ * viewer as well as the version. Pages carrying a flash message are always rendered, and the
+ * responses are marked {@code private, no-cache} so browsers keep them but revalidate every time.
+ */
+final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * Check the request's validators against the page's current ones.
+     *
+     * @param request the current request
+     * @param etag the page's entity tag, built with {@link #viewer(NativeWebRequest)}
+     * @param lastModified epoch milliseconds of the page's last change
+     * @return true if the client's copy is current and a 304 has been prepared; the handler
+     *         must then return {@code null} without rendering
+     */
+    static boolean notModified(NativeWebRequest request, String etag, long lastModified) {
+        HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+        if (servletRequest != null && RequestContextUtils.getInputFlashMap(servletRequest) != null) {
+            return false;
+        }
+        HttpServletResponse response = request.getNativeResponse(HttpServletResponse.class);
+        if (response != null) {
+            // Also keeps Spring Security from adding no-store, which would stop browsers revalidating
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        }
+        return request.checkNotModified(etag, lastModified);
+    }
+
+    /**
+     * Opaque token identifying who is viewing and in which session.
+     *
+     * @param request the current request
+     * @return the token, safe to embed in an entity tag
+     */
+    static String viewer(NativeWebRequest request) {
+        HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+        HttpSession session = servletRequest != null ? servletRequest.getSession(false) : null;
+        return Integer.toString(Objects.hash(request.getRemoteUser(), session != null ? session.getId() : null), 36);
+    }
+}
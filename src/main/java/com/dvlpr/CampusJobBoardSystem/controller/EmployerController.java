@@ -1,16 +1,26 @@
 package com.dvlpr.CampusJobBoardSystem.controller;
 
+import com.dvlpr.CampusJobBoardSystem.dto.EmployerJobSummary;
 import com.dvlpr.CampusJobBoardSystem.entity.Job;
 import com.dvlpr.CampusJobBoardSystem.service.ApplicationService;
+import com.dvlpr.CampusJobBoardSystem.service.JobChangeTracker;
+import com.dvlpr.CampusJobBoardSystem.service.JobImportService;
 import com.dvlpr.CampusJobBoardSystem.service.JobService;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
 /**
  * Controller for employer-specific operations.
  * Handles job posting, editing, deletion, and viewing applications.
@@ -21,19 +31,33 @@ public class EmployerController {
 
     private final JobService jobService;
     private final ApplicationService applicationService;
+    private final JobImportService jobImportService;
+    private final JobChangeTracker jobChangeTracker;
 
-    public EmployerController(JobService jobService, ApplicationService applicationService) {
+    public EmployerController(JobService jobService, ApplicationService applicationService,
+                              JobImportService jobImportService, JobChangeTracker jobChangeTracker) {
         this.jobService = jobService;
         this.applicationService = applicationService;
+        this.jobImportService = jobImportService;
+        this.jobChangeTracker = jobChangeTracker;
     }
 
     /**
-     * Display employer dashboard with their job postings.
+     * Display employer dashboard with their job postings and the applicant count of each.
+     * Answers 304 without querying while the employer's jobs and counts are unchanged.
      */
     @GetMapping("/dashboard")
-    public String dashboard(Model model) {
+    public String dashboard(Model model, NativeWebRequest request) {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        model.addAttribute("jobs", jobService.getJobsByEmployer(email));
+        JobChangeTracker.ChangeVersion version = jobChangeTracker.employerVersion(email);
+        if (ConditionalGet.notModified(request, version.etag("employer-jobs", ConditionalGet.viewer(request)),
+                version.lastModified())) {
+            return null;
+        }
+        List<EmployerJobSummary> jobs = jobService.getJobsByEmployer(email);
+        model.addAttribute("jobs", jobs);
+        model.addAttribute("applicationCounts",
+                applicationService.getApplicationCounts(jobs.stream().map(EmployerJobSummary::id).toList()));
         return "employer/dashboard";
     }
 
@@ -63,6 +87,29 @@ public class EmployerController {
         return "redirect:/employer/dashboard";
     }
 
+    /**
+     * Import many jobs at once from a CSV or JSON file.
+     * CSV needs a header row; JSON is an array of objects. Both use the fields
+     * title, description, location, salary, category and deadline (yyyy-MM-dd).
+     */
+    @PostMapping("/job/import")
+    public String importJobs(@RequestParam("file") MultipartFile file, RedirectAttributes redirectAttributes) {
+        if (file.isEmpty()) {
+            redirectAttributes.addFlashAttribute("error", "Please choose a CSV or JSON file to import.");
+            return "redirect:/employer/dashboard";
+        }
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        String name = file.getOriginalFilename();
+        boolean json = (name != null && name.toLowerCase().endsWith(".json"))
+                || MediaType.APPLICATION_JSON_VALUE.equals(file.getContentType());
+        try (InputStream upload = file.getInputStream()) {
+            redirectAttributes.addFlashAttribute("importResult", jobImportService.importJobs(upload, json, email));
+        } catch (IOException e) {
+            redirectAttributes.addFlashAttribute("error", "Could not read the import file: " + e.getMessage());
+        }
+        return "redirect:/employer/dashboard";
+    }
+
     /**
      * Display form to edit an existing job.
      */
@@ -0,0 +1,61 @@
+package com.dvlpr.CampusJobBoardSystem.controller;
+
+import com.dvlpr.CampusJobBoardSystem.dto.CursorPage;
+import com.dvlpr.CampusJobBoardSystem.dto.JobSearchCriteria;
+import com.dvlpr.CampusJobBoardSystem.dto.JobSuggestion;
+import com.dvlpr.CampusJobBoardSystem.dto.JobView;
+import com.dvlpr.CampusJobBoardSystem.search.JobQueryPlan;
+import com.dvlpr.CampusJobBoardSystem.service.JobService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * JSON API for browsing approved jobs.
+ * Uses the same combined filters and keyset pagination as the student dashboard.
+ */
+@RestController
+@RequestMapping("/api/jobs")
+public class JobApiController {
+
+    private final JobService jobService;
+
+    public JobApiController(JobService jobService) {
+        this.jobService = jobService;
+    }
+
+    /**
+     * List approved jobs, newest first, filtered by any combination of keyword, category,
+     * location, salary range and deadline range.
+     * Pass the returned {@code nextCursor} back as {@code cursor} to get the next page.
+     */
+    @GetMapping
+    public CursorPage<JobView> listJobs(
+            @ModelAttribute JobSearchCriteria criteria,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + JobService.DEFAULT_PAGE_SIZE) int size) {
+        return jobService.findApprovedJobs(criteria, cursor, size);
+    }
+
+    /**
+     * Typeahead for the search box: titles, categories and locations starting with the typed text.
+     */
+    @GetMapping("/suggest")
+    public List<JobSuggestion> suggest(@RequestParam(defaultValue = "") String q,
+                                       @RequestParam(defaultValue = "8") int limit) {
+        return jobService.suggestJobs(q, limit);
+    }
+
+    /**
+     * Show the query plan for a search, with the estimated rows of each predicate.
+     * Admins only (see SecurityConfig).
+     */
+    @GetMapping("/plan")
+    public JobQueryPlan explain(@ModelAttribute JobSearchCriteria criteria) {
+        return jobService.explainSearch(criteria);
+    }
+}
@@ -1,16 +1,23 @@
 package com.dvlpr.CampusJobBoardSystem.controller;
 
-import com.dvlpr.CampusJobBoardSystem.entity.Job;
-import com.dvlpr.CampusJobBoardSystem.entity.JobStatus;
+import com.dvlpr.CampusJobBoardSystem.dto.CursorPage;
+import com.dvlpr.CampusJobBoardSystem.dto.JobSearchCriteria;
+import com.dvlpr.CampusJobBoardSystem.dto.JobView;
 import com.dvlpr.CampusJobBoardSystem.exception.DuplicateApplicationException;
+import com.dvlpr.CampusJobBoardSystem.security.CustomUserDetails;
 import com.dvlpr.CampusJobBoardSystem.service.ApplicationService;
+import com.dvlpr.CampusJobBoardSystem.service.JobChangeTracker;
 import com.dvlpr.CampusJobBoardSystem.service.JobService;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.util.Optional;
+
 /**
  * Controller for student-specific operations.
  * Handles job browsing, job details viewing, and job applications.
@@ -21,52 +28,57 @@ public class StudentController {
 
     private final JobService jobService;
     private final ApplicationService applicationService;
+    private final JobChangeTracker jobChangeTracker;
 
-    public StudentController(JobService jobService, ApplicationService applicationService) {
+    public StudentController(JobService jobService, ApplicationService applicationService,
+                             JobChangeTracker jobChangeTracker) {
         this.jobService = jobService;
         this.applicationService = applicationService;
+        this.jobChangeTracker = jobChangeTracker;
     }
 
     /**
-     * Display student dashboard with approved jobs.
+     * Display student dashboard with one page of approved jobs.
+     * Answers 304 without querying while the approved jobs are unchanged.
      */
     @GetMapping("/dashboard")
-    public String listJobs(Model model) {
+    public String listJobs(@RequestParam(required = false) String cursor,
+                           @RequestParam(defaultValue = "" + JobService.DEFAULT_PAGE_SIZE) int size,
+                           Model model, NativeWebRequest request) {
+        JobChangeTracker.ChangeVersion version = jobChangeTracker.approvedVersion();
+        if (ConditionalGet.notModified(request, version.etag("jobs", ConditionalGet.viewer(request)),
+                version.lastModified())) {
+            return null;
+        }
         // Requirement: View only admin-approved jobs
-        model.addAttribute("jobs", jobService.getAllApprovedJobs());
+        addPage(model, jobService.getApprovedJobsPage(cursor, size), size);
         model.addAttribute("categories", jobService.getAvailableCategories());
         model.addAttribute("locations", jobService.getAvailableLocations());
         return "student/dashboard";
     }
 
     /**
-     * Search and filter jobs.
-     * Supports keyword search and filtering by category or location.
+     * Search and filter jobs, one page at a time.
+     * Keyword, category, location, salary range and deadline range can be combined freely.
      */
     @GetMapping("/search")
     public String searchJobs(
-            @RequestParam(required = false) String keyword,
-            @RequestParam(required = false) String category,
-            @RequestParam(required = false) String location,
+            @ModelAttribute("criteria") JobSearchCriteria criteria,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + JobService.DEFAULT_PAGE_SIZE) int size,
             Model model) {
 
-        java.util.List<Job> jobs;
-
-        // Priority: keyword search > category filter > location filter
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            jobs = jobService.searchApprovedJobs(keyword);
-            model.addAttribute("searchKeyword", keyword);
-        } else if (category != null && !category.trim().isEmpty()) {
-            jobs = jobService.getApprovedJobsByCategory(category);
-            model.addAttribute("selectedCategory", category);
-        } else if (location != null && !location.trim().isEmpty()) {
-            jobs = jobService.getApprovedJobsByLocation(location);
-            model.addAttribute("selectedLocation", location);
-        } else {
-            jobs = jobService.getAllApprovedJobs();
+        if (criteria.hasKeyword()) {
+            model.addAttribute("searchKeyword", criteria.getKeyword());
+        }
+        if (criteria.hasCategory()) {
+            model.addAttribute("selectedCategory", criteria.getCategory());
+        }
+        if (criteria.hasLocation()) {
+            model.addAttribute("selectedLocation", criteria.getLocation());
         }
 
-        model.addAttribute("jobs", jobs);
+        addPage(model, jobService.findApprovedJobs(criteria, cursor, size), size);
         model.addAttribute("categories", jobService.getAvailableCategories());
         model.addAttribute("locations", jobService.getAvailableLocations());
 
@@ -75,17 +87,21 @@ public class StudentController {
 
     /**
      * View detailed job description.
+     * Answers 304 without rendering while the job is unchanged.
      */
     @GetMapping("/job/{id}")
-    public String viewJobDetails(@PathVariable Long id, Model model) {
-        Job job = jobService.getJobById(id);
-        
+    public String viewJobDetails(@PathVariable Long id, Model model, NativeWebRequest request) {
         // Only show approved jobs to students
-        if (job.getStatus() != JobStatus.APPROVED) {
+        Optional<JobView> job = jobService.findApprovedJob(id);
+        if (job.isEmpty()) {
             return "redirect:/student/dashboard?error=Job not available";
         }
-        
-        model.addAttribute("job", job);
+        if (ConditionalGet.notModified(request, jobChangeTracker.jobEtag(job.get(), ConditionalGet.viewer(request)),
+                jobChangeTracker.approvedVersion().lastModified())) {
+            return null;
+        }
+
+        model.addAttribute("job", job.get());
         return "student/job-details";
     }
 
@@ -103,11 +119,15 @@ public class StudentController {
      * Apply for a job.
      */
     @PostMapping("/job/{id}/apply")
-    public String applyJob(@PathVariable Long id, RedirectAttributes redirectAttributes) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+    public String applyJob(@PathVariable Long id, @AuthenticationPrincipal CustomUserDetails principal,
+                           RedirectAttributes redirectAttributes) {
         try {
-            applicationService.applyForJob(id, email);
-            redirectAttributes.addFlashAttribute("successMessage", "Application submitted successfully!");
+            if (applicationService.submitApplication(id, principal.user().getId())) {
+                redirectAttributes.addFlashAttribute("successMessage",
+                        "Application received! It is pending and will appear in My Applications shortly.");
+            } else {
+                redirectAttributes.addFlashAttribute("successMessage", "Application submitted successfully!");
+            }
             return "redirect:/student/dashboard";
         } catch (DuplicateApplicationException e) {
             redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
@@ -117,4 +137,11 @@ public class StudentController {
             return "redirect:/student/dashboard";
         }
     }
-}
\ No newline at end of file
+
+    /** Expose a page of jobs and the link state needed to fetch the next one. */
+    private static void addPage(Model model, CursorPage<JobView> page, int size) {
+        model.addAttribute("jobs", page.items());
+        model.addAttribute("nextCursor", page.nextCursor());
+        model.addAttribute("pageSize", size);
+    }
+}
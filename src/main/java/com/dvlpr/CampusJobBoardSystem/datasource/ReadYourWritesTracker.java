@@ -0,0 +1,60 @@
+package com.dvlpr.CampusJobBoardSystem.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which users committed a write within the last replica lag window.
+ * Their reads go to the primary until the replicas are assumed to have caught up,
+ * so a user always sees the job or application they just saved.
+ */
+public class ReadYourWritesTracker {
+
+    /** Tracked users above which expired entries are purged on the next write. */
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long lagNanos;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    /**
+     * @param replicaLag how long after a write the user's reads stay on the primary
+     */
+    public ReadYourWritesTracker(Duration replicaLag) {
+        this.lagNanos = replicaLag.toNanos();
+    }
+
+    /**
+     * Record that a user has just committed a write.
+     *
+     * @param username the user's login name
+     */
+    public void recordWrite(String username) {
+        long now = System.nanoTime();
+        if (lastWrites.size() >= PURGE_THRESHOLD) {
+            lastWrites.values().removeIf(at -> now - at >= lagNanos);
+        }
+        lastWrites.put(username, now);
+    }
+
+    /**
+     * Whether a user committed a write recently enough that a replica may not have it yet.
+     *
+     * @param username the user's login name, or null for anonymous requests
+     * @return true if the user's reads must go to the primary
+     */
+    public boolean wroteRecently(String username) {
+        if (username == null) {
+            return false;
+        }
+        Long at = lastWrites.get(username);
+        if (at == null) {
+            return false;
+        }
+        if (System.nanoTime() - at < lagNanos) {
+            return true;
+        }
+        lastWrites.remove(username, at);
+        return false;
+    }
+}
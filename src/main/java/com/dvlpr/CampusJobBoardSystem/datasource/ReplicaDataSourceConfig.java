@@ -0,0 +1,65 @@
+package com.dvlpr.CampusJobBoardSystem.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits reads from writes when read replicas are configured.
+ * <p>
+ * The primary is the database in {@code spring.datasource.*}; each URL in
+ * {@code app.datasource.replica-urls} is a replica reached with the same credentials.
+ * {@code @Transactional(readOnly = true)} work goes to a replica, all other work to the primary.
+ * Without replicas this configuration is skipped and the single auto-configured data source is used.
+ */
+@Configuration
+@ConditionalOnProperty("app.datasource.replica-urls")
+public class ReplicaDataSourceConfig {
+
+    private static final java.util.logging.Logger logger = java.util.logging.Logger.getLogger(ReplicaDataSourceConfig.class.getName());
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(@Value("${app.datasource.replica-lag:5s}") Duration replicaLag) {
+        return new ReadYourWritesTracker(replicaLag);
+    }
+
+    /**
+     * Routes each connection request to the primary or a replica; closes their pools on shutdown.
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties, ReadYourWritesTracker tracker,
+                                                             @Value("${app.datasource.replica-urls}") List<String> replicaUrls) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            HikariDataSource replica = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+                    .url(url.trim()).build();
+            replica.setPoolName(ReplicaRoutingDataSource.REPLICA_PREFIX + replicas.size());
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        logger.info(String.format("Routing read-only transactions to %d replica(s)", replicas.size()));
+        return new ReplicaRoutingDataSource(primary, replicas, tracker);
+    }
+
+    /**
+     * The application's data source: a lazy proxy, so the routing decision is made when the first
+     * statement runs and the transaction's read-only flag is already known.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,20 @@
+package com.dvlpr.CampusJobBoardSystem.dto;
+
+import com.dvlpr.CampusJobBoardSystem.entity.JobStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of the admin dashboard: only the columns the table renders,
+ * with the employer's name joined in the same statement.
+ *
+ * @param id the job ID
+ * @param title the job title
+ * @param employerName the full name of the posting employer
+ * @param createdAt when the job was posted
+ * @param status the approval status
+ * @param version the job's change counter
+ */
+public record AdminJobSummary(Long id, String title, String employerName, LocalDateTime createdAt,
+                              JobStatus status, long version) {
+}
@@ -0,0 +1,34 @@
+package com.dvlpr.CampusJobBoardSystem.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated result.
+ *
+ * @param items the items on this page
+ * @param nextCursor opaque cursor for the following page, or null if this is the last page
+ * @param <T> the item type
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    /**
+     * Whether another page follows this one.
+     *
+     * @return true if {@link #nextCursor()} is set
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Convert the items of this page, keeping the cursor.
+     *
+     * @param mapper the conversion to apply to every item
+     * @param <R> the new item type
+     * @return the converted page
+     */
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,15 @@
+package com.dvlpr.CampusJobBoardSystem.dto;
+
+import com.dvlpr.CampusJobBoardSystem.entity.JobStatus;
+
+/**
+ * One row of the employer dashboard: only the columns the table renders.
+ *
+ * @param id the job ID
+ * @param title the job title
+ * @param category the job category, or null
+ * @param location the canonical location name, or null
+ * @param status the approval status
+ */
+public record EmployerJobSummary(Long id, String title, String category, String location, JobStatus status) {
+}
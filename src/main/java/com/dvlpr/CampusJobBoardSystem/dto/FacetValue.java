@@ -0,0 +1,10 @@
+package com.dvlpr.CampusJobBoardSystem.dto;
+
+/**
+ * A distinct filter value (category or location) and the number of approved jobs that have it.
+ *
+ * @param value the value as displayed to students
+ * @param count the number of approved jobs with this value
+ */
+public record FacetValue(String value, long count) {
+}
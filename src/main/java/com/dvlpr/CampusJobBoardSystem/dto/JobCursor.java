@@ -0,0 +1,60 @@
+package com.dvlpr.CampusJobBoardSystem.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the job feed for keyset pagination.
+ * The feed is ordered by {@code created_at DESC, job_id DESC}; the next page starts
+ * strictly after the (createdAt, id) pair of the last job on the current page.
+ *
+ * @param createdAt creation time of the last job already returned
+ * @param id ID of the last job already returned
+ */
+public record JobCursor(LocalDateTime createdAt, Long id) {
+
+    /** Cursor positioned before the newest possible job. */
+    private static final JobCursor START = new JobCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    /**
+     * Cursor for the first page.
+     *
+     * @return a cursor that precedes every job
+     */
+    public static JobCursor start() {
+        return START;
+    }
+
+    /**
+     * Decode a cursor received from a client.
+     *
+     * @param token the opaque cursor token, or null/blank for the first page
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static JobCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new JobCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+    }
+
+    /**
+     * Encode this cursor as an opaque URL-safe token.
+     *
+     * @return the token
+     */
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,32 @@
+package com.dvlpr.CampusJobBoardSystem.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk job import.
+ *
+ * @param imported the number of jobs saved
+ * @param rejected the number of rows skipped because they failed parsing or validation
+ * @param errors the reasons rows were rejected, at most the first few
+ * @param elapsedMillis the time taken to parse, validate and insert every row
+ */
+public record JobImportResult(int imported, int rejected, List<RowError> errors, long elapsedMillis) {
+
+    /**
+     * Import throughput over every row read, accepted or not.
+     *
+     * @return rows per second
+     */
+    public long rowsPerSecond() {
+        return elapsedMillis > 0 ? (imported + rejected) * 1000L / elapsedMillis : imported + rejected;
+    }
+
+    /**
+     * Why one row of the upload was rejected.
+     *
+     * @param row the 1-based data row number (the CSV header is not counted)
+     * @param message what was wrong with it
+     */
+    public record RowError(long row, String message) {
+    }
+}
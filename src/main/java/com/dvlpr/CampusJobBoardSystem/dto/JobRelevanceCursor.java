@@ -0,0 +1,76 @@
+package com.dvlpr.CampusJobBoardSystem.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a list of keyword matches sorted by relevance, best first.
+ * The next page starts strictly after the (score, id) pair of the last job returned; the
+ * search index scores that job again, so paging survives scores shifting as jobs change.
+ * Whether the first page fell back to typo-tolerant matching is kept, so every page matches
+ * the keyword the same way.
+ *
+ * @param score relevance score of the last job already returned
+ * @param id ID of the last job already returned
+ * @param fuzzy whether the keyword is matched with typo tolerance
+ */
+public record JobRelevanceCursor(double score, long id, boolean fuzzy) {
+
+    /** Cursor positioned before the best possible match. */
+    private static final JobRelevanceCursor START = new JobRelevanceCursor(Double.POSITIVE_INFINITY, Long.MAX_VALUE, false);
+
+    /**
+     * Cursor for the first page.
+     *
+     * @return a cursor that precedes every match
+     */
+    public static JobRelevanceCursor start() {
+        return START;
+    }
+
+    /**
+     * Whether this is the cursor for the first page.
+     *
+     * @return true for the first page
+     */
+    public boolean isStart() {
+        return equals(START);
+    }
+
+    /**
+     * Decode a cursor received from a client.
+     *
+     * @param token the opaque cursor token, or null/blank for the first page
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static JobRelevanceCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] fields = raw.split("\\|");
+            if (fields.length != 3) {
+                throw new IllegalArgumentException("Invalid page cursor");
+            }
+            double score = Double.parseDouble(fields[0]);
+            if (Double.isNaN(score)) {
+                throw new IllegalArgumentException("Invalid page cursor");
+            }
+            return new JobRelevanceCursor(score, Long.parseLong(fields[1]), Boolean.parseBoolean(fields[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+    }
+
+    /**
+     * Encode this cursor as an opaque URL-safe token.
+     *
+     * @return the token
+     */
+    public String encode() {
+        String raw = score + "|" + id + "|" + fuzzy;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
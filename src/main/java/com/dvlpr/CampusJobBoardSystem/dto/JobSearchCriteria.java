@@ -0,0 +1,91 @@
+package com.dvlpr.CampusJobBoardSystem.dto;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Filters a student can combine when browsing approved jobs.
+ * Every field is optional; blank strings count as absent.
+ */
+public class JobSearchCriteria {
+
+    private String keyword;
+    private String category;
+    private String location;
+    private BigDecimal minSalary;
+    private BigDecimal maxSalary;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate deadlineFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate deadlineTo;
+
+    /** Result order, parsed by {@link JobSort#parse}; newest first when absent. */
+    private String sort;
+
+    /** Whether a keyword filter is set. */
+    public boolean hasKeyword() { return hasText(keyword); }
+
+    /** Whether a category filter is set. */
+    public boolean hasCategory() { return hasText(category); }
+
+    /** Whether a location filter is set. */
+    public boolean hasLocation() { return hasText(location); }
+
+    /** Whether a salary bound is set. */
+    public boolean hasSalaryRange() { return minSalary != null || maxSalary != null; }
+
+    /** Whether a deadline bound is set. */
+    public boolean hasDeadlineRange() { return deadlineFrom != null || deadlineTo != null; }
+
+    /** The requested result order. */
+    public JobSort getSortOrder() { return JobSort.parse(sort); }
+
+    /** Whether keyword matches should be ordered by relevance. */
+    public boolean isSortedByRelevance() { return hasKeyword() && getSortOrder() == JobSort.RELEVANCE; }
+
+    /** Whether no filter at all is set. */
+    public boolean isEmpty() {
+        return !hasKeyword() && !hasCategory() && !hasLocation() && !hasSalaryRange() && !hasDeadlineRange();
+    }
+
+    /**
+     * Reject ranges whose lower bound is above their upper bound, and unknown sort orders.
+     *
+     * @throws IllegalArgumentException if a range is inverted or the sort order is unknown
+     */
+    public void validate() {
+        getSortOrder();
+        if (minSalary != null && maxSalary != null && minSalary.compareTo(maxSalary) > 0) {
+            throw new IllegalArgumentException("Minimum salary cannot be greater than maximum salary");
+        }
+        if (deadlineFrom != null && deadlineTo != null && deadlineFrom.isAfter(deadlineTo)) {
+            throw new IllegalArgumentException("Deadline range start cannot be after its end");
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    // Getters and Setters
+    public String getKeyword() { return keyword; }
+    public void setKeyword(String keyword) { this.keyword = keyword; }
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+    public BigDecimal getMinSalary() { return minSalary; }
+    public void setMinSalary(BigDecimal minSalary) { this.minSalary = minSalary; }
+    public BigDecimal getMaxSalary() { return maxSalary; }
+    public void setMaxSalary(BigDecimal maxSalary) { this.maxSalary = maxSalary; }
+    public LocalDate getDeadlineFrom() { return deadlineFrom; }
+    public void setDeadlineFrom(LocalDate deadlineFrom) { this.deadlineFrom = deadlineFrom; }
+    public LocalDate getDeadlineTo() { return deadlineTo; }
+    public void setDeadlineTo(LocalDate deadlineTo) { this.deadlineTo = deadlineTo; }
+    public String getSort() { return sort; }
+    public void setSort(String sort) { this.sort = sort; }
+}
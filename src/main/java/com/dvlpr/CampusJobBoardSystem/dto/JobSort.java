@@ -0,0 +1,36 @@
+package com.dvlpr.CampusJobBoardSystem.dto;
+
+import java.util.Locale;
+
+/**
+ * Orders a student can list approved jobs in.
+ */
+public enum JobSort {
+
+    /** Most recently posted first; the default. */
+    NEWEST,
+    /** Best keyword match first; only meaningful with a keyword. */
+    RELEVANCE,
+    /** Highest salary first; jobs without a salary last. */
+    SALARY,
+    /** Soonest deadline first; jobs without a deadline last. */
+    DEADLINE;
+
+    /**
+     * Parse a sort order from a request parameter.
+     *
+     * @param value the parameter, case-insensitive; null or blank means {@link #NEWEST}
+     * @return the sort order
+     * @throws IllegalArgumentException if the value names no sort order
+     */
+    public static JobSort parse(String value) {
+        if (value == null || value.isBlank()) {
+            return NEWEST;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown sort order: " + value);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.dvlpr.CampusJobBoardSystem.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a job list sorted by salary or deadline, for keyset pagination.
+ * The key is the sort value as a primitive (salary in cents, deadline as epoch day); ties
+ * are broken by job ID, so the next page starts strictly after the (key, id) pair.
+ *
+ * @param key sort key of the last job already returned
+ * @param id ID of the last job already returned
+ */
+public record JobSortCursor(long key, long id) {
+
+    /**
+     * Cursor for the first page.
+     *
+     * @param descending whether the list is sorted from the highest key down
+     * @return a cursor that precedes every job in that direction
+     */
+    public static JobSortCursor start(boolean descending) {
+        return descending
+                ? new JobSortCursor(Long.MAX_VALUE, Long.MAX_VALUE)
+                : new JobSortCursor(Long.MIN_VALUE, Long.MIN_VALUE);
+    }
+
+    /**
+     * Decode a cursor received from a client.
+     *
+     * @param token the opaque cursor token, or null/blank for the first page
+     * @param descending whether the list is sorted from the highest key down
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static JobSortCursor decode(String token, boolean descending) {
+        if (token == null || token.isBlank()) {
+            return start(descending);
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new JobSortCursor(Long.parseLong(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+    }
+
+    /**
+     * Encode this cursor as an opaque URL-safe token.
+     *
+     * @return the token
+     */
+    public String encode() {
+        String raw = key + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
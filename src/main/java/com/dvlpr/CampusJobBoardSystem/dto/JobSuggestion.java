@@ -0,0 +1,16 @@
+package com.dvlpr.CampusJobBoardSystem.dto;
+
+/**
+ * A typeahead suggestion: a job title, category or location and how many approved jobs have it.
+ *
+ * @param text the value as displayed to students
+ * @param field which job field the value comes from
+ * @param count the number of approved jobs with this value
+ */
+public record JobSuggestion(String text, Field field, long count) {
+
+    /** Job fields that suggestions are drawn from. */
+    public enum Field {
+        TITLE, CATEGORY, LOCATION
+    }
+}
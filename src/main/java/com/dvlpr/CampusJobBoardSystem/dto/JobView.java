@@ -0,0 +1,35 @@
+package com.dvlpr.CampusJobBoardSystem.dto;
+
+import com.dvlpr.CampusJobBoardSystem.entity.Job;
+import com.dvlpr.CampusJobBoardSystem.entity.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only, flattened view of an approved job as shown to students.
+ * Carries the employer's name and contact email instead of the employer account,
+ * so it can be rendered or serialized without a Hibernate session.
+ */
+public record JobView(Long id, String title, String description, String location,
+                      Long locationId, BigDecimal salary, String category, LocalDate deadline,
+                      LocalDateTime createdAt, Long employerId, String employerName,
+                      String employerEmail, long version) {
+
+    /**
+     * Create a view from a job entity. The employer must already be loaded.
+     *
+     * @param job the job
+     * @return the view
+     */
+    public static JobView from(Job job) {
+        User employer = job.getEmployer();
+        return new JobView(job.getId(), job.getTitle(), job.getDescription(), job.getLocation(),
+                job.getLocationId(), job.getSalary(), job.getCategory(), job.getDeadline(), job.getCreatedAt(),
+                employer != null ? employer.getId() : null,
+                employer != null ? employer.getFullName() : null,
+                employer != null ? employer.getEmail() : null,
+                job.getVersion());
+    }
+}
@@ -0,0 +1,58 @@
+package com.dvlpr.CampusJobBoardSystem.dto;
+
+import com.dvlpr.CampusJobBoardSystem.entity.UserRole;
+import com.dvlpr.CampusJobBoardSystem.entity.UserStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Filters an admin can combine when listing users or changing their status in bulk.
+ * Every field is optional; a blank email prefix counts as absent.
+ */
+public class UserSearchCriteria {
+
+    private UserRole role;
+    private UserStatus status;
+    private String emailPrefix;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdTo;
+
+    /** Whether an email prefix filter is set. */
+    public boolean hasEmailPrefix() { return emailPrefix != null && !emailPrefix.trim().isEmpty(); }
+
+    /** Whether a registration date bound is set. */
+    public boolean hasCreatedRange() { return createdFrom != null || createdTo != null; }
+
+    /** Whether no filter at all is set. */
+    public boolean isEmpty() {
+        return role == null && status == null && !hasEmailPrefix() && !hasCreatedRange();
+    }
+
+    /**
+     * Reject a registration date range whose start is after its end.
+     *
+     * @throws IllegalArgumentException if the range is inverted
+     */
+    public void validate() {
+        if (createdFrom != null && createdTo != null && createdFrom.isAfter(createdTo)) {
+            throw new IllegalArgumentException("Registration date range start cannot be after its end");
+        }
+    }
+
+    // Getters and Setters
+    public UserRole getRole() { return role; }
+    public void setRole(UserRole role) { this.role = role; }
+    public UserStatus getStatus() { return status; }
+    public void setStatus(UserStatus status) { this.status = status; }
+    public String getEmailPrefix() { return emailPrefix; }
+    public void setEmailPrefix(String emailPrefix) { this.emailPrefix = emailPrefix; }
+    public LocalDate getCreatedFrom() { return createdFrom; }
+    public void setCreatedFrom(LocalDate createdFrom) { this.createdFrom = createdFrom; }
+    public LocalDate getCreatedTo() { return createdTo; }
+    public void setCreatedTo(LocalDate createdTo) { this.createdTo = createdTo; }
+}
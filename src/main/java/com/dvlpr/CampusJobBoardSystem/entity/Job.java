@@ -2,6 +2,10 @@ package com.dvlpr.CampusJobBoardSystem.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -12,13 +16,28 @@ import com.dvlpr.CampusJobBoardSystem.entity.User;
 /**
  * Entity representing a job posting in the system.
  * Jobs are created by employers and can be applied to by students.
+ * Cached in the second-level cache; the employer is cached separately as a {@link User}.
+ * The schema, indexes included, is created by the Flyway migrations in {@code db/migration}.
  */
 @Entity
-@Table(name = "JOB")
+@Table(name = "JOB", indexes = {
+        @Index(name = "idx_job_location_id", columnList = "location_id"),
+        @Index(name = "idx_job_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_job_status_category", columnList = "status, category"),
+        @Index(name = "idx_job_status_location", columnList = "status, location"),
+        @Index(name = "idx_job_status_deadline", columnList = "status, deadline"),
+        @Index(name = "idx_job_status_salary", columnList = "status, salary"),
+        @Index(name = "idx_job_employer_status", columnList = "employer_id, status")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Job {
 
+    /** Allocated 50 at a time from ID_GENERATOR so inserts can be sent as JDBC batches. */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "job_id_generator")
+    @TableGenerator(name = "job_id_generator", table = "ID_GENERATOR", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "JOB", allocationSize = 50)
     @Column(name = "job_id")
     private Long id;
 
@@ -35,6 +54,10 @@ public class Job {
     @Size(max = 100, message = "Location cannot exceed 100 characters")
     private String location;
 
+    /** Canonical location the free-text location resolved to; set when the job is saved. */
+    @Column(name = "location_id")
+    private Long locationId;
+
     @DecimalMin(value = "0.0", inclusive = false, message = "Salary must be positive")
     private BigDecimal salary;
 
@@ -54,6 +77,20 @@ public class Job {
     @JoinColumn(name = "employer_id", nullable = false)
     private User employer;
 
+    /**
+     * Number of applications as of the last counter flush; written only by
+     * {@link com.dvlpr.CampusJobBoardSystem.service.ApplicationCounter}, which also holds the live count.
+     */
+    @Column(name = "application_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long applicationCount;
+
+    /** Incremented on every change, including bulk status changes; drives the job details ETag. */
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long version;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -68,6 +105,8 @@ public class Job {
     public void setDescription(String description) { this.description = description; }
     public String getLocation() { return location; }
     public void setLocation(String location) { this.location = location; }
+    public Long getLocationId() { return locationId; }
+    public void setLocationId(Long locationId) { this.locationId = locationId; }
     public BigDecimal getSalary() { return salary; }
     public void setSalary(BigDecimal salary) { this.salary = salary; }
     public String getCategory() { return category; }
@@ -79,4 +118,6 @@ public class Job {
     public User getEmployer() { return employer; }
     public void setEmployer(User employer) { this.employer = employer; }
     public LocalDateTime getCreatedAt() { return createdAt; }
+    public long getApplicationCount() { return applicationCount; }
+    public long getVersion() { return version; }
 }
\ No newline at end of file
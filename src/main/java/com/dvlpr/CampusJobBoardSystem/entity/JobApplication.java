@@ -11,7 +11,9 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "JOB_APPLICATION", uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"job_id", "student_id"})
+        @UniqueConstraint(name = "uk_job_application_job_student", columnNames = {"job_id", "student_id"})
+}, indexes = {
+        @Index(name = "idx_job_application_student_job", columnList = "student_id, job_id")
 })
 public class JobApplication {
 
@@ -10,5 +10,7 @@ public enum JobStatus {
     /** Job has been approved and is visible to students */
     APPROVED,
     /** Job has been rejected by admin */
-    REJECTED
+    REJECTED,
+    /** Approved job whose deadline has passed; closed to applications and later archived */
+    EXPIRED
 }
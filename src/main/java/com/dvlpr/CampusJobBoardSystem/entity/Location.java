@@ -0,0 +1,40 @@
+package com.dvlpr.CampusJobBoardSystem.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Entity representing a canonical job location, such as "Calgary".
+ * Free-text locations typed by employers are resolved to one of these through {@link LocationAlias}.
+ */
+@Entity
+@Table(name = "LOCATION")
+public class Location {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "location_id")
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    /** Normalized form of the name; unique so each place exists once. */
+    @Column(name = "location_key", nullable = false, unique = true, length = 100)
+    private String key;
+
+    public Location() {
+    }
+
+    public Location(String name, String key) {
+        this.name = name;
+        this.key = key;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public String getKey() { return key; }
+    public void setKey(String key) { this.key = key; }
+}
@@ -0,0 +1,33 @@
+package com.dvlpr.CampusJobBoardSystem.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Entity mapping one normalized spelling of a location (e.g. "calgary ab") to its canonical {@link Location}.
+ */
+@Entity
+@Table(name = "LOCATION_ALIAS")
+public class LocationAlias {
+
+    @Id
+    @Column(name = "alias_key", length = 100)
+    private String aliasKey;
+
+    @ManyToOne(fetch = FetchType.EAGER)
+    @JoinColumn(name = "location_id", nullable = false)
+    private Location location;
+
+    public LocationAlias() {
+    }
+
+    public LocationAlias(String aliasKey, Location location) {
+        this.aliasKey = aliasKey;
+        this.location = location;
+    }
+
+    // Getters and Setters
+    public String getAliasKey() { return aliasKey; }
+    public void setAliasKey(String aliasKey) { this.aliasKey = aliasKey; }
+    public Location getLocation() { return location; }
+    public void setLocation(Location location) { this.location = location; }
+}
@@ -2,13 +2,25 @@ package com.dvlpr.CampusJobBoardSystem.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
 import java.time.LocalDateTime;
 
 /**
  * Entity representing a user (Student, Employer, or Admin).
+ * Cached in the second-level cache, and resolvable by email through the natural-ID cache.
  */
 @Entity
-@Table(name = "`USER`")
+@Table(name = "`USER`", indexes = {
+        @Index(name = "idx_user_role_status_created", columnList = "role, status, created_at"),
+        @Index(name = "idx_user_created_at", columnList = "created_at")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 public class User {
 
     @Id
@@ -23,6 +35,7 @@ public class User {
 
     @NotBlank(message = "Email is required")
     @Email(message = "Please provide a valid email address")
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String email;
 
@@ -0,0 +1,43 @@
+package com.dvlpr.CampusJobBoardSystem.event;
+
+import com.dvlpr.CampusJobBoardSystem.entity.Job;
+import com.dvlpr.CampusJobBoardSystem.entity.JobStatus;
+
+/**
+ * Event published by JobService whenever a job is created, edited, moderated or deleted.
+ * In-memory indexes listen for it to stay in sync with the JOB table.
+ *
+ * @param jobId the ID of the job that changed
+ * @param job the job as it is after the change, or null if it was deleted
+ */
+public record JobChangedEvent(Long jobId, Job job) {
+
+    /**
+     * Creates an event for a job that has been saved.
+     *
+     * @param job the saved job
+     * @return the change event
+     */
+    public static JobChangedEvent saved(Job job) {
+        return new JobChangedEvent(job.getId(), job);
+    }
+
+    /**
+     * Creates an event for a job that has been deleted.
+     *
+     * @param jobId the ID of the deleted job
+     * @return the change event
+     */
+    public static JobChangedEvent deleted(Long jobId) {
+        return new JobChangedEvent(jobId, null);
+    }
+
+    /**
+     * Whether the job is visible to students after this change (exists and is approved).
+     *
+     * @return true if the job should be present in student-facing indexes
+     */
+    public boolean isVisibleToStudents() {
+        return job != null && job.getStatus() == JobStatus.APPROVED;
+    }
+}
@@ -0,0 +1,14 @@
+package com.dvlpr.CampusJobBoardSystem.event;
+
+import com.dvlpr.CampusJobBoardSystem.entity.Job;
+
+import java.util.List;
+
+/**
+ * Event published by JobService when many jobs are approved in one bulk moderation.
+ * In-memory indexes add them all in one pass instead of one {@link JobChangedEvent} each.
+ *
+ * @param jobs the approved jobs, with their employers loaded
+ */
+public record JobsApprovedEvent(List<Job> jobs) {
+}
@@ -0,0 +1,12 @@
+package com.dvlpr.CampusJobBoardSystem.event;
+
+import java.util.List;
+
+/**
+ * Event published by JobLifecycleService when approved jobs pass their deadline and are expired
+ * in one bulk update, once per chunk of their IDs. In-memory indexes drop each chunk in one pass.
+ *
+ * @param jobIds the IDs of the expired jobs
+ */
+public record JobsExpiredEvent(List<Long> jobIds) {
+}
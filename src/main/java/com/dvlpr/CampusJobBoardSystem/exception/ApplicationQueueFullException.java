@@ -0,0 +1,17 @@
+package com.dvlpr.CampusJobBoardSystem.exception;
+
+/**
+ * Exception thrown when the write-behind application queue is full.
+ * The student is asked to retry instead of the server buffering without bound.
+ */
+public class ApplicationQueueFullException extends RuntimeException {
+
+    /**
+     * Constructs a new ApplicationQueueFullException with the specified message.
+     *
+     * @param message the detail message
+     */
+    public ApplicationQueueFullException(String message) {
+        super(message);
+    }
+}
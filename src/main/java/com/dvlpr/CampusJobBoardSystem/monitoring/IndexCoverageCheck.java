@@ -0,0 +1,145 @@
+package com.dvlpr.CampusJobBoardSystem.monitoring;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Startup check that the database has an index for every query shape the repositories rely on.
+ * <p>
+ * The migrations create these indexes, but a database baselined from a hand-managed schema, or
+ * one whose indexes were dropped by hand, may lack them. Each required index is matched by its
+ * leading columns rather than its name, so an equivalent index created under another name counts.
+ * Missing indexes are logged with the statement that creates them; startup is not blocked.
+ */
+@Component
+public class IndexCoverageCheck {
+
+    private static final java.util.logging.Logger logger = java.util.logging.Logger.getLogger(IndexCoverageCheck.class.getName());
+
+    /**
+     * An index the queries need.
+     *
+     * @param name the name the migrations give it
+     * @param table the table
+     * @param columns the leading columns, in order
+     */
+    public record RequiredIndex(String name, String table, List<String> columns) {
+
+        /** Statement that creates the index. */
+        public String createStatement() {
+            return "CREATE INDEX " + name + " ON " + table + " (" + String.join(", ", columns) + ")";
+        }
+    }
+
+    /** Indexes on the hot tables created by {@code db/migration}. */
+    static final List<RequiredIndex> REQUIRED = List.of(
+            new RequiredIndex("uk_user_email", "user", List.of("email")),
+            new RequiredIndex("idx_user_role_status_created", "user", List.of("role", "status", "created_at")),
+            new RequiredIndex("idx_user_created_at", "user", List.of("created_at")),
+            new RequiredIndex("idx_job_location_id", "job", List.of("location_id")),
+            new RequiredIndex("idx_job_status_created", "job", List.of("status", "created_at")),
+            new RequiredIndex("idx_job_status_category", "job", List.of("status", "category")),
+            new RequiredIndex("idx_job_status_location", "job", List.of("status", "location")),
+            new RequiredIndex("idx_job_status_deadline", "job", List.of("status", "deadline")),
+            new RequiredIndex("idx_job_status_salary", "job", List.of("status", "salary")),
+            new RequiredIndex("idx_job_employer_status", "job", List.of("employer_id", "status")),
+            new RequiredIndex("uk_job_application_job_student", "job_application", List.of("job_id", "student_id")),
+            new RequiredIndex("idx_job_application_student_job", "job_application", List.of("student_id", "job_id")));
+
+    private final DataSource dataSource;
+
+    public IndexCoverageCheck(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /** Log a warning for every required index the database lacks. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void check() {
+        List<RequiredIndex> missing;
+        try {
+            missing = findMissing();
+        } catch (SQLException e) {
+            logger.warning("Could not check database indexes: " + e.getMessage());
+            return;
+        }
+        if (missing.isEmpty()) {
+            logger.info(String.format("All %d required database indexes are present", REQUIRED.size()));
+            return;
+        }
+        for (RequiredIndex index : missing) {
+            logger.warning("Missing database index on " + index.table() + index.columns()
+                    + "; create it with: " + index.createStatement());
+        }
+    }
+
+    /**
+     * Find the required indexes the database lacks.
+     *
+     * @return the missing indexes; empty if all are present
+     * @throws SQLException if the database metadata cannot be read
+     */
+    public List<RequiredIndex> findMissing() throws SQLException {
+        List<RequiredIndex> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            Map<String, List<List<String>>> indexesByTable = new HashMap<>();
+            for (RequiredIndex required : REQUIRED) {
+                List<List<String>> indexes = indexesByTable.get(required.table());
+                if (indexes == null) {
+                    indexes = readIndexes(metaData, connection, required.table());
+                    indexesByTable.put(required.table(), indexes);
+                }
+                if (indexes.stream().noneMatch(columns -> startsWith(columns, required.columns()))) {
+                    missing.add(required);
+                }
+            }
+        }
+        return missing;
+    }
+
+    /** Column lists of every index on the table, trying the name as given and then in upper case. */
+    private static List<List<String>> readIndexes(DatabaseMetaData metaData, Connection connection,
+                                                  String table) throws SQLException {
+        List<List<String>> indexes = readIndexes(metaData, connection.getCatalog(), connection.getSchema(), table);
+        if (indexes.isEmpty()) {
+            indexes = readIndexes(metaData, connection.getCatalog(), connection.getSchema(),
+                    table.toUpperCase(Locale.ROOT));
+        }
+        return indexes;
+    }
+
+    private static List<List<String>> readIndexes(DatabaseMetaData metaData, String catalog, String schema,
+                                                  String table) throws SQLException {
+        // Index name -> columns by ordinal position
+        Map<String, TreeMap<Short, String>> columnsByIndex = new TreeMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(catalog, schema, table, false, false)) {
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (indexName == null || column == null) {
+                    continue;
+                }
+                columnsByIndex.computeIfAbsent(indexName, name -> new TreeMap<>())
+                        .put(rs.getShort("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+            }
+        }
+        return columnsByIndex.values().stream().map(columns -> List.copyOf(columns.values())).toList();
+    }
+
+    private static boolean startsWith(List<String> columns, List<String> prefix) {
+        return columns.size() >= prefix.size() && columns.subList(0, prefix.size()).equals(prefix);
+    }
+}
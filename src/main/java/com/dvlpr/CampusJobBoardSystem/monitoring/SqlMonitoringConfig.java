@@ -0,0 +1,47 @@
+package com.dvlpr.CampusJobBoardSystem.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Wires per-request SQL statement counting into Hibernate and the servlet filter chain.
+ */
+@Configuration
+public class SqlMonitoringConfig {
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    /**
+     * Registers the counter as Hibernate's statement inspector.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementInspector(SqlStatementCounter counter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, counter);
+    }
+
+    /**
+     * Runs the counting filter ahead of security so every statement of the request is included.
+     *
+     * @param budget statements per request above which a warning is logged
+     * @param exposeHeader whether responses carry the count; only for development and tests
+     */
+    @Bean
+    public FilterRegistrationBean<SqlStatementCountFilter> sqlStatementCountFilter(
+            SqlStatementCounter counter, MeterRegistry meterRegistry,
+            @Value("${app.sql.statement-budget:10}") int budget,
+            @Value("${app.sql.statement-count-header:false}") boolean exposeHeader) {
+        FilterRegistrationBean<SqlStatementCountFilter> registration = new FilterRegistrationBean<>(
+                new SqlStatementCountFilter(counter, meterRegistry, budget, exposeHeader));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
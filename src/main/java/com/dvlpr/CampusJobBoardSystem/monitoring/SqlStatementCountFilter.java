@@ -0,0 +1,90 @@
+package com.dvlpr.CampusJobBoardSystem.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Reports how many SQL statements each HTTP request issued.
+ * <p>
+ * The count is recorded in the {@value #METRIC} distribution tagged with the matched URI pattern
+ * and logged as a warning when it exceeds the configured budget, which is how N+1 query loops
+ * show up. In development and tests it is also sent in the {@value #HEADER} response header;
+ * that stays off in production so clients learn nothing about the queries behind a page.
+ */
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    /** Response header carrying the number of SQL statements issued so far. */
+    public static final String HEADER = "X-SQL-Statement-Count";
+
+    /** Name of the per-request statement count metric. */
+    public static final String METRIC = "http.server.requests.sql.statements";
+
+    private static final java.util.logging.Logger logger = java.util.logging.Logger.getLogger(SqlStatementCountFilter.class.getName());
+
+    private final SqlStatementCounter counter;
+    private final MeterRegistry meterRegistry;
+    private final int budget;
+    private final boolean exposeHeader;
+
+    public SqlStatementCountFilter(SqlStatementCounter counter, MeterRegistry meterRegistry, int budget,
+                                   boolean exposeHeader) {
+        this.counter = counter;
+        this.meterRegistry = meterRegistry;
+        this.budget = budget;
+        this.exposeHeader = exposeHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        counter.start();
+        if (!exposeHeader) {
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                record(request, counter.stop());
+            }
+            return;
+        }
+        // Views finish querying before they write, so the count is final once the response commits
+        OnCommittedResponseWrapper counted = new OnCommittedResponseWrapper(response) {
+            @Override
+            protected void onResponseCommitted() {
+                setHeader(HEADER, Integer.toString(counter.count()));
+            }
+        };
+        try {
+            chain.doFilter(request, counted);
+        } finally {
+            int statements = counter.stop();
+            if (!response.isCommitted()) {
+                response.setHeader(HEADER, Integer.toString(statements));
+            }
+            record(request, statements);
+        }
+    }
+
+    private void record(HttpServletRequest request, int statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder(METRIC)
+                .description("SQL statements issued per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+        if (statements > budget) {
+            logger.warning(String.format("%s %s issued %d SQL statements (budget %d); check for N+1 queries",
+                    request.getMethod(), uri, statements, budget));
+        }
+    }
+}
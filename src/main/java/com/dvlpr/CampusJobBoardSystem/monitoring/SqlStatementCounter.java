@@ -0,0 +1,51 @@
+package com.dvlpr.CampusJobBoardSystem.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * <p>
+ * Registered as Hibernate's statement inspector, so it sees every query, insert, update and
+ * delete the application issues through JPA. Counting is only active between
+ * {@link #start()} and {@link #stop()}, which {@link SqlStatementCountFilter} calls around
+ * each HTTP request; statements issued at startup or by background threads are ignored.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<int[]> counts = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = counts.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    /** Start counting on the current thread from zero. */
+    public void start() {
+        counts.set(new int[1]);
+    }
+
+    /**
+     * Statements counted so far on the current thread.
+     *
+     * @return the count, or 0 if counting is not active
+     */
+    public int count() {
+        int[] count = counts.get();
+        return count != null ? count[0] : 0;
+    }
+
+    /**
+     * Stop counting on the current thread.
+     *
+     * @return the final count
+     */
+    public int stop() {
+        int total = count();
+        counts.remove();
+        return total;
+    }
+}
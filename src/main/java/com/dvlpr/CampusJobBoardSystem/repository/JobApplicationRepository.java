@@ -1,9 +1,15 @@
 package com.dvlpr.CampusJobBoardSystem.repository;
 
 import com.dvlpr.CampusJobBoardSystem.entity.JobApplication;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -59,4 +65,50 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
      * @return Optional containing the application if found
      */
     Optional<JobApplication> findByJobIdAndStudentId(Long jobId, Long studentId);
-}
\ No newline at end of file
+
+    /**
+     * Apply for a job in one INSERT ... SELECT, which only inserts if the job is approved and its
+     * deadline has not passed, so jobs not yet expired by the lifecycle run are closed on time too.
+     * A second application by the same student violates UNIQUE(job_id, student_id),
+     * so concurrent duplicates are rejected by the database rather than by a prior lookup.
+     * Only the JOB_APPLICATION table is declared as affected, so cached users and jobs survive.
+     *
+     * @param jobId the ID of the job
+     * @param studentId the student's user ID
+     * @return 1 if the application was inserted, 0 if the job does not exist, is not approved or is past its deadline
+     * @throws org.springframework.dao.DataIntegrityViolationException if the student already applied
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_application"))
+    @Query(value = "INSERT INTO job_application (job_id, student_id, status, applied_at) "
+            + "SELECT j.job_id, :studentId, 'SUBMITTED', CURRENT_TIMESTAMP FROM job j "
+            + "WHERE j.job_id = :jobId AND j.status = 'APPROVED' "
+            + "AND (j.deadline IS NULL OR j.deadline >= CURRENT_DATE)", nativeQuery = true)
+    int insertForApprovedJob(@Param("jobId") Long jobId, @Param("studentId") Long studentId);
+
+    /**
+     * Copy the applications of the given jobs to JOB_APPLICATION_ARCHIVE.
+     *
+     * @param jobIds the IDs of the jobs being archived
+     * @return the number of applications copied
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_application_archive"))
+    @Query(value = "INSERT INTO job_application_archive (application_id, job_id, student_id, status, applied_at, archived_at) "
+            + "SELECT a.application_id, a.job_id, a.student_id, a.status, a.applied_at, CURRENT_TIMESTAMP "
+            + "FROM job_application a WHERE a.job_id IN (:jobIds)", nativeQuery = true)
+    int copyToArchive(@Param("jobIds") Collection<Long> jobIds);
+
+    /**
+     * Delete the applications of the given jobs in a single statement.
+     *
+     * @param jobIds the job IDs
+     * @return the number of applications deleted
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM JobApplication a WHERE a.job.id IN :jobIds")
+    int deleteByJobIds(@Param("jobIds") Collection<Long> jobIds);
+}
@@ -1,37 +1,149 @@
 package com.dvlpr.CampusJobBoardSystem.repository;
 
+import com.dvlpr.CampusJobBoardSystem.dto.AdminJobSummary;
+import com.dvlpr.CampusJobBoardSystem.dto.EmployerJobSummary;
+import com.dvlpr.CampusJobBoardSystem.dto.FacetValue;
 import com.dvlpr.CampusJobBoardSystem.entity.Job;
 import com.dvlpr.CampusJobBoardSystem.entity.JobStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Repository interface for Job entity operations.
  * Provides CRUD operations and custom query methods for job postings.
+ * Multi-criteria searches are built from {@link JobSpecifications}.
  */
-public interface JobRepository extends JpaRepository<Job, Long> {
+public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificationExecutor<Job> {
     
     /**
-     * Find all jobs with a specific status.
-     * Used to retrieve approved jobs for students.
+     * Find all jobs with a specific status, with their employers fetched in the same statement.
+     * Used to build the in-memory indexes of approved jobs.
      * 
      * @param status the job status to filter by
      * @return list of jobs with the specified status
      */
+    @EntityGraph(attributePaths = "employer")
     List<Job> findByStatus(JobStatus status);
 
     /**
-     * Find all jobs posted by a specific employer.
-     * 
-     * @param employerId the employer's user ID
-     * @return list of jobs posted by the employer
+     * Admin dashboard rows for every job, with the employer name joined in.
+     * Selects only the rendered columns: no description and no employer account.
+     * Held in the query cache until a JOB or USER row changes.
+     *
+     * @return one summary per job, by ID
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new com.dvlpr.CampusJobBoardSystem.dto.AdminJobSummary(j.id, j.title, e.fullName, j.createdAt, j.status, j.version) " +
+           "FROM Job j JOIN j.employer e ORDER BY j.id")
+    List<AdminJobSummary> findAdminSummaries();
+
+    /**
+     * Employer dashboard rows for the jobs posted by one employer, looked up by login email.
+     * Selects only the rendered columns. Held in the query cache until a JOB or USER row changes.
+     *
+     * @param email the employer's email
+     * @return one summary per job, by ID
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new com.dvlpr.CampusJobBoardSystem.dto.EmployerJobSummary(j.id, j.title, j.category, j.location, j.status) " +
+           "FROM Job j JOIN j.employer e WHERE e.email = :email ORDER BY j.id")
+    List<EmployerJobSummary> findEmployerSummaries(@Param("email") String email);
+
+    /**
+     * Find jobs by ID that still have the given status, with their employers.
+     * Used to load the matches returned by the in-memory search index and bulk-approved jobs.
+     *
+     * @param ids the job IDs to load
+     * @param status the job status to filter by
+     * @return the matching jobs
      */
-    List<Job> findByEmployerId(Long employerId);
+    @EntityGraph(attributePaths = "employer")
+    List<Job> findByIdInAndStatus(Collection<Long> ids, JobStatus status);
+
+    /**
+     * Move many jobs from one status to another in a single UPDATE.
+     * Only jobs still in the expected status change, so a job moderated concurrently is left alone.
+     * Hibernate evicts the cached JOB entities and queries as part of the bulk update.
+     *
+     * @param ids the job IDs to change
+     * @param from the status the jobs must currently have
+     * @param to the new status
+     * @return the number of jobs changed
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Job j SET j.status = :to, j.version = j.version + 1 WHERE j.id IN :ids AND j.status = :from")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("from") JobStatus from, @Param("to") JobStatus to);
+
+    /**
+     * Move every job in one status whose deadline is before the given date to another status
+     * in a single UPDATE, without sending an ID list.
+     *
+     * @param from the status the jobs must currently have
+     * @param date the first deadline not changed
+     * @param to the new status
+     * @return the number of jobs changed
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Job j SET j.status = :to, j.version = j.version + 1 WHERE j.status = :from AND j.deadline < :date")
+    int updateStatusByDeadlineBefore(@Param("from") JobStatus from, @Param("date") LocalDate date,
+                                     @Param("to") JobStatus to);
+
+    /**
+     * IDs of jobs in a status whose deadline is before the given date, lowest first, starting
+     * after a given ID. Used by the lifecycle run to walk jobs to expire and expired jobs to archive
+     * in chunks.
+     *
+     * @param status the job status
+     * @param date the first deadline not selected
+     * @param afterId only IDs above this one are returned
+     * @param page how many IDs to return
+     * @return the job IDs
+     */
+    @Query("SELECT j.id FROM Job j WHERE j.status = :status AND j.deadline < :date AND j.id > :afterId ORDER BY j.id")
+    List<Long> findIdsByStatusAndDeadlineBefore(@Param("status") JobStatus status, @Param("date") LocalDate date,
+                                               @Param("afterId") Long afterId, Pageable page);
+
+    /**
+     * Copy jobs to JOB_ARCHIVE, stamped with the archival time.
+     *
+     * @param ids the IDs of the jobs to archive
+     * @return the number of jobs copied
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_archive"))
+    @Query(value = "INSERT INTO job_archive (job_id, employer_id, title, description, location, location_id, salary, "
+            + "category, deadline, status, created_at, application_count, archived_at) "
+            + "SELECT j.job_id, j.employer_id, j.title, j.description, j.location, j.location_id, j.salary, "
+            + "j.category, j.deadline, j.status, j.created_at, j.application_count, CURRENT_TIMESTAMP "
+            + "FROM job j WHERE j.job_id IN (:ids)", nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find jobs whose free-text location has not been resolved to a canonical location yet.
+     *
+     * @return the unresolved jobs
+     */
+    List<Job> findByLocationIdIsNullAndLocationIsNotNull();
 
     /**
      * Search approved jobs by keyword in title, description, location, or category.
+     * Full table scan; only used until the in-memory search index is ready.
      *
      * @param keyword the search keyword
      * @param status the job status to filter by (should be APPROVED for students)
@@ -45,38 +157,26 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     List<Job> searchByKeywordAndStatus(@Param("keyword") String keyword, @Param("status") JobStatus status);
 
     /**
-     * Find approved jobs by category.
-     *
-     * @param category the job category
-     * @param status the job status to filter by
-     * @return list of jobs in the specified category
-     */
-    List<Job> findByCategoryIgnoreCaseAndStatus(String category, JobStatus status);
-
-    /**
-     * Find approved jobs by location.
-     *
-     * @param location the job location
-     * @param status the job status to filter by
-     * @return list of jobs in the specified location
-     */
-    List<Job> findByLocationIgnoreCaseContainingAndStatus(String location, JobStatus status);
-
-    /**
-     * Get distinct categories from approved jobs.
+     * Count approved jobs per category.
+     * Only used until the in-memory facets are ready.
      *
      * @param status the job status to filter by
-     * @return list of distinct categories
+     * @return categories with job counts, alphabetically
      */
-    @Query("SELECT DISTINCT j.category FROM Job j WHERE j.status = :status AND j.category IS NOT NULL")
-    List<String> findDistinctCategoriesByStatus(@Param("status") JobStatus status);
+    @Query("SELECT new com.dvlpr.CampusJobBoardSystem.dto.FacetValue(j.category, COUNT(j)) FROM Job j " +
+           "WHERE j.status = :status AND j.category IS NOT NULL GROUP BY j.category ORDER BY j.category")
+    List<FacetValue> countCategoriesByStatus(@Param("status") JobStatus status);
 
     /**
-     * Get distinct locations from approved jobs.
+     * Count approved jobs per canonical location, or per typed location for jobs not linked to one yet.
+     * Only used until the in-memory facets are ready.
      *
      * @param status the job status to filter by
-     * @return list of distinct locations
+     * @return locations with job counts, alphabetically
      */
-    @Query("SELECT DISTINCT j.location FROM Job j WHERE j.status = :status AND j.location IS NOT NULL")
-    List<String> findDistinctLocationsByStatus(@Param("status") JobStatus status);
+    @Query("SELECT new com.dvlpr.CampusJobBoardSystem.dto.FacetValue(COALESCE(l.name, j.location), COUNT(j)) " +
+           "FROM Job j LEFT JOIN Location l ON l.id = j.locationId " +
+           "WHERE j.status = :status AND j.location IS NOT NULL " +
+           "GROUP BY COALESCE(l.name, j.location) ORDER BY COALESCE(l.name, j.location)")
+    List<FacetValue> countLocationsByStatus(@Param("status") JobStatus status);
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.dvlpr.CampusJobBoardSystem.repository;
+
+import com.dvlpr.CampusJobBoardSystem.dto.JobCursor;
+import com.dvlpr.CampusJobBoardSystem.entity.Job;
+import com.dvlpr.CampusJobBoardSystem.entity.JobStatus;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Composable query predicates for {@link Job}.
+ * Combine them with {@link Specification#and(Specification)} to build a single SQL statement.
+ */
+public final class JobSpecifications {
+
+    /** Feed order used by keyset pagination: newest first, ID as tie-breaker. */
+    public static final Sort FEED_ORDER = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    /** Highest salary first, then newest ID. */
+    public static final Sort SALARY_ORDER = Sort.by(Sort.Order.desc("salary"), Sort.Order.desc("id"));
+
+    private JobSpecifications() {
+    }
+
+    /** Jobs with the given status. */
+    public static Specification<Job> hasStatus(JobStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    /** Jobs whose ID is in the given set (primary key lookup). */
+    public static Specification<Job> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    /** Jobs whose category equals the value (the column collation is case-insensitive). */
+    public static Specification<Job> categoryEquals(String category) {
+        return (root, query, cb) -> cb.equal(root.get("category"), category);
+    }
+
+    /** Jobs resolved to one of the given canonical locations; an indexed integer lookup. */
+    public static Specification<Job> locationIdIn(Collection<Long> locationIds) {
+        return (root, query, cb) -> root.get("locationId").in(locationIds);
+    }
+
+    /** Jobs whose location contains the text. Cannot use an index; fallback only. */
+    public static Specification<Job> locationContains(String location) {
+        return (root, query, cb) -> cb.like(cb.lower(root.get("location")), likePattern(location));
+    }
+
+    /** Jobs with the keyword in title, description, location or category. Full scan; fallback only. */
+    public static Specification<Job> keywordLike(String keyword) {
+        return (root, query, cb) -> {
+            String pattern = likePattern(keyword);
+            return cb.or(
+                    cb.like(cb.lower(root.get("title")), pattern),
+                    cb.like(cb.lower(root.get("description")), pattern),
+                    cb.like(cb.lower(root.get("location")), pattern),
+                    cb.like(cb.lower(root.get("category")), pattern));
+        };
+    }
+
+    /** Jobs with a salary inside the (optionally open-ended) range. */
+    public static Specification<Job> salaryBetween(BigDecimal min, BigDecimal max) {
+        return (root, query, cb) -> {
+            if (min != null && max != null) {
+                return cb.between(root.get("salary"), min, max);
+            }
+            return min != null
+                    ? cb.greaterThanOrEqualTo(root.get("salary"), min)
+                    : cb.lessThanOrEqualTo(root.get("salary"), max);
+        };
+    }
+
+    /** Jobs with a deadline inside the (optionally open-ended) range. */
+    public static Specification<Job> deadlineBetween(LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            if (from != null && to != null) {
+                return cb.between(root.get("deadline"), from, to);
+            }
+            return from != null
+                    ? cb.greaterThanOrEqualTo(root.get("deadline"), from)
+                    : cb.lessThanOrEqualTo(root.get("deadline"), to);
+        };
+    }
+
+    /**
+     * Soonest deadline first, jobs without a deadline last, then oldest ID, as the in-memory catalog
+     * sorts. An ordering rather than a {@link Sort}: MySQL puts NULLs first in ascending order and
+     * has no {@code NULLS LAST}, so the query sorts on {@code deadline IS NULL} first. Use it with an
+     * unsorted query, which would otherwise replace the ordering.
+     */
+    public static Specification<Job> orderedByDeadline() {
+        return (root, query, cb) -> {
+            Path<LocalDate> deadline = root.get("deadline");
+            query.orderBy(cb.asc(cb.<Integer>selectCase().when(cb.isNull(deadline), 1).otherwise(0)),
+                    cb.asc(deadline), cb.asc(root.get("id")));
+            return null;
+        };
+    }
+
+    /** Jobs strictly after the cursor in {@link #FEED_ORDER}. */
+    public static Specification<Job> after(JobCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                cb.and(cb.equal(root.get("createdAt"), cursor.createdAt()),
+                        cb.lessThan(root.get("id"), cursor.id())));
+    }
+
+    private static String likePattern(String text) {
+        return "%" + text.trim().toLowerCase(Locale.ROOT) + "%";
+    }
+}
@@ -0,0 +1,10 @@
+package com.dvlpr.CampusJobBoardSystem.repository;
+
+import com.dvlpr.CampusJobBoardSystem.entity.LocationAlias;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Repository interface for location aliases, keyed by normalized spelling.
+ */
+public interface LocationAliasRepository extends JpaRepository<LocationAlias, String> {
+}
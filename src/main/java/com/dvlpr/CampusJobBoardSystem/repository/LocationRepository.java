@@ -0,0 +1,20 @@
+package com.dvlpr.CampusJobBoardSystem.repository;
+
+import com.dvlpr.CampusJobBoardSystem.entity.Location;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for canonical locations.
+ */
+public interface LocationRepository extends JpaRepository<Location, Long> {
+
+    /**
+     * Find a location by its normalized key.
+     *
+     * @param key the normalized key
+     * @return Optional containing the location if found
+     */
+    Optional<Location> findByKey(String key);
+}
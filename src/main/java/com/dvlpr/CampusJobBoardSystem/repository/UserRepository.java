@@ -2,20 +2,14 @@ package com.dvlpr.CampusJobBoardSystem.repository;
 
 import com.dvlpr.CampusJobBoardSystem.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
-import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 /**
  * Repository interface for User entity operations.
  * Provides CRUD operations and custom query methods for users.
+ * Lookup by email goes through the natural-ID cache; see {@link UserRepositoryCustom}.
+ * The admin user list filters through {@link UserSpecifications}.
  */
-public interface UserRepository extends JpaRepository<User, Long> {
-    
-    /**
-     * Find a user by their email address.
-     * Used for authentication and user lookup.
-     * 
-     * @param email the email address to search for
-     * @return Optional containing the user if found
-     */
-    Optional<User> findByEmail(String email);
-}
\ No newline at end of file
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User>,
+        UserRepositoryCustom {
+}
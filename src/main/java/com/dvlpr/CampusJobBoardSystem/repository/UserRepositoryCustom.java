@@ -0,0 +1,34 @@
+package com.dvlpr.CampusJobBoardSystem.repository;
+
+import com.dvlpr.CampusJobBoardSystem.entity.User;
+import com.dvlpr.CampusJobBoardSystem.entity.UserStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Optional;
+
+/**
+ * User lookups implemented by hand in {@link UserRepositoryImpl}.
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Find a user by their email address.
+     * Used for authentication and user lookup on nearly every request, so it is resolved
+     * through Hibernate's natural-ID cache and only queries the database on a cache miss.
+     *
+     * @param email the email address to search for
+     * @return Optional containing the user if found
+     */
+    Optional<User> findByEmail(String email);
+
+    /**
+     * Set the status of every matching user in a single UPDATE.
+     * Admin accounts and users already in the status are never touched.
+     * Hibernate evicts the cached users as part of the bulk update.
+     *
+     * @param spec the users to change; it must not depend on the query it is applied to
+     * @param status the new status
+     * @return the number of users changed
+     */
+    int updateStatus(Specification<User> spec, UserStatus status);
+}
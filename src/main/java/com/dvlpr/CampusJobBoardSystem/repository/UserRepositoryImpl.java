@@ -0,0 +1,48 @@
+package com.dvlpr.CampusJobBoardSystem.repository;
+
+import com.dvlpr.CampusJobBoardSystem.entity.User;
+import com.dvlpr.CampusJobBoardSystem.entity.UserRole;
+import com.dvlpr.CampusJobBoardSystem.entity.UserStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Natural-ID lookups and set-based status updates for {@link UserRepository}.
+ */
+class UserRepositoryImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+
+    @Override
+    @Transactional
+    public int updateStatus(Specification<User> spec, UserStatus status) {
+        Specification<User> target = spec
+                .and(UserSpecifications.notRole(UserRole.ADMIN))
+                .and(UserSpecifications.notStatus(status));
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<User> update = cb.createCriteriaUpdate(User.class);
+        Root<User> root = update.from(User.class);
+        update.set(root.get("status"), status).where(target.toPredicate(root, null, cb));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
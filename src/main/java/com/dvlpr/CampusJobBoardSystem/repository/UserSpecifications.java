@@ -0,0 +1,94 @@
+package com.dvlpr.CampusJobBoardSystem.repository;
+
+import com.dvlpr.CampusJobBoardSystem.dto.UserSearchCriteria;
+import com.dvlpr.CampusJobBoardSystem.entity.User;
+import com.dvlpr.CampusJobBoardSystem.entity.UserRole;
+import com.dvlpr.CampusJobBoardSystem.entity.UserStatus;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Composable query predicates for {@link User}.
+ * Every predicate is served by the unique email index or the (role, status, created_at) index.
+ */
+public final class UserSpecifications {
+
+    /** Admin list order: newest registrations first, ID as tie-breaker. */
+    public static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private UserSpecifications() {
+    }
+
+    /**
+     * All filters set in the criteria, combined with AND.
+     *
+     * @param criteria the filters
+     * @return the combined predicate; matches everyone if no filter is set
+     */
+    public static Specification<User> matching(UserSearchCriteria criteria) {
+        Specification<User> spec = Specification.where(null);
+        if (criteria.getRole() != null) {
+            spec = spec.and(hasRole(criteria.getRole()));
+        }
+        if (criteria.getStatus() != null) {
+            spec = spec.and(hasStatus(criteria.getStatus()));
+        }
+        if (criteria.hasEmailPrefix()) {
+            spec = spec.and(emailStartsWith(criteria.getEmailPrefix()));
+        }
+        if (criteria.hasCreatedRange()) {
+            spec = spec.and(createdBetween(criteria.getCreatedFrom(), criteria.getCreatedTo()));
+        }
+        return spec;
+    }
+
+    /** Users with the given role. */
+    public static Specification<User> hasRole(UserRole role) {
+        return (root, query, cb) -> cb.equal(root.get("role"), role);
+    }
+
+    /** Users with the given role excluded. */
+    public static Specification<User> notRole(UserRole role) {
+        return (root, query, cb) -> cb.notEqual(root.get("role"), role);
+    }
+
+    /** Users with the given status. */
+    public static Specification<User> hasStatus(UserStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    /** Users not already in the given status. */
+    public static Specification<User> notStatus(UserStatus status) {
+        return (root, query, cb) -> cb.notEqual(root.get("status"), status);
+    }
+
+    /** Users whose ID is in the given set (primary key lookup). */
+    public static Specification<User> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    /**
+     * Users whose email starts with the prefix. A prefix LIKE can use the unique email index;
+     * the column collation is case-insensitive.
+     */
+    public static Specification<User> emailStartsWith(String prefix) {
+        String escaped = prefix.trim().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return (root, query, cb) -> cb.like(root.get("email"), escaped + "%", '\\');
+    }
+
+    /** Users registered on a day inside the (optionally open-ended) range. */
+    public static Specification<User> createdBetween(LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            if (from != null && to != null) {
+                return cb.and(cb.greaterThanOrEqualTo(root.get("createdAt"), from.atStartOfDay()),
+                        cb.lessThan(root.get("createdAt"), to.plusDays(1).atStartOfDay()));
+            }
+            return from != null
+                    ? cb.greaterThanOrEqualTo(root.get("createdAt"), from.atStartOfDay())
+                    : cb.lessThan(root.get("createdAt"), to.plusDays(1).atStartOfDay());
+        };
+    }
+}
@@ -0,0 +1,469 @@
+package com.dvlpr.CampusJobBoardSystem.search;
+
+import com.dvlpr.CampusJobBoardSystem.dto.CursorPage;
+import com.dvlpr.CampusJobBoardSystem.dto.JobCursor;
+import com.dvlpr.CampusJobBoardSystem.dto.JobSearchCriteria;
+import com.dvlpr.CampusJobBoardSystem.dto.JobSort;
+import com.dvlpr.CampusJobBoardSystem.dto.JobSortCursor;
+import com.dvlpr.CampusJobBoardSystem.dto.JobView;
+import com.dvlpr.CampusJobBoardSystem.entity.Job;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Copy-on-write read model of all approved jobs for the student hot path.
+ * <p>
+ * Readers take the current immutable {@link Snapshot} from a volatile field and never lock.
+ * Writers (serialized by {@link JobIndexCoordinator}) copy the snapshot, apply one change and
+ * publish the copy. Writes are rare compared to student reads, so paying O(n) per write
+ * buys listings, details and filters with no database round-trip and no Hibernate session.
+ * <p>
+ * Salary (in cents) and deadline (as epoch day) are also kept in {@link SortedLongIndex}es,
+ * so range filters resolve to job-ID sets by binary search and lists can be sorted by either.
+ */
+@Component
+public class ApprovedJobCatalog implements JobIndex {
+
+    /** Feed order: newest first, ID as tie-breaker; same as the database keyset order. */
+    static final Comparator<JobView> FEED_ORDER = Comparator
+            .comparing(JobView::createdAt).thenComparing(JobView::id).reversed();
+
+    /** A range filter must keep fewer than 1 in this many jobs before it replaces the feed scan. */
+    private static final int SELECTIVE_RANGE_RATIO = 4;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), new JobView[0],
+            SortedLongIndex.EMPTY, SortedLongIndex.EMPTY);
+    private volatile boolean ready;
+
+    @Override
+    public synchronized void rebuild(Collection<Job> approvedJobs) {
+        Map<Long, JobView> byId = new HashMap<>();
+        for (Job job : approvedJobs) {
+            byId.put(job.getId(), JobView.from(job));
+        }
+        snapshot = snapshotOf(byId);
+        ready = true;
+    }
+
+    /** Publishes one snapshot for the whole batch, rebuilt in O(n log n) rather than O(n) per job. */
+    @Override
+    public synchronized void indexAll(Collection<Job> jobs) {
+        Map<Long, JobView> byId = new HashMap<>(snapshot.byId());
+        for (Job job : jobs) {
+            byId.put(job.getId(), JobView.from(job));
+        }
+        snapshot = snapshotOf(byId);
+    }
+
+    @Override
+    public synchronized void index(Job job) {
+        JobView view = JobView.from(job);
+        Snapshot current = snapshot;
+        Map<Long, JobView> byId = new HashMap<>(current.byId());
+        JobView previous = byId.put(view.id(), view);
+        JobView[] feed = current.feed();
+        SortedLongIndex salaries = current.salaries();
+        SortedLongIndex deadlines = current.deadlines();
+        if (previous != null) {
+            feed = without(feed, previous);
+            salaries = salaries.without(salaryKey(previous), previous.id());
+            deadlines = deadlines.without(deadlineKey(previous), previous.id());
+        }
+        snapshot = new Snapshot(byId, with(feed, view),
+                salaries.with(salaryKey(view), view.id()), deadlines.with(deadlineKey(view), view.id()));
+    }
+
+    @Override
+    public synchronized void remove(Long jobId) {
+        Snapshot current = snapshot;
+        JobView previous = current.byId().get(jobId);
+        if (previous == null) {
+            return;
+        }
+        Map<Long, JobView> byId = new HashMap<>(current.byId());
+        byId.remove(jobId);
+        snapshot = new Snapshot(byId, without(current.feed(), previous),
+                current.salaries().without(salaryKey(previous), previous.id()),
+                current.deadlines().without(deadlineKey(previous), previous.id()));
+    }
+
+    /** Publishes one snapshot for the whole batch. */
+    @Override
+    public synchronized void removeAll(Collection<Long> jobIds) {
+        Map<Long, JobView> byId = new HashMap<>(snapshot.byId());
+        if (byId.keySet().removeAll(jobIds)) {
+            snapshot = snapshotOf(byId);
+        }
+    }
+
+    /**
+     * Whether the catalog has been built. Until then callers should fall back to the database.
+     *
+     * @return true once the initial build has completed
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Number of approved jobs in the catalog.
+     *
+     * @return the job count
+     */
+    public int size() {
+        return snapshot.byId().size();
+    }
+
+    /**
+     * Look up an approved job.
+     *
+     * @param id the job ID
+     * @return the job, or empty if it does not exist or is not approved
+     */
+    public Optional<JobView> findById(Long id) {
+        return Optional.ofNullable(snapshot.byId().get(id));
+    }
+
+    /**
+     * Look up approved jobs, keeping the given order and skipping IDs that are not approved.
+     *
+     * @param ids the job IDs
+     * @return the jobs
+     */
+    public List<JobView> findAllById(List<Long> ids) {
+        Map<Long, JobView> byId = snapshot.byId();
+        List<JobView> views = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            JobView view = byId.get(id);
+            if (view != null) {
+                views.add(view);
+            }
+        }
+        return views;
+    }
+
+    /**
+     * Test for job IDs that are approved and pass the non-keyword filters of the criteria.
+     *
+     * @param criteria the filters to apply
+     * @param locationIds canonical locations the location filter resolved to, or null to match its text
+     * @return the test, bound to the current snapshot
+     */
+    public LongPredicate matching(JobSearchCriteria criteria, List<Long> locationIds) {
+        Map<Long, JobView> byId = snapshot.byId();
+        Predicate<JobView> filter = filterFor(criteria, locationIds);
+        return id -> {
+            JobView view = byId.get(id);
+            return view != null && filter.test(view);
+        };
+    }
+
+    /**
+     * Get one page of approved jobs matching the criteria, in feed order.
+     *
+     * @param criteria the non-keyword filters to apply (category, location, salary, deadline)
+     * @param candidateIds job IDs the keyword resolved to, or null if there is no keyword
+     * @param locationIds canonical locations the location filter resolved to, or null to match its text
+     * @param after the position to continue from
+     * @param limit the page size
+     * @return the page
+     */
+    public CursorPage<JobView> find(JobSearchCriteria criteria, List<Long> candidateIds, List<Long> locationIds,
+                                    JobCursor after, int limit) {
+        Snapshot current = snapshot;
+        Predicate<JobView> filter = filterFor(criteria, locationIds);
+        long[] candidates = candidateIds != null ? toSortedArray(candidateIds) : null;
+        long[] inRange = selectiveRangeMatches(current, criteria);
+        if (inRange != null) {
+            candidates = candidates != null ? Postings.intersect(candidates, inRange) : inRange;
+        }
+        JobView[] source;
+        if (candidates != null) {
+            // Keyword and selective range matches are far fewer than the whole feed; order just those
+            List<JobView> views = new ArrayList<>(candidates.length);
+            for (long id : candidates) {
+                JobView view = current.byId().get(id);
+                if (view != null && view.createdAt() != null) {
+                    views.add(view);
+                }
+            }
+            views.sort(FEED_ORDER);
+            source = views.toArray(new JobView[0]);
+        } else {
+            source = current.feed();
+        }
+
+        List<JobView> items = new ArrayList<>(limit);
+        for (int i = seek(source, after); i < source.length; i++) {
+            if (!filter.test(source[i])) {
+                continue;
+            }
+            if (items.size() == limit) {
+                JobView last = items.get(limit - 1);
+                return new CursorPage<>(items, new JobCursor(last.createdAt(), last.id()).encode());
+            }
+            items.add(source[i]);
+        }
+        return new CursorPage<>(items, null);
+    }
+
+    /**
+     * Get one page of approved jobs matching the criteria, sorted by salary (highest first)
+     * or deadline (soonest first). Jobs without the sort value come last.
+     *
+     * @param criteria the non-keyword filters to apply
+     * @param candidateIds job IDs the keyword resolved to, or null if there is no keyword
+     * @param locationIds canonical locations the location filter resolved to, or null to match its text
+     * @param sort {@link JobSort#SALARY} or {@link JobSort#DEADLINE}
+     * @param after the position to continue from
+     * @param limit the page size
+     * @return the page
+     */
+    public CursorPage<JobView> findSorted(JobSearchCriteria criteria, List<Long> candidateIds, List<Long> locationIds,
+                                          JobSort sort, JobSortCursor after, int limit) {
+        Snapshot current = snapshot;
+        boolean descending = sort == JobSort.SALARY;
+        SortedLongIndex index = descending ? current.salaries() : current.deadlines();
+        Predicate<JobView> filter = filterFor(criteria, locationIds);
+        Set<Long> allowed = candidateIds != null ? new HashSet<>(candidateIds) : null;
+
+        List<JobView> items = new ArrayList<>(limit);
+        long lastKey = 0;
+        int step = descending ? -1 : 1;
+        int position = descending ? index.lowerBound(after.key(), after.id()) - 1 : index.upperBound(after.key(), after.id());
+        for (; position >= 0 && position < index.size(); position += step) {
+            long id = index.idAt(position);
+            if (allowed != null && !allowed.contains(id)) {
+                continue;
+            }
+            JobView view = current.byId().get(id);
+            if (!filter.test(view)) {
+                continue;
+            }
+            if (items.size() == limit) {
+                return new CursorPage<>(items, new JobSortCursor(lastKey, items.get(limit - 1).id()).encode());
+            }
+            items.add(view);
+            lastKey = index.keyAt(position);
+        }
+        return new CursorPage<>(items, null);
+    }
+
+    /**
+     * Number of approved jobs with a salary in the range, in O(log n).
+     *
+     * @param min the lowest salary, or null for no lower bound
+     * @param max the highest salary, or null for no upper bound
+     * @return the count
+     */
+    public int countSalaryBetween(BigDecimal min, BigDecimal max) {
+        return snapshot.salaries().countBetween(salaryFrom(min), salaryTo(max));
+    }
+
+    /**
+     * Number of approved jobs with a deadline in the range, in O(log n).
+     *
+     * @param from the earliest deadline, or null for no lower bound
+     * @param to the latest deadline, or null for no upper bound
+     * @return the count
+     */
+    public int countDeadlineBetween(LocalDate from, LocalDate to) {
+        return snapshot.deadlines().countBetween(deadlineFrom(from), deadlineTo(to));
+    }
+
+    /**
+     * Job IDs passing the salary and deadline filters, from the range indexes; null when there
+     * is no range filter or it keeps so many jobs that scanning the feed is cheaper.
+     */
+    private static long[] selectiveRangeMatches(Snapshot current, JobSearchCriteria criteria) {
+        long[] matches = null;
+        int threshold = current.byId().size() / SELECTIVE_RANGE_RATIO;
+        if (criteria.hasSalaryRange()) {
+            long from = salaryFrom(criteria.getMinSalary());
+            long to = salaryTo(criteria.getMaxSalary());
+            if (current.salaries().countBetween(from, to) <= threshold) {
+                matches = current.salaries().idsBetween(from, to);
+            }
+        }
+        if (criteria.hasDeadlineRange()) {
+            long from = deadlineFrom(criteria.getDeadlineFrom());
+            long to = deadlineTo(criteria.getDeadlineTo());
+            if (current.deadlines().countBetween(from, to) <= threshold) {
+                long[] deadlines = current.deadlines().idsBetween(from, to);
+                matches = matches != null ? Postings.intersect(matches, deadlines) : deadlines;
+            }
+        }
+        return matches;
+    }
+
+    /** Salary in cents; jobs without one sort below every real salary. */
+    private static long salaryKey(JobView view) {
+        return view.salary() != null ? cents(view.salary(), RoundingMode.HALF_UP) : Long.MIN_VALUE;
+    }
+
+    /** Deadline as epoch day; jobs without one sort after every real deadline. */
+    private static long deadlineKey(JobView view) {
+        return view.deadline() != null ? view.deadline().toEpochDay() : Long.MAX_VALUE;
+    }
+
+    private static long salaryFrom(BigDecimal min) {
+        return min != null ? cents(min, RoundingMode.CEILING) : Long.MIN_VALUE + 1;
+    }
+
+    private static long salaryTo(BigDecimal max) {
+        return max != null ? cents(max, RoundingMode.FLOOR) : Long.MAX_VALUE;
+    }
+
+    private static long deadlineFrom(LocalDate from) {
+        return from != null ? from.toEpochDay() : Long.MIN_VALUE;
+    }
+
+    private static long deadlineTo(LocalDate to) {
+        return to != null ? to.toEpochDay() : Long.MAX_VALUE - 1;
+    }
+
+    private static long cents(BigDecimal amount, RoundingMode rounding) {
+        return amount.movePointRight(2).setScale(0, rounding).longValue();
+    }
+
+    private static long[] toSortedArray(List<Long> ids) {
+        long[] sorted = new long[ids.size()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = ids.get(i);
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private static Predicate<JobView> filterFor(JobSearchCriteria criteria, List<Long> locationIds) {
+        Predicate<JobView> filter = view -> true;
+        if (criteria.hasCategory()) {
+            String category = criteria.getCategory().trim();
+            filter = filter.and(view -> category.equalsIgnoreCase(view.category()));
+        }
+        if (criteria.hasLocation() && locationIds != null) {
+            Set<Long> wanted = new HashSet<>(locationIds);
+            filter = filter.and(view -> wanted.contains(view.locationId()));
+        } else if (criteria.hasLocation()) {
+            String location = criteria.getLocation().trim().toLowerCase(Locale.ROOT);
+            filter = filter.and(view -> view.location() != null
+                    && view.location().toLowerCase(Locale.ROOT).contains(location));
+        }
+        if (criteria.getMinSalary() != null) {
+            filter = filter.and(view -> view.salary() != null && view.salary().compareTo(criteria.getMinSalary()) >= 0);
+        }
+        if (criteria.getMaxSalary() != null) {
+            filter = filter.and(view -> view.salary() != null && view.salary().compareTo(criteria.getMaxSalary()) <= 0);
+        }
+        if (criteria.getDeadlineFrom() != null) {
+            filter = filter.and(view -> view.deadline() != null && !view.deadline().isBefore(criteria.getDeadlineFrom()));
+        }
+        if (criteria.getDeadlineTo() != null) {
+            filter = filter.and(view -> view.deadline() != null && !view.deadline().isAfter(criteria.getDeadlineTo()));
+        }
+        return filter;
+    }
+
+    /** Index of the first job strictly after the cursor in feed order. */
+    private static int seek(JobView[] feed, JobCursor after) {
+        int low = 0;
+        int high = feed.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (isAfter(feed[mid], after)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private static boolean isAfter(JobView view, JobCursor cursor) {
+        int byTime = view.createdAt().compareTo(cursor.createdAt());
+        return byTime < 0 || (byTime == 0 && view.id() < cursor.id());
+    }
+
+    /** Jobs without a creation time cannot be paged by keyset, same as in the database query. */
+    private static Snapshot snapshotOf(Map<Long, JobView> byId) {
+        long[] ids = new long[byId.size()];
+        long[] salaries = new long[ids.length];
+        long[] deadlines = new long[ids.length];
+        int i = 0;
+        for (JobView view : byId.values()) {
+            ids[i] = view.id();
+            salaries[i] = salaryKey(view);
+            deadlines[i] = deadlineKey(view);
+            i++;
+        }
+        return new Snapshot(byId, feedOf(byId.values()),
+                SortedLongIndex.of(salaries, ids), SortedLongIndex.of(deadlines, ids));
+    }
+
+    private static JobView[] feedOf(Collection<JobView> views) {
+        return views.stream()
+                .filter(view -> view.createdAt() != null)
+                .sorted(FEED_ORDER)
+                .toArray(JobView[]::new);
+    }
+
+    private static JobView[] with(JobView[] feed, JobView view) {
+        if (view.createdAt() == null) {
+            return feed;
+        }
+        int found = Arrays.binarySearch(feed, view, FEED_ORDER);
+        if (found >= 0) {
+            JobView[] result = feed.clone();
+            result[found] = view;
+            return result;
+        }
+        int pos = -found - 1;
+        JobView[] result = new JobView[feed.length + 1];
+        System.arraycopy(feed, 0, result, 0, pos);
+        result[pos] = view;
+        System.arraycopy(feed, pos, result, pos + 1, feed.length - pos);
+        return result;
+    }
+
+    private static JobView[] without(JobView[] feed, JobView view) {
+        if (view.createdAt() == null) {
+            return feed;
+        }
+        int pos = Arrays.binarySearch(feed, view, FEED_ORDER);
+        if (pos < 0) {
+            return feed;
+        }
+        JobView[] result = new JobView[feed.length - 1];
+        System.arraycopy(feed, 0, result, 0, pos);
+        System.arraycopy(feed, pos + 1, result, pos, feed.length - pos - 1);
+        return result;
+    }
+
+    /**
+     * Immutable state published to readers.
+     *
+     * @param byId approved jobs by ID
+     * @param feed approved jobs with a creation time, in feed order
+     * @param salaries every approved job keyed by salary in cents
+     * @param deadlines every approved job keyed by deadline epoch day
+     */
+    private record Snapshot(Map<Long, JobView> byId, JobView[] feed,
+                            SortedLongIndex salaries, SortedLongIndex deadlines) {
+    }
+}
@@ -0,0 +1,163 @@
+package com.dvlpr.CampusJobBoardSystem.search;
+
+import com.dvlpr.CampusJobBoardSystem.dto.FacetValue;
+import com.dvlpr.CampusJobBoardSystem.entity.Job;
+import com.dvlpr.CampusJobBoardSystem.service.LocationService;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * In-memory category and location facets of approved jobs, with per-value job counts.
+ * <p>
+ * Counts are maintained incrementally from job changes, so filling the student filter
+ * dropdowns costs no database query. Values are grouped case-insensitively, like the
+ * database collation did for the old {@code SELECT DISTINCT} queries. Jobs are counted under
+ * the name of their canonical location, so "Calgary" and "calgary, AB" are one value.
+ */
+@Component
+public class JobFacetService implements JobIndex {
+
+    /** The faceted values of an indexed job, kept so later edits to the entity cannot skew removal. */
+    private record FacetedJob(String category, String location) {
+    }
+
+    private final LocationService locationService;
+    private final Facet categories = new Facet();
+    private final Facet locations = new Facet();
+    private final Map<Long, FacetedJob> facetedJobs = new HashMap<>();
+    private volatile boolean ready;
+
+    public JobFacetService(LocationService locationService) {
+        this.locationService = locationService;
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<Job> approvedJobs) {
+        categories.clear();
+        locations.clear();
+        facetedJobs.clear();
+        for (Job job : approvedJobs) {
+            add(job);
+        }
+        categories.publish();
+        locations.publish();
+        ready = true;
+    }
+
+    @Override
+    public synchronized void index(Job job) {
+        subtract(job.getId());
+        add(job);
+        categories.publish();
+        locations.publish();
+    }
+
+    @Override
+    public synchronized void indexAll(Collection<Job> jobs) {
+        for (Job job : jobs) {
+            subtract(job.getId());
+            add(job);
+        }
+        categories.publish();
+        locations.publish();
+    }
+
+    @Override
+    public synchronized void remove(Long jobId) {
+        subtract(jobId);
+        categories.publish();
+        locations.publish();
+    }
+
+    /**
+     * Whether the facets have been built. Until then callers should fall back to the database.
+     *
+     * @return true once the initial build has completed
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Categories of approved jobs, alphabetically, with job counts.
+     *
+     * @return the category facet
+     */
+    public List<FacetValue> getCategories() {
+        return categories.snapshot;
+    }
+
+    /**
+     * Locations of approved jobs, alphabetically, with job counts.
+     *
+     * @return the location facet
+     */
+    public List<FacetValue> getLocations() {
+        return locations.snapshot;
+    }
+
+    private void add(Job job) {
+        FacetedJob faceted = new FacetedJob(job.getCategory(), locationName(job));
+        facetedJobs.put(job.getId(), faceted);
+        categories.increment(faceted.category());
+        locations.increment(faceted.location());
+    }
+
+    private void subtract(Long jobId) {
+        FacetedJob faceted = facetedJobs.remove(jobId);
+        if (faceted != null) {
+            categories.decrement(faceted.category());
+            locations.decrement(faceted.location());
+        }
+    }
+
+    /** Name of the job's canonical location, or its text as typed if it has none yet. */
+    private String locationName(Job job) {
+        String name = job.getLocationId() != null ? locationService.getName(job.getLocationId()) : null;
+        return name != null ? name : job.getLocation();
+    }
+
+    /** Counts for one facet. Mutated under the service lock, read through the published snapshot. */
+    private static final class Facet {
+
+        private final Map<String, FacetValue> counts = new HashMap<>();
+        private volatile List<FacetValue> snapshot = List.of();
+
+        void clear() {
+            counts.clear();
+        }
+
+        void increment(String value) {
+            if (value == null || value.isBlank()) {
+                return;
+            }
+            String display = value.trim();
+            counts.merge(key(display), new FacetValue(display, 1),
+                    (existing, added) -> new FacetValue(existing.value(), existing.count() + 1));
+        }
+
+        void decrement(String value) {
+            if (value == null || value.isBlank()) {
+                return;
+            }
+            counts.computeIfPresent(key(value.trim()), (key, existing) ->
+                    existing.count() <= 1 ? null : new FacetValue(existing.value(), existing.count() - 1));
+        }
+
+        void publish() {
+            snapshot = counts.values().stream()
+                    .sorted(Comparator.comparing(FacetValue::value, String.CASE_INSENSITIVE_ORDER))
+                    .toList();
+        }
+
+        private static String key(String value) {
+            return value.toLowerCase(Locale.ROOT);
+        }
+    }
+}
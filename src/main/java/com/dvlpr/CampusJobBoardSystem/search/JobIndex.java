@@ -0,0 +1,57 @@
+package com.dvlpr.CampusJobBoardSystem.search;
+
+import com.dvlpr.CampusJobBoardSystem.entity.Job;
+
+import java.util.Collection;
+
+/**
+ * An in-memory structure derived from the set of approved jobs.
+ * Implementations are kept up to date by {@link JobIndexCoordinator}.
+ */
+public interface JobIndex {
+
+    /**
+     * Replace the whole index content with the given approved jobs.
+     *
+     * @param approvedJobs all jobs currently visible to students
+     */
+    void rebuild(Collection<Job> approvedJobs);
+
+    /**
+     * Add or replace a single approved job.
+     *
+     * @param job the approved job
+     */
+    void index(Job job);
+
+    /**
+     * Add or replace many approved jobs at once. Indexes that publish a new snapshot on every
+     * change override this to publish once for the whole batch.
+     *
+     * @param jobs the approved jobs
+     */
+    default void indexAll(Collection<Job> jobs) {
+        for (Job job : jobs) {
+            index(job);
+        }
+    }
+
+    /**
+     * Remove a job that is no longer visible to students. Unknown IDs are ignored.
+     *
+     * @param jobId the ID of the job to remove
+     */
+    void remove(Long jobId);
+
+    /**
+     * Remove many jobs at once. Indexes that publish a new snapshot on every change override
+     * this to publish once for the whole batch.
+     *
+     * @param jobIds the IDs of the jobs to remove
+     */
+    default void removeAll(Collection<Long> jobIds) {
+        for (Long jobId : jobIds) {
+            remove(jobId);
+        }
+    }
+}
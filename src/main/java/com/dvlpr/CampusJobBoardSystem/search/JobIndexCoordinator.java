@@ -0,0 +1,73 @@
+package com.dvlpr.CampusJobBoardSystem.search;
+
+import com.dvlpr.CampusJobBoardSystem.entity.Job;
+import com.dvlpr.CampusJobBoardSystem.entity.JobStatus;
+import com.dvlpr.CampusJobBoardSystem.event.JobChangedEvent;
+import com.dvlpr.CampusJobBoardSystem.event.JobsApprovedEvent;
+import com.dvlpr.CampusJobBoardSystem.event.JobsExpiredEvent;
+import com.dvlpr.CampusJobBoardSystem.repository.JobRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Keeps every {@link JobIndex} in sync with the approved jobs in the database.
+ * Loads all approved jobs once at startup, then applies {@link JobChangedEvent}s and
+ * {@link JobsApprovedEvent}s and {@link JobsExpiredEvent}s incrementally.
+ */
+@Component
+public class JobIndexCoordinator {
+
+    private static final java.util.logging.Logger logger = java.util.logging.Logger.getLogger(JobIndexCoordinator.class.getName());
+
+    private final JobRepository jobRepository;
+    private final List<JobIndex> indexes;
+
+    public JobIndexCoordinator(JobRepository jobRepository, List<JobIndex> indexes) {
+        this.jobRepository = jobRepository;
+        this.indexes = indexes;
+    }
+
+    /** Load all approved jobs and rebuild every index from them. */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuildAll() {
+        long start = System.nanoTime();
+        List<Job> approvedJobs = jobRepository.findByStatus(JobStatus.APPROVED);
+        for (JobIndex index : indexes) {
+            index.rebuild(approvedJobs);
+        }
+        logger.info(String.format("Built %d job indexes over %d approved jobs in %d ms",
+                indexes.size(), approvedJobs.size(), (System.nanoTime() - start) / 1_000_000));
+    }
+
+    /** Apply a single job change once its transaction (if any) has committed. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onJobChanged(JobChangedEvent event) {
+        for (JobIndex index : indexes) {
+            if (event.isVisibleToStudents()) {
+                index.index(event.job());
+            } else {
+                index.remove(event.jobId());
+            }
+        }
+    }
+
+    /** Drop a batch of expired jobs once its transaction (if any) has committed. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onJobsExpired(JobsExpiredEvent event) {
+        for (JobIndex index : indexes) {
+            index.removeAll(event.jobIds());
+        }
+    }
+
+    /** Add a batch of newly approved jobs once its transaction (if any) has committed. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onJobsApproved(JobsApprovedEvent event) {
+        for (JobIndex index : indexes) {
+            index.indexAll(event.jobs());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.dvlpr.CampusJobBoardSystem.search;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * How a combined job search will be executed, with the estimated cost of each predicate.
+ * <p>
+ * Keyword and location filters are resolved in memory before any SQL runs: the keyword
+ * becomes a primary-key {@code IN} list from the search index and the location text becomes
+ * an {@code IN} list of canonical location IDs from the location dictionary. The remaining predicates are
+ * indexable equality or range comparisons, so the whole query narrows rows through indexes.
+ *
+ * @param steps one entry per active predicate, most selective first
+ * @param totalRows number of approved jobs, or -1 if the in-memory indexes are not built yet
+ * @param jobIds job IDs matching the keyword, or null if the keyword is not resolved in memory
+ * @param locationIds canonical location IDs matching the location text, or null if not resolved in memory
+ */
+public record JobQueryPlan(List<Step> steps, long totalRows, @JsonIgnore List<Long> jobIds, List<Long> locationIds) {
+
+    /**
+     * One predicate of the plan.
+     *
+     * @param predicate the filter this step applies, e.g. {@code keyword="java"}
+     * @param access how the database can evaluate it, e.g. {@code PRIMARY KEY IN (12 ids)}
+     * @param estimatedRows rows this predicate alone lets through, or -1 if unknown
+     * @param exact whether the estimate is an exact count rather than a guess
+     */
+    public record Step(String predicate, String access, long estimatedRows, boolean exact) {
+    }
+
+    /**
+     * Whether some predicate is known to match nothing, so the query need not run at all.
+     *
+     * @return true if the result is certainly empty
+     */
+    public boolean isEmpty() {
+        return steps.stream().anyMatch(step -> step.exact() && step.estimatedRows() == 0);
+    }
+
+    /**
+     * Estimated result size, assuming predicates are independent.
+     *
+     * @return the estimated number of matching rows, or -1 if unknown
+     */
+    @JsonProperty
+    public long estimatedRows() {
+        if (totalRows < 0) {
+            return -1;
+        }
+        double rows = totalRows;
+        for (Step step : steps) {
+            if (step.estimatedRows() >= 0 && totalRows > 0) {
+                rows *= (double) step.estimatedRows() / totalRows;
+            }
+        }
+        return Math.round(rows);
+    }
+
+    @Override
+    public String toString() {
+        return steps.stream()
+                .map(step -> step.predicate() + " via " + step.access() + " ~" + step.estimatedRows() + " rows")
+                .collect(Collectors.joining(" AND ", "[", "]"))
+                + " of " + totalRows + " -> ~" + estimatedRows() + " rows";
+    }
+}
@@ -0,0 +1,116 @@
+package com.dvlpr.CampusJobBoardSystem.search;
+
+import com.dvlpr.CampusJobBoardSystem.dto.FacetValue;
+import com.dvlpr.CampusJobBoardSystem.dto.JobSearchCriteria;
+import com.dvlpr.CampusJobBoardSystem.service.LocationService;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Turns {@link JobSearchCriteria} into a {@link JobQueryPlan}.
+ * Uses the search index, the facet counts, the location dictionary and the catalog's range
+ * indexes as exact statistics where it can.
+ */
+@Component
+public class JobQueryPlanner {
+
+    /** Selectivity assumed for range predicates until the range indexes are built. */
+    private static final double RANGE_SELECTIVITY = 1.0 / 3;
+
+    private final JobSearchIndex jobSearchIndex;
+    private final JobFacetService jobFacetService;
+    private final LocationService locationService;
+    private final ApprovedJobCatalog approvedJobCatalog;
+
+    public JobQueryPlanner(JobSearchIndex jobSearchIndex, JobFacetService jobFacetService,
+                           LocationService locationService, ApprovedJobCatalog approvedJobCatalog) {
+        this.jobSearchIndex = jobSearchIndex;
+        this.jobFacetService = jobFacetService;
+        this.locationService = locationService;
+        this.approvedJobCatalog = approvedJobCatalog;
+    }
+
+    /**
+     * Plan a search over approved jobs.
+     *
+     * @param criteria the filters to combine
+     * @return the plan, with resolved keyword and location IDs when the indexes are ready
+     */
+    public JobQueryPlan plan(JobSearchCriteria criteria) {
+        boolean indexed = jobSearchIndex.isReady() && jobFacetService.isReady();
+        long total = indexed ? jobSearchIndex.size() : -1;
+        List<JobQueryPlan.Step> steps = new ArrayList<>();
+        List<Long> jobIds = null;
+        List<Long> locationIds = null;
+
+        if (criteria.hasKeyword()) {
+            String predicate = "keyword=\"" + criteria.getKeyword().trim() + "\"";
+            if (indexed) {
+                jobIds = jobSearchIndex.search(criteria.getKeyword());
+                String access = "PRIMARY KEY IN (" + jobIds.size() + " ids)";
+                if (jobIds.isEmpty()) {
+                    // Nothing matches as typed; retry tolerating typos before giving up
+                    jobIds = jobSearchIndex.search(criteria.getKeyword(), true);
+                    access = "PRIMARY KEY IN (" + jobIds.size() + " ids, fuzzy)";
+                }
+                steps.add(new JobQueryPlan.Step(predicate, access, jobIds.size(), true));
+            } else {
+                steps.add(new JobQueryPlan.Step(predicate, "FULL SCAN LIKE", -1, false));
+            }
+        }
+        if (criteria.hasCategory()) {
+            String predicate = "category=\"" + criteria.getCategory().trim() + "\"";
+            long rows = indexed ? facetCount(jobFacetService.getCategories(), criteria.getCategory()) : -1;
+            steps.add(new JobQueryPlan.Step(predicate, "INDEX EQ category", rows, indexed));
+        }
+        if (criteria.hasLocation()) {
+            String predicate = "location~\"" + criteria.getLocation().trim() + "\"";
+            if (locationService.isReady()) {
+                locationIds = locationService.findMatchingIds(criteria.getLocation());
+                long rows = 0;
+                if (indexed) {
+                    for (Long locationId : locationIds) {
+                        rows += facetCount(jobFacetService.getLocations(), locationService.getName(locationId));
+                    }
+                }
+                boolean exact = indexed || locationIds.isEmpty();
+                steps.add(new JobQueryPlan.Step(predicate, "INDEX IN location_id (" + locationIds.size() + " ids)",
+                        exact ? rows : -1, exact));
+            } else {
+                steps.add(new JobQueryPlan.Step(predicate, "FULL SCAN LIKE", -1, false));
+            }
+        }
+        boolean ranged = approvedJobCatalog.isReady();
+        if (criteria.hasSalaryRange()) {
+            String predicate = "salary in [" + criteria.getMinSalary() + ", " + criteria.getMaxSalary() + "]";
+            long rows = ranged ? approvedJobCatalog.countSalaryBetween(criteria.getMinSalary(), criteria.getMaxSalary())
+                    : guessRange(total);
+            steps.add(new JobQueryPlan.Step(predicate, "INDEX RANGE salary", rows, ranged));
+        }
+        if (criteria.hasDeadlineRange()) {
+            String predicate = "deadline in [" + criteria.getDeadlineFrom() + ", " + criteria.getDeadlineTo() + "]";
+            long rows = ranged ? approvedJobCatalog.countDeadlineBetween(criteria.getDeadlineFrom(), criteria.getDeadlineTo())
+                    : guessRange(total);
+            steps.add(new JobQueryPlan.Step(predicate, "INDEX RANGE deadline", rows, ranged));
+        }
+
+        // Unknown estimates sort last; otherwise most selective first
+        steps.sort(Comparator.comparingLong(step -> step.estimatedRows() < 0 ? Long.MAX_VALUE : step.estimatedRows()));
+        return new JobQueryPlan(List.copyOf(steps), total, jobIds, locationIds);
+    }
+
+    private static long facetCount(List<FacetValue> facets, String value) {
+        String trimmed = value.trim();
+        return facets.stream()
+                .filter(facet -> facet.value().equalsIgnoreCase(trimmed))
+                .mapToLong(FacetValue::count)
+                .sum();
+    }
+
+    private static long guessRange(long total) {
+        return total < 0 ? -1 : Math.round(total * RANGE_SELECTIVITY);
+    }
+}
@@ -0,0 +1,424 @@
+package com.dvlpr.CampusJobBoardSystem.search;
+
+import com.dvlpr.CampusJobBoardSystem.entity.Job;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * Inverted index over the title, description, location and category of approved jobs.
+ * <p>
+ * Each term maps to a postings list of job IDs. A keyword query is tokenized, every query
+ * term is expanded to the indexed terms it is a prefix of, and the resulting postings lists
+ * are intersected, so that "java dev" matches a job containing both "java" and "developer".
+ * <p>
+ * In fuzzy mode a query term also matches indexed terms within a small edit distance, so
+ * "internshp" still finds "internship". Candidates come from a trigram index over the term
+ * vocabulary and are verified with a bounded edit distance, so only a handful of
+ * terms are ever compared instead of every word of every job.
+ * <p>
+ * {@link #rank} orders matches by BM25F relevance from per-field term statistics kept
+ * alongside the postings, with title matches counting most and description matches least.
+ */
+@Component
+public class JobSearchIndex implements JobIndex {
+
+    /** Term frequency saturation: how quickly repeated occurrences stop adding to the score. */
+    private static final double K1 = 1.2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, long[]> postings = new TreeMap<>();
+    private final Map<Long, JobTerms> termsByJob = new HashMap<>();
+    private final long[] totalFieldLengths = new long[JobTerms.Field.values().length];
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+    private volatile boolean ready;
+
+    @Override
+    public void rebuild(Collection<Job> approvedJobs) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            termsByJob.clear();
+            termsByTrigram.clear();
+            Arrays.fill(totalFieldLengths, 0);
+            for (Job job : approvedJobs) {
+                addLocked(job);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Job job) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(job.getId());
+            addLocked(job);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Whether the index has been built. Until then callers should fall back to the database.
+     *
+     * @return true once the initial build has completed
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Find the approved jobs matching every term of the query.
+     *
+     * @param query the free-text query
+     * @return matching job IDs in ascending order; empty if the query has no terms
+     */
+    public List<Long> search(String query) {
+        return search(query, false);
+    }
+
+    /**
+     * Find the approved jobs matching every term of the query, optionally tolerating typos.
+     *
+     * @param query the free-text query
+     * @param fuzzy whether terms may also match indexed terms a few edits away
+     * @return matching job IDs in ascending order; empty if the query has no terms
+     */
+    public List<Long> search(String query, boolean fuzzy) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            long[] result = matchAll(expandAll(terms, fuzzy));
+            List<Long> ids = new ArrayList<>(result.length);
+            for (long id : result) {
+                ids.add(id);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find the most relevant approved jobs matching every term of the query.
+     * Scores with BM25F and keeps only the best {@code limit} matches in a bounded heap,
+     * so broad queries cost O(matches &middot; log limit) rather than a full sort.
+     *
+     * @param query the free-text query
+     * @param fuzzy whether terms may also match indexed terms a few edits away
+     * @param limit the maximum number of results
+     * @param filter only jobs whose ID passes this test are ranked
+     * @return matching job IDs, most relevant first
+     */
+    public List<Long> rank(String query, boolean fuzzy, int limit, LongPredicate filter) {
+        return rank(query, fuzzy, limit, filter, null).stream().map(ScoredJob::id).toList();
+    }
+
+    /**
+     * Find the next most relevant approved jobs after a job returned earlier, for paging through
+     * a ranking. Scores move as jobs are indexed, so that job is scored again and the ranking
+     * continues from where it stands now; if it no longer matches, from its earlier score.
+     *
+     * @param query the free-text query
+     * @param fuzzy whether terms may also match indexed terms a few edits away
+     * @param limit the maximum number of results
+     * @param filter only jobs whose ID passes this test are ranked
+     * @param after the last job already returned, or null to start with the best match
+     * @return matching jobs with their scores, most relevant first
+     */
+    public List<ScoredJob> rank(String query, boolean fuzzy, int limit, LongPredicate filter, ScoredJob after) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<List<String>> expansions = expandAll(terms, fuzzy);
+            long[] matches = matchAll(expansions);
+            if (matches.length == 0) {
+                return List.of();
+            }
+            int jobCount = termsByJob.size();
+            double[] averageLengths = new double[totalFieldLengths.length];
+            for (int i = 0; i < averageLengths.length; i++) {
+                averageLengths[i] = (double) totalFieldLengths[i] / jobCount;
+            }
+            List<Map<String, Double>> idfs = new ArrayList<>(expansions.size());
+            for (List<String> expansion : expansions) {
+                Map<String, Double> idf = new HashMap<>();
+                for (String term : expansion) {
+                    idf.put(term, inverseDocumentFrequency(jobCount, postings.get(term).length));
+                }
+                idfs.add(idf);
+            }
+            if (after != null && Arrays.binarySearch(matches, after.id()) >= 0) {
+                after = new ScoredJob(after.id(), score(termsByJob.get(after.id()), idfs, averageLengths));
+            }
+
+            // Min-heap of the best matches so far: the root is the one to evict next
+            PriorityQueue<ScoredJob> best = new PriorityQueue<>(Math.min(limit, matches.length) + 1, ScoredJob.WORST_FIRST);
+            for (long id : matches) {
+                if (!filter.test(id)) {
+                    continue;
+                }
+                ScoredJob scored = new ScoredJob(id, score(termsByJob.get(id), idfs, averageLengths));
+                if (after != null && ScoredJob.WORST_FIRST.compare(scored, after) >= 0) {
+                    continue;
+                }
+                if (best.size() < limit) {
+                    best.add(scored);
+                } else if (ScoredJob.WORST_FIRST.compare(scored, best.peek()) > 0) {
+                    best.poll();
+                    best.add(scored);
+                }
+            }
+            ScoredJob[] ranked = new ScoredJob[best.size()];
+            for (int i = ranked.length - 1; i >= 0; i--) {
+                ranked[i] = best.poll();
+            }
+            return Arrays.asList(ranked);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of jobs currently in the index.
+     *
+     * @return the indexed job count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return termsByJob.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Expand every query term to the indexed terms it matches; an empty expansion means no job can match. */
+    private List<List<String>> expandAll(Set<String> queryTerms, boolean fuzzy) {
+        List<List<String>> expansions = new ArrayList<>(queryTerms.size());
+        for (String term : queryTerms) {
+            expansions.add(fuzzy ? fuzzyTerms(term) : prefixTerms(term));
+        }
+        return expansions;
+    }
+
+    /** Jobs containing at least one expansion of every query term. */
+    private long[] matchAll(List<List<String>> expansions) {
+        List<long[]> perTerm = new ArrayList<>(expansions.size());
+        for (List<String> expansion : expansions) {
+            List<long[]> lists = new ArrayList<>(expansion.size());
+            for (String term : expansion) {
+                lists.add(postings.get(term));
+            }
+            long[] matches = Postings.union(lists);
+            if (matches.length == 0) {
+                return Postings.EMPTY;
+            }
+            perTerm.add(matches);
+        }
+        // Start from the rarest term so every intersection shrinks the candidate set early
+        perTerm.sort(Comparator.comparingInt(list -> list.length));
+        long[] result = perTerm.get(0);
+        for (int i = 1; i < perTerm.size() && result.length > 0; i++) {
+            result = Postings.intersect(result, perTerm.get(i));
+        }
+        return result;
+    }
+
+    private List<String> prefixTerms(String prefix) {
+        return new ArrayList<>(postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).keySet());
+    }
+
+    private List<String> fuzzyTerms(String term) {
+        List<String> terms = prefixTerms(term);
+        int maxEdits = maxEdits(term.length());
+        if (maxEdits == 0) {
+            return terms;
+        }
+        Set<String> grams = trigrams(term);
+        Map<String, Integer> shared = new HashMap<>();
+        for (String gram : grams) {
+            for (String candidate : termsByTrigram.getOrDefault(gram, Set.of())) {
+                shared.merge(candidate, 1, Integer::sum);
+            }
+        }
+        for (Map.Entry<String, Integer> entry : shared.entrySet()) {
+            String candidate = entry.getKey();
+            if (Math.abs(candidate.length() - term.length()) > maxEdits || candidate.startsWith(term)) {
+                continue;
+            }
+            // Each edit destroys at most four trigrams (a swap), so fewer shared ones rule the candidate out
+            int needed = Math.max(grams.size(), trigrams(candidate).size()) - 4 * maxEdits;
+            if (entry.getValue() >= needed && withinEditDistance(term, candidate, maxEdits)) {
+                terms.add(candidate);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * BM25F score of a job: for each query term, the best of its expansions, saturated so that
+     * repeating a word many times gives diminishing returns.
+     */
+    private static double score(JobTerms job, List<Map<String, Double>> idfs, double[] averageLengths) {
+        double score = 0;
+        for (Map<String, Double> idf : idfs) {
+            double best = 0;
+            for (Map.Entry<String, Double> term : idf.entrySet()) {
+                double frequency = job.weightedFrequency(term.getKey(), averageLengths);
+                if (frequency > 0) {
+                    best = Math.max(best, term.getValue() * frequency / (K1 + frequency));
+                }
+            }
+            score += best;
+        }
+        return score;
+    }
+
+    /** Rarer terms say more about a job; never negative, even for terms in most jobs. */
+    static double inverseDocumentFrequency(int jobCount, int jobsWithTerm) {
+        return Math.log(1 + (jobCount - jobsWithTerm + 0.5) / (jobsWithTerm + 0.5));
+    }
+
+    /** Typos tolerated for a term of the given length: none for very short terms. */
+    static int maxEdits(int length) {
+        if (length < 4) {
+            return 0;
+        }
+        return length < 8 ? 1 : 2;
+    }
+
+    /** Distinct trigrams of a term padded with a boundary marker, so short terms get some too. */
+    static Set<String> trigrams(String term) {
+        String padded = "$" + term + "$";
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    /**
+     * Edit distance check counting insertions, deletions, substitutions and swaps of adjacent
+     * letters (optimal string alignment); gives up as soon as every path exceeds the bound.
+     */
+    static boolean withinEditDistance(String a, String b, int maxEdits) {
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    distance = Math.min(distance, beforePrevious[j - 2] + 1);
+                }
+                current[j] = distance;
+                rowMin = Math.min(rowMin, distance);
+            }
+            if (rowMin > maxEdits) {
+                return false;
+            }
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()] <= maxEdits;
+    }
+
+    private void addLocked(Job job) {
+        JobTerms terms = JobTerms.of(job);
+        long id = job.getId();
+        for (String term : terms.terms()) {
+            long[] existing = postings.get(term);
+            if (existing == null) {
+                postings.put(term, new long[]{id});
+                for (String gram : trigrams(term)) {
+                    termsByTrigram.computeIfAbsent(gram, g -> new HashSet<>()).add(term);
+                }
+            } else {
+                postings.put(term, Postings.insert(existing, id));
+            }
+        }
+        for (JobTerms.Field field : JobTerms.Field.values()) {
+            totalFieldLengths[field.ordinal()] += terms.length(field);
+        }
+        termsByJob.put(job.getId(), terms);
+    }
+
+    private void removeLocked(Long jobId) {
+        JobTerms terms = termsByJob.remove(jobId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms.terms()) {
+            long[] remaining = Postings.remove(postings.getOrDefault(term, Postings.EMPTY), jobId);
+            if (remaining.length == 0) {
+                postings.remove(term);
+                for (String gram : trigrams(term)) {
+                    Set<String> withGram = termsByTrigram.get(gram);
+                    withGram.remove(term);
+                    if (withGram.isEmpty()) {
+                        termsByTrigram.remove(gram);
+                    }
+                }
+            } else {
+                postings.put(term, remaining);
+            }
+        }
+        for (JobTerms.Field field : JobTerms.Field.values()) {
+            totalFieldLengths[field.ordinal()] -= terms.length(field);
+        }
+    }
+
+    /**
+     * A job and its relevance score; ties go to the newer (higher) ID.
+     *
+     * @param id the job ID
+     * @param score the BM25F score
+     */
+    public record ScoredJob(long id, double score) {
+        static final Comparator<ScoredJob> WORST_FIRST = Comparator
+                .comparingDouble(ScoredJob::score).thenComparingLong(ScoredJob::id);
+    }
+}
@@ -0,0 +1,262 @@
+package com.dvlpr.CampusJobBoardSystem.search;
+
+import com.dvlpr.CampusJobBoardSystem.dto.JobSuggestion;
+import com.dvlpr.CampusJobBoardSystem.entity.Job;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Typeahead over the titles, categories and locations of approved jobs.
+ * <p>
+ * Every value is reachable from the start of each of its words, so "dev" suggests
+ * "Software Developer". Lookups walk an immutable compacted prefix trie (single-child
+ * chains are merged into one edge) whose nodes carry their most frequent values
+ * precomputed, so a keystroke costs one pass over the typed prefix and no sorting.
+ * Writers update the per-value job counts and publish a freshly built trie.
+ */
+@Component
+public class JobSuggestionIndex implements JobIndex {
+
+    /** Most suggestions returned for a single prefix. */
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Comparator<JobSuggestion> BY_FREQUENCY = Comparator
+            .comparingLong(JobSuggestion::count).reversed()
+            .thenComparing(JobSuggestion::text, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(JobSuggestion::field);
+
+    private final Map<String, Value> values = new HashMap<>();
+    private final Map<Long, List<String>> keysByJob = new HashMap<>();
+    private volatile Node root = Node.EMPTY;
+    private volatile boolean ready;
+
+    @Override
+    public synchronized void rebuild(Collection<Job> approvedJobs) {
+        values.clear();
+        keysByJob.clear();
+        for (Job job : approvedJobs) {
+            add(job);
+        }
+        publish();
+        ready = true;
+    }
+
+    @Override
+    public synchronized void index(Job job) {
+        subtract(job.getId());
+        add(job);
+        publish();
+    }
+
+    @Override
+    public synchronized void indexAll(Collection<Job> jobs) {
+        for (Job job : jobs) {
+            subtract(job.getId());
+            add(job);
+        }
+        publish();
+    }
+
+    @Override
+    public synchronized void remove(Long jobId) {
+        if (subtract(jobId)) {
+            publish();
+        }
+    }
+
+    @Override
+    public synchronized void removeAll(Collection<Long> jobIds) {
+        boolean removed = false;
+        for (Long jobId : jobIds) {
+            removed |= subtract(jobId);
+        }
+        if (removed) {
+            publish();
+        }
+    }
+
+    /**
+     * Whether the index has been built.
+     *
+     * @return true once the initial build has completed
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Suggest values starting with the given prefix, most frequent first.
+     *
+     * @param prefix the text typed so far
+     * @param limit the maximum number of suggestions (at most {@value #MAX_SUGGESTIONS})
+     * @return the suggestions; empty if the prefix has no terms
+     */
+    public List<JobSuggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            node = node.child(key.charAt(matched));
+            if (node == null) {
+                return List.of();
+            }
+            int length = Math.min(node.label.length(), key.length() - matched);
+            if (!key.regionMatches(matched, node.label, 0, length)) {
+                return List.of();
+            }
+            matched += length;
+        }
+        return List.of(node.top).subList(0, Math.min(limit, node.top.length));
+    }
+
+    private void add(Job job) {
+        List<String> keys = new ArrayList<>(3);
+        addValue(keys, JobSuggestion.Field.TITLE, job.getTitle());
+        addValue(keys, JobSuggestion.Field.CATEGORY, job.getCategory());
+        addValue(keys, JobSuggestion.Field.LOCATION, job.getLocation());
+        keysByJob.put(job.getId(), keys);
+    }
+
+    private void addValue(List<String> keys, JobSuggestion.Field field, String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        String key = field.name() + ':' + normalized;
+        Value value = values.computeIfAbsent(key, k -> new Value(field, normalized));
+        value.display = text.trim();
+        value.count++;
+        keys.add(key);
+    }
+
+    private boolean subtract(Long jobId) {
+        List<String> keys = keysByJob.remove(jobId);
+        if (keys == null) {
+            return false;
+        }
+        for (String key : keys) {
+            Value value = values.get(key);
+            if (--value.count == 0) {
+                values.remove(key);
+            }
+        }
+        return true;
+    }
+
+    /** Build the trie from the current counts and make it visible to readers. */
+    private void publish() {
+        List<Map.Entry<String, JobSuggestion>> entries = new ArrayList<>();
+        for (Value value : values.values()) {
+            JobSuggestion suggestion = new JobSuggestion(value.display, value.field, value.count);
+            // One trie key per word start: "software developer" and "developer"
+            int start = 0;
+            while (start >= 0) {
+                entries.add(Map.entry(value.normalized.substring(start), suggestion));
+                int space = value.normalized.indexOf(' ', start);
+                start = space < 0 ? -1 : space + 1;
+            }
+        }
+        entries.sort(Map.Entry.comparingByKey());
+        String[] keys = new String[entries.size()];
+        JobSuggestion[] suggestions = new JobSuggestion[entries.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = entries.get(i).getKey();
+            suggestions[i] = entries.get(i).getValue();
+        }
+        root = build(keys, suggestions, 0, keys.length, "", 0);
+    }
+
+    /**
+     * Build the node for the sorted keys in [from, to), which all share their first depth characters.
+     */
+    private static Node build(String[] keys, JobSuggestion[] suggestions, int from, int to, String label, int depth) {
+        Set<JobSuggestion> candidates = new LinkedHashSet<>();
+        int i = from;
+        // Keys ending exactly here sort before their extensions
+        while (i < to && keys[i].length() == depth) {
+            candidates.add(suggestions[i++]);
+        }
+        List<Node> children = new ArrayList<>();
+        while (i < to) {
+            char first = keys[i].charAt(depth);
+            int end = i + 1;
+            while (end < to && keys[end].charAt(depth) == first) {
+                end++;
+            }
+            int common = commonPrefixLength(keys[i], keys[end - 1], depth);
+            Node child = build(keys, suggestions, i, end, keys[i].substring(depth, common), common);
+            children.add(child);
+            candidates.addAll(Arrays.asList(child.top));
+            i = end;
+        }
+        JobSuggestion[] top = candidates.stream()
+                .sorted(BY_FREQUENCY)
+                .limit(MAX_SUGGESTIONS)
+                .toArray(JobSuggestion[]::new);
+        return new Node(label, children.toArray(new Node[0]), top);
+    }
+
+    /** Length of the common prefix of two sorted keys that already agree on their first from characters. */
+    private static int commonPrefixLength(String a, String b, int from) {
+        int max = Math.min(a.length(), b.length());
+        int i = from;
+        while (i < max && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static String normalize(String text) {
+        return String.join(" ", Tokenizer.tokenize(text));
+    }
+
+    /** Job count of one distinct value; mutated only under the index monitor. */
+    private static final class Value {
+        private final JobSuggestion.Field field;
+        private final String normalized;
+        private String display;
+        private long count;
+
+        private Value(JobSuggestion.Field field, String normalized) {
+            this.field = field;
+            this.normalized = normalized;
+        }
+    }
+
+    /** Immutable trie node; the label is the edge from the parent. */
+    private static final class Node {
+        private static final Node EMPTY = new Node("", new Node[0], new JobSuggestion[0]);
+
+        private final String label;
+        private final Node[] children;
+        private final char[] firstChars;
+        private final JobSuggestion[] top;
+
+        private Node(String label, Node[] children, JobSuggestion[] top) {
+            this.label = label;
+            this.children = children;
+            this.top = top;
+            this.firstChars = new char[children.length];
+            for (int i = 0; i < children.length; i++) {
+                firstChars[i] = children[i].label.charAt(0);
+            }
+        }
+
+        private Node child(char c) {
+            int i = Arrays.binarySearch(firstChars, c);
+            return i >= 0 ? children[i] : null;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.dvlpr.CampusJobBoardSystem.search;
+
+import com.dvlpr.CampusJobBoardSystem.entity.Job;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-field term frequencies and lengths of one indexed job, the statistics BM25F scores from.
+ */
+final class JobTerms {
+
+    /** Searchable fields and how much a match in each counts relative to the description. */
+    enum Field {
+        TITLE(3.0), CATEGORY(2.0), LOCATION(1.5), DESCRIPTION(1.0);
+
+        private final double boost;
+
+        Field(double boost) {
+            this.boost = boost;
+        }
+    }
+
+    /** Length normalization strength; 0 ignores field length, 1 fully normalizes by it. */
+    private static final double B = 0.75;
+
+    private final Map<String, int[]> frequencies = new HashMap<>();
+    private final int[] lengths = new int[Field.values().length];
+
+    private JobTerms() {
+    }
+
+    static JobTerms of(Job job) {
+        JobTerms terms = new JobTerms();
+        terms.add(Field.TITLE, job.getTitle());
+        terms.add(Field.CATEGORY, job.getCategory());
+        terms.add(Field.LOCATION, job.getLocation());
+        terms.add(Field.DESCRIPTION, job.getDescription());
+        return terms;
+    }
+
+    Set<String> terms() {
+        return frequencies.keySet();
+    }
+
+    int length(Field field) {
+        return lengths[field.ordinal()];
+    }
+
+    /**
+     * Boosted, length-normalized frequency of a term across all fields (the BM25F pseudo term frequency).
+     *
+     * @param term the indexed term
+     * @param averageLengths average length of each field over all indexed jobs
+     * @return 0 if the job does not contain the term
+     */
+    double weightedFrequency(String term, double[] averageLengths) {
+        int[] counts = frequencies.get(term);
+        if (counts == null) {
+            return 0;
+        }
+        double weighted = 0;
+        for (Field field : Field.values()) {
+            int count = counts[field.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+            double average = averageLengths[field.ordinal()];
+            double relativeLength = average > 0 ? lengths[field.ordinal()] / average : 1;
+            weighted += field.boost * count / (1 - B + B * relativeLength);
+        }
+        return weighted;
+    }
+
+    private void add(Field field, String text) {
+        List<String> tokens = Tokenizer.tokenize(text);
+        lengths[field.ordinal()] = tokens.size();
+        for (String token : tokens) {
+            frequencies.computeIfAbsent(token, t -> new int[Field.values().length])[field.ordinal()]++;
+        }
+    }
+}
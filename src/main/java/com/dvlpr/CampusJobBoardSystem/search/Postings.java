@@ -0,0 +1,88 @@
+package com.dvlpr.CampusJobBoardSystem.search;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Operations on postings lists: strictly ascending arrays of job IDs.
+ * Arrays are treated as immutable; every modification returns a new array.
+ */
+final class Postings {
+
+    static final long[] EMPTY = new long[0];
+
+    private Postings() {
+    }
+
+    /** Return a copy of the list with the ID added (or the same list if already present). */
+    static long[] insert(long[] postings, long id) {
+        int pos = Arrays.binarySearch(postings, id);
+        if (pos >= 0) {
+            return postings;
+        }
+        int insertAt = -pos - 1;
+        long[] result = new long[postings.length + 1];
+        System.arraycopy(postings, 0, result, 0, insertAt);
+        result[insertAt] = id;
+        System.arraycopy(postings, insertAt, result, insertAt + 1, postings.length - insertAt);
+        return result;
+    }
+
+    /** Return a copy of the list without the ID (or the same list if absent). */
+    static long[] remove(long[] postings, long id) {
+        int pos = Arrays.binarySearch(postings, id);
+        if (pos < 0) {
+            return postings;
+        }
+        long[] result = new long[postings.length - 1];
+        System.arraycopy(postings, 0, result, 0, pos);
+        System.arraycopy(postings, pos + 1, result, pos, postings.length - pos - 1);
+        return result;
+    }
+
+    /** Intersect two lists with a linear merge. */
+    static long[] intersect(long[] a, long[] b) {
+        long[] result = new long[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /** Union any number of lists into one ascending, duplicate-free list. */
+    static long[] union(List<long[]> lists) {
+        if (lists.isEmpty()) {
+            return EMPTY;
+        }
+        if (lists.size() == 1) {
+            return lists.get(0);
+        }
+        int total = 0;
+        for (long[] list : lists) {
+            total += list.length;
+        }
+        long[] all = new long[total];
+        int offset = 0;
+        for (long[] list : lists) {
+            System.arraycopy(list, 0, all, offset, list.length);
+            offset += list.length;
+        }
+        Arrays.sort(all);
+        int n = 0;
+        for (int i = 0; i < all.length; i++) {
+            if (n == 0 || all[n - 1] != all[i]) {
+                all[n++] = all[i];
+            }
+        }
+        return Arrays.copyOf(all, n);
+    }
+}
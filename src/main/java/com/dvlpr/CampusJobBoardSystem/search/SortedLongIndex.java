@@ -0,0 +1,153 @@
+package com.dvlpr.CampusJobBoardSystem.search;
+
+import java.util.Arrays;
+
+/**
+ * Immutable (key, job ID) pairs held in two primitive arrays, sorted by key and then by ID.
+ * <p>
+ * A range of keys is located with two binary searches, so a range query costs
+ * O(log n + k) for k matches, and the arrays can be walked in either direction to list
+ * jobs sorted by key. Updates return a modified copy, for use inside a copy-on-write snapshot.
+ */
+final class SortedLongIndex {
+
+    static final SortedLongIndex EMPTY = new SortedLongIndex(new long[0], new long[0]);
+
+    private final long[] keys;
+    private final long[] ids;
+
+    private SortedLongIndex(long[] keys, long[] ids) {
+        this.keys = keys;
+        this.ids = ids;
+    }
+
+    /**
+     * Build an index from unsorted pairs.
+     *
+     * @param keys the keys
+     * @param ids the job IDs, parallel to keys
+     * @return the index
+     */
+    static SortedLongIndex of(long[] keys, long[] ids) {
+        Integer[] order = new Integer[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> compare(keys[a], ids[a], keys[b], ids[b]));
+        long[] sortedKeys = new long[keys.length];
+        long[] sortedIds = new long[ids.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedKeys[i] = keys[order[i]];
+            sortedIds[i] = ids[order[i]];
+        }
+        return new SortedLongIndex(sortedKeys, sortedIds);
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    long keyAt(int position) {
+        return keys[position];
+    }
+
+    long idAt(int position) {
+        return ids[position];
+    }
+
+    /** Copy with the pair added. */
+    SortedLongIndex with(long key, long id) {
+        int position = lowerBound(key, id);
+        long[] newKeys = new long[keys.length + 1];
+        long[] newIds = new long[ids.length + 1];
+        System.arraycopy(keys, 0, newKeys, 0, position);
+        System.arraycopy(ids, 0, newIds, 0, position);
+        newKeys[position] = key;
+        newIds[position] = id;
+        System.arraycopy(keys, position, newKeys, position + 1, keys.length - position);
+        System.arraycopy(ids, position, newIds, position + 1, ids.length - position);
+        return new SortedLongIndex(newKeys, newIds);
+    }
+
+    /** Copy with the pair removed; this index itself if the pair is absent. */
+    SortedLongIndex without(long key, long id) {
+        int position = lowerBound(key, id);
+        if (position == keys.length || keys[position] != key || ids[position] != id) {
+            return this;
+        }
+        long[] newKeys = new long[keys.length - 1];
+        long[] newIds = new long[ids.length - 1];
+        System.arraycopy(keys, 0, newKeys, 0, position);
+        System.arraycopy(ids, 0, newIds, 0, position);
+        System.arraycopy(keys, position + 1, newKeys, position, keys.length - position - 1);
+        System.arraycopy(ids, position + 1, newIds, position, ids.length - position - 1);
+        return new SortedLongIndex(newKeys, newIds);
+    }
+
+    /**
+     * Job IDs whose key lies in the inclusive range.
+     *
+     * @param from lowest key
+     * @param to highest key
+     * @return the IDs in ascending order, ready for {@link Postings#intersect}
+     */
+    long[] idsBetween(long from, long to) {
+        long[] matches = Arrays.copyOfRange(ids, start(from), end(to));
+        Arrays.sort(matches);
+        return matches;
+    }
+
+    /**
+     * Number of jobs whose key lies in the inclusive range, in O(log n).
+     *
+     * @param from lowest key
+     * @param to highest key
+     * @return the count
+     */
+    int countBetween(long from, long to) {
+        return Math.max(0, end(to) - start(from));
+    }
+
+    /** Position of the first pair not before (key, id). */
+    int lowerBound(long key, long id) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(keys[mid], ids[mid], key, id) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** Position of the first pair after (key, id). */
+    int upperBound(long key, long id) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(keys[mid], ids[mid], key, id) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int start(long from) {
+        return lowerBound(from, Long.MIN_VALUE);
+    }
+
+    private int end(long to) {
+        return upperBound(to, Long.MAX_VALUE);
+    }
+
+    private static int compare(long keyA, long idA, long keyB, long idB) {
+        int byKey = Long.compare(keyA, keyB);
+        return byKey != 0 ? byKey : Long.compare(idA, idB);
+    }
+}
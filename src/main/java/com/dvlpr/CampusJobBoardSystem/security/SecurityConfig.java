@@ -35,6 +35,7 @@ public class SecurityConfig {
      * <li>ADMIN: /admin/**</li>
      * <li>EMPLOYER: /employer/**</li>
      * <li>STUDENT: /student/**</li>
+     * <li>ADMIN: /actuator/** except /actuator/health</li>
      * </ul>
      *
      * @param http HttpSecurity to configure
@@ -49,11 +50,14 @@ public class SecurityConfig {
                         .requestMatchers("/", "/login", "/register", "/saveUser").permitAll()
                         .requestMatchers("/css/**", "/js/**", "/images/**", "/webjars/**").permitAll()
                         .requestMatchers("/error").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
 
                         // Role-based Endpoints
                         .requestMatchers("/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/api/jobs/plan").hasRole("ADMIN")
                         .requestMatchers("/employer/**").hasRole("EMPLOYER")
                         .requestMatchers("/student/**").hasRole("STUDENT")
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                         // All other requests require authentication
                         .anyRequest().authenticated()
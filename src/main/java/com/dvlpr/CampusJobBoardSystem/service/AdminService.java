@@ -1,12 +1,17 @@
 package com.dvlpr.CampusJobBoardSystem.service;
 
+import com.dvlpr.CampusJobBoardSystem.dto.UserSearchCriteria;
 import com.dvlpr.CampusJobBoardSystem.entity.User;
 import com.dvlpr.CampusJobBoardSystem.entity.UserStatus;
 import com.dvlpr.CampusJobBoardSystem.exception.ResourceNotFoundException;
 import com.dvlpr.CampusJobBoardSystem.repository.UserRepository;
+import com.dvlpr.CampusJobBoardSystem.repository.UserSpecifications;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.Collection;
 
 /**
  * Service for admin user management operations.
@@ -14,18 +19,38 @@ import java.util.List;
 @Service
 public class AdminService {
 
+    /** Users per page when the request does not say. */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /** Most users returned on one page. */
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private static final java.util.logging.Logger logger = java.util.logging.Logger.getLogger(AdminService.class.getName());
+
     private final UserRepository userRepository;
 
     public AdminService(UserRepository userRepository) {
         this.userRepository = userRepository;
     }
 
-    /** Get all users. */
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    /**
+     * Get one page of users matching the filters, newest registrations first.
+     *
+     * @param criteria the filters
+     * @param page the zero-based page number
+     * @param size the page size, clamped to [1, {@value #MAX_PAGE_SIZE}]
+     * @return the page, with the total number of matching users
+     */
+    @Transactional(readOnly = true)
+    public Page<User> findUsers(UserSearchCriteria criteria, int page, int size) {
+        criteria.validate();
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+                UserSpecifications.NEWEST_FIRST);
+        return userRepository.findAll(UserSpecifications.matching(criteria), pageable);
     }
 
     /** Activate a user account. */
+    @Transactional
     public void activateUser(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -34,10 +59,47 @@ public class AdminService {
     }
 
     /** Deactivate a user account. */
+    @Transactional
     public void deactivateUser(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         user.setStatus(UserStatus.INACTIVE);
         userRepository.save(user);
     }
+
+    /**
+     * Set the status of the selected users in one UPDATE. Admin accounts are skipped.
+     *
+     * @param userIds the selected users
+     * @param status the new status
+     * @return the number of users changed
+     */
+    @Transactional
+    public int updateStatus(Collection<Long> userIds, UserStatus status) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        int changed = userRepository.updateStatus(UserSpecifications.idIn(userIds), status);
+        logger.info(String.format("Set %d of %d selected users to %s", changed, userIds.size(), status));
+        return changed;
+    }
+
+    /**
+     * Set the status of every user matching the filters in one UPDATE. Admin accounts are skipped.
+     *
+     * @param criteria the filters; at least one must be set
+     * @param status the new status
+     * @return the number of users changed
+     * @throws IllegalArgumentException if no filter is set or the date range is inverted
+     */
+    @Transactional
+    public int updateStatus(UserSearchCriteria criteria, UserStatus status) {
+        if (criteria.isEmpty()) {
+            throw new IllegalArgumentException("Set at least one filter before changing users in bulk");
+        }
+        criteria.validate();
+        int changed = userRepository.updateStatus(UserSpecifications.matching(criteria), status);
+        logger.info(String.format("Set %d matching users to %s", changed, status));
+        return changed;
+    }
 }
@@ -0,0 +1,205 @@
+package com.dvlpr.CampusJobBoardSystem.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Per-job application counts for the dashboards, kept in memory and in {@code job.application_count}.
+ * <p>
+ * A job's live count is the count known to be stored plus a {@link LongAdder} of the applications
+ * counted since, so concurrent applicants for the same job do not contend on a single counter.
+ * The deltas are flushed periodically as one JDBC batch of relative {@code UPDATE}s. Applications
+ * written by the write-behind queue are never counted one by one; instead the queue has the jobs
+ * of each committed batch recounted from {@code job_application}. A slower reconciliation recounts
+ * every job to correct remaining drift, e.g. from deltas lost in a crash. None of these do more than
+ * add to or subtract from the adders, so increments made while they run are never lost.
+ * Dashboards read the live counts and never run {@code COUNT(*)}.
+ */
+@Service
+public class ApplicationCounter {
+
+    private static final java.util.logging.Logger logger = java.util.logging.Logger.getLogger(ApplicationCounter.class.getName());
+
+    private static final String ADD = "UPDATE job SET application_count = application_count + ? WHERE job_id = ?";
+    private static final String RECOUNT = "(SELECT COUNT(*) FROM job_application a WHERE a.job_id = j.job_id)";
+    private static final String RECONCILE = "UPDATE job j SET application_count = " + RECOUNT
+            + " WHERE j.application_count <> " + RECOUNT + " AND ";
+    private static final String COUNTS = "SELECT j.job_id, j.application_count FROM job j WHERE ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobChangeTracker jobChangeTracker;
+    private final Map<Long, AtomicLong> stored = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> unflushed = new ConcurrentHashMap<>();
+
+    public ApplicationCounter(JdbcTemplate jdbcTemplate, JobChangeTracker jobChangeTracker) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobChangeTracker = jobChangeTracker;
+    }
+
+    /**
+     * Count one new application.
+     *
+     * @param jobId the job applied for
+     */
+    public void increment(Long jobId) {
+        unflushed.computeIfAbsent(jobId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * Current application count of a job.
+     *
+     * @param jobId the job ID
+     * @return the count, including applications not yet flushed
+     */
+    public long get(Long jobId) {
+        AtomicLong count = stored.get(jobId);
+        LongAdder delta = unflushed.get(jobId);
+        return (count != null ? count.get() : 0) + (delta != null ? delta.sum() : 0);
+    }
+
+    /**
+     * Current application counts of several jobs.
+     *
+     * @param jobIds the job IDs
+     * @return the count of every given job, zero if it has no applications
+     */
+    public Map<Long, Long> countsFor(Collection<Long> jobIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Long jobId : jobIds) {
+            counts.put(jobId, get(jobId));
+        }
+        return counts;
+    }
+
+    /**
+     * Current number of applications across all jobs.
+     *
+     * @return the total
+     */
+    public long total() {
+        long sum = 0;
+        for (AtomicLong count : stored.values()) {
+            sum += count.get();
+        }
+        for (LongAdder delta : unflushed.values()) {
+            sum += delta.sum();
+        }
+        return sum;
+    }
+
+    /**
+     * Write the deltas counted since the last flush in a single batch.
+     * Deltas that cannot be written are kept for the next flush.
+     */
+    @Scheduled(fixedDelayString = "${app.applications.counter-flush:10s}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = snapshot();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> batch = new ArrayList<>();
+        deltas.forEach((jobId, delta) -> batch.add(new Object[]{delta, jobId}));
+        try {
+            jdbcTemplate.batchUpdate(ADD, batch);
+        } catch (DataAccessException e) {
+            logger.warning("Could not flush application counts, will retry: " + e.getMessage());
+            return;
+        }
+        deltas.forEach(this::moveToStored);
+    }
+
+    /**
+     * Correct every stored count that differs from the real number of applications and rebase
+     * the live counts on the recount.
+     * <p>
+     * The deltas counted before the recount are applications it already includes, so they are
+     * dropped rather than flushed; only the increments made after that point stay on top of it.
+     * An application inserted just before the recount but counted just after it is counted twice
+     * until the next reconciliation.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.applications.counter-reconcile:15m}",
+            fixedDelayString = "${app.applications.counter-reconcile:15m}")
+    public synchronized void reconcile() {
+        int corrected = rebase(jobId -> true, "1 = 1");
+        if (corrected > 0) {
+            jobChangeTracker.allEmployersChanged();
+            logger.info(String.format("Corrected the application count of %d jobs", corrected));
+        }
+    }
+
+    /**
+     * Recount the applications of some jobs, e.g. those the write-behind queue just inserted
+     * applications for, and rebase their live counts on the recount as {@link #reconcile()} does.
+     * The caller is expected to have told the employer pages about the new applications.
+     *
+     * @param jobIds the jobs to recount
+     */
+    public synchronized void recount(Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        Set<Long> jobs = Set.copyOf(jobIds);
+        String placeholders = String.join(", ", Collections.nCopies(jobs.size(), "?"));
+        rebase(jobs::contains, "j.job_id IN (" + placeholders + ")", jobs.toArray());
+    }
+
+    /**
+     * Store the real application count of the jobs matching the condition and make it their
+     * stored count, dropping the deltas counted before, which the recount already includes.
+     *
+     * @return the number of stored counts that were wrong
+     */
+    private int rebase(Predicate<Long> covered, String condition, Object... args) {
+        Map<Long, Long> counted = snapshot();
+        counted.keySet().removeIf(covered.negate());
+        counted.forEach(this::moveToStored);
+        int corrected;
+        Map<Long, Long> recount = new HashMap<>();
+        try {
+            corrected = jdbcTemplate.update(RECONCILE + condition, args);
+            jdbcTemplate.query(COUNTS + condition, rs -> { recount.put(rs.getLong(1), rs.getLong(2)); }, args);
+        } catch (DataAccessException e) {
+            // Not written anywhere yet, so hand them back to the next flush
+            counted.forEach((jobId, delta) -> moveToStored(jobId, -delta));
+            throw e;
+        }
+        recount.forEach((jobId, count) -> stored.computeIfAbsent(jobId, id -> new AtomicLong()).set(count));
+        stored.keySet().removeIf(jobId -> covered.test(jobId) && !recount.containsKey(jobId));
+        return corrected;
+    }
+
+    private Map<Long, Long> snapshot() {
+        Map<Long, Long> deltas = new HashMap<>();
+        unflushed.forEach((jobId, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                deltas.put(jobId, delta);
+            }
+        });
+        return deltas;
+    }
+
+    /** Shift a delta from the unflushed adder to the stored count; concurrent increments are kept. */
+    private void moveToStored(Long jobId, long delta) {
+        stored.computeIfAbsent(jobId, id -> new AtomicLong()).addAndGet(delta);
+        unflushed.computeIfAbsent(jobId, id -> new LongAdder()).add(-delta);
+    }
+}
@@ -0,0 +1,331 @@
+package com.dvlpr.CampusJobBoardSystem.service;
+
+import com.dvlpr.CampusJobBoardSystem.exception.ApplicationQueueFullException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+/**
+ * Write-behind ingestion of job applications for deadline surges.
+ * <p>
+ * An accepted application is appended to a local {@link ApplicationJournal} and put on a bounded
+ * queue, then forced to disk together with whatever other submitters appended meanwhile; the
+ * student is told it is pending. A single writer thread drains the queue
+ * into multi-row {@code INSERT ... SELECT} statements, waiting up to the group-commit window
+ * for a burst to fill a batch, so a whole batch costs one round trip and one commit. Repeats within
+ * a batch are dropped first, and each row only inserts if the job is approved and open and the
+ * student has not applied yet, which also makes replaying the journal after a crash safe; rows
+ * skipped that way are counted and logged. A batch the database rejects, e.g. for a student deleted
+ * meanwhile or a concurrent direct application, is retried row by row and only the offending rows
+ * are dropped. After each committed batch the {@link ApplicationCounter} recounts the batch's jobs
+ * and the journal moves on to a new segment, deleting the segments whose entries are all saved. When
+ * the queue is full, new applications are refused rather than buffered.
+ * <p>
+ * Enabled with {@code app.applications.write-behind.enabled=true}.
+ */
+@Service
+@ConditionalOnProperty(name = "app.applications.write-behind.enabled", havingValue = "true")
+public class ApplicationIngestionQueue {
+
+    private static final java.util.logging.Logger logger = java.util.logging.Logger.getLogger(ApplicationIngestionQueue.class.getName());
+
+    private static final String INSERT = "INSERT INTO job_application (job_id, student_id, status, applied_at) ";
+    // Parameters in a UNION select list need explicit types
+    private static final String ROW = "SELECT j.job_id, CAST(? AS DECIMAL(19)), 'SUBMITTED', CAST(? AS DATETIME) "
+            + "FROM job j WHERE j.job_id = ? AND j.status = 'APPROVED' AND (j.deadline IS NULL OR j.deadline >= CURRENT_DATE) "
+            + "AND NOT EXISTS (SELECT 1 FROM job_application a WHERE a.job_id = j.job_id AND a.student_id = ?)";
+    private static final long RETRY_DELAY_MILLIS = 1000;
+
+    /** An application accepted into the queue. */
+    record PendingApplication(long jobId, long studentId, LocalDateTime appliedAt) {
+
+        /** Identifies the application regardless of when it was submitted. */
+        List<Long> key() {
+            return List.of(jobId, studentId);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobChangeTracker jobChangeTracker;
+    private final ApplicationCounter applicationCounter;
+    private final BlockingQueue<PendingApplication> queue;
+    private final ApplicationJournal journal;
+    private final int batchSize;
+    private final long groupCommitNanos;
+    private final AtomicLong flushed = new AtomicLong();
+    private final Object lock = new Object();
+    private volatile boolean running;
+    private Thread writer;
+
+    public ApplicationIngestionQueue(JdbcTemplate jdbcTemplate, JobChangeTracker jobChangeTracker,
+                                     ApplicationCounter applicationCounter,
+                                     @Value("${app.applications.write-behind.journal:data/application-journal.log}") Path journalPath,
+                                     @Value("${app.applications.write-behind.capacity:10000}") int capacity,
+                                     @Value("${app.applications.write-behind.batch-size:200}") int batchSize,
+                                     @Value("${app.applications.write-behind.group-commit:50ms}") Duration groupCommit) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobChangeTracker = jobChangeTracker;
+        this.applicationCounter = applicationCounter;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.groupCommitNanos = groupCommit.toNanos();
+        try {
+            this.journal = new ApplicationJournal(journalPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open application journal " + journalPath, e);
+        }
+    }
+
+    /**
+     * Write applications left in the journal by a previous run, then start the writer thread.
+     */
+    @PostConstruct
+    public void start() {
+        try {
+            List<PendingApplication> recovered = journal.readAll();
+            for (int from = 0; from < recovered.size(); from += batchSize) {
+                flush(recovered.subList(from, Math.min(from + batchSize, recovered.size())));
+            }
+            journal.clear();
+            if (!recovered.isEmpty()) {
+                logger.info(String.format("Recovered %d applications from the journal", recovered.size()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot recover application journal", e);
+        }
+        running = true;
+        writer = new Thread(this::drain, "application-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Stop accepting applications and write out everything already accepted.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        synchronized (lock) {
+            running = false;
+            if (writer != null) {
+                // Only under the lock: the writer holds it around journal I/O, which an interrupt would abort
+                writer.interrupt();
+            }
+        }
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        journal.close();
+    }
+
+    /**
+     * Accept an application for writing later. Returns once it is durable in the journal.
+     *
+     * @param jobId the job applied for
+     * @param studentId the applying student's user ID
+     * @throws ApplicationQueueFullException if the queue is full or no longer accepting applications
+     */
+    public void submit(long jobId, long studentId) {
+        PendingApplication application = new PendingApplication(jobId, studentId, LocalDateTime.now());
+        long ticket;
+        try {
+            synchronized (lock) {
+                // Only the writer removes entries, so capacity checked here cannot shrink before add
+                if (!running || queue.remainingCapacity() == 0) {
+                    throw new ApplicationQueueFullException(
+                            "Applications are arriving faster than they can be saved. Please try again in a moment.");
+                }
+                // Journal and queue in the same order, which is how the writer releases journal entries
+                ticket = journal.append(application);
+                queue.add(application);
+            }
+            // Outside the lock, so one force covers everyone who appended meanwhile
+            journal.sync(ticket);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write application journal", e);
+        }
+    }
+
+    /**
+     * Number of applications accepted but not yet written to the database.
+     *
+     * @return the queue length
+     */
+    public int pending() {
+        return queue.size();
+    }
+
+    /**
+     * Number of applications written to the database since startup, including repeats that were dropped.
+     *
+     * @return the count
+     */
+    public long flushed() {
+        return flushed.get();
+    }
+
+    /** Writer loop: take a batch, flush it, retry the same batch after a failure. */
+    private void drain() {
+        List<PendingApplication> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            try {
+                if (batch.isEmpty() && !fill(batch)) {
+                    continue;
+                }
+                flush(batch);
+                int saved = batch.size();
+                batch.clear();
+                releaseJournal(saved);
+            } catch (InterruptedException e) {
+                // Interrupted by stop(): keep looping until everything accepted is flushed
+            } catch (RuntimeException | IOException e) {
+                logger.log(Level.SEVERE, String.format("Failed to write %d applications; retrying", batch.size()), e);
+                if (!running) {
+                    // Left in the journal for the next start
+                    return;
+                }
+                sleepBeforeRetry();
+            }
+        }
+    }
+
+    /**
+     * Wait for the first application, then give a burst up to the group-commit window to fill the batch.
+     *
+     * @return false if nothing arrived
+     */
+    private boolean fill(List<PendingApplication> batch) throws InterruptedException {
+        PendingApplication first = running ? queue.poll(1, TimeUnit.SECONDS) : queue.poll();
+        if (first == null) {
+            return false;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + groupCommitNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                break;
+            }
+            PendingApplication next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return true;
+    }
+
+    /**
+     * Insert the batch in one statement, hence one commit. If the database rejects it as invalid,
+     * insert row by row and drop the rows it still rejects, so one bad row cannot block the queue.
+     */
+    private void flush(List<PendingApplication> batch) {
+        try {
+            insert(batch);
+        } catch (DataIntegrityViolationException e) {
+            if (batch.size() == 1) {
+                logger.warning(String.format("Dropping application of student %d for job %d: %s",
+                        batch.get(0).studentId(), batch.get(0).jobId(), e.getMostSpecificCause().getMessage()));
+                flushed.incrementAndGet();
+                return;
+            }
+            for (PendingApplication application : batch) {
+                flush(List.of(application));
+            }
+            return;
+        }
+        flushed.addAndGet(batch.size());
+    }
+
+    private void insert(List<PendingApplication> batch) {
+        Map<List<Long>, PendingApplication> distinct = new LinkedHashMap<>();
+        for (PendingApplication application : batch) {
+            distinct.putIfAbsent(application.key(), application);
+        }
+        StringBuilder sql = new StringBuilder(INSERT.length() + distinct.size() * (ROW.length() + 11)).append(INSERT);
+        Object[] args = new Object[distinct.size() * 4];
+        int i = 0;
+        for (PendingApplication application : distinct.values()) {
+            sql.append(i == 0 ? "" : " UNION ALL ").append(ROW);
+            args[i * 4] = application.studentId();
+            args[i * 4 + 1] = application.appliedAt();
+            args[i * 4 + 2] = application.jobId();
+            args[i * 4 + 3] = application.studentId();
+            i++;
+        }
+        int inserted = jdbcTemplate.update(sql.toString(), args);
+        if (inserted > 0) {
+            // Employer pages list the new applications
+            jobChangeTracker.allEmployersChanged();
+            recount(distinct.values());
+        }
+        if (inserted < distinct.size()) {
+            logger.info(String.format("Skipped %d of %d applications: already applied for, or the job is no longer open",
+                    distinct.size() - inserted, distinct.size()));
+        }
+        logger.fine(() -> String.format("Flushed %d applications (%d new)", batch.size(), inserted));
+    }
+
+    /** Bring the counts of the batch's jobs up to date; the batch is committed, so a failure must not retry it. */
+    private void recount(Collection<PendingApplication> applications) {
+        Set<Long> jobIds = new HashSet<>();
+        for (PendingApplication application : applications) {
+            jobIds.add(application.jobId());
+        }
+        try {
+            applicationCounter.recount(jobIds);
+        } catch (DataAccessException e) {
+            logger.warning("Could not recount applications, the next reconciliation will: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Drop a flushed batch from the journal. Only switching to a new segment needs the lock that
+     * submitters append under; the old segments are deleted after it is released.
+     */
+    private void releaseJournal(int saved) throws IOException {
+        synchronized (lock) {
+            // A pending interrupt from stop() would close the new segment's channel as it is opened
+            boolean interrupted = Thread.interrupted();
+            try {
+                journal.roll();
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        journal.release(saved);
+    }
+
+    private static void sleepBeforeRetry() {
+        try {
+            Thread.sleep(RETRY_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            // stop() was called; the loop exits once it sees running is false
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.dvlpr.CampusJobBoardSystem.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Append-only local files of applications accepted but not yet written to the database.
+ * <p>
+ * Each entry is one {@code jobId,studentId,appliedAt} line. The journal is a sequence of segment
+ * files next to the configured path ({@code <name>.1}, {@code <name>.2}, ...): entries go to the
+ * newest one, the writer starts a new one after each flushed batch, and a segment is deleted once
+ * every entry in it is in the database, so nothing is ever rewritten.
+ * <p>
+ * Appending does not force the file; {@link #sync(long)} does, and concurrent callers share one
+ * force: the first to arrive forces everything appended so far while the others wait for it.
+ * Appending and rolling must be serialized by the caller; releasing and clearing are only done by
+ * {@link ApplicationIngestionQueue}'s writer thread.
+ */
+final class ApplicationJournal implements AutoCloseable {
+
+    private static final java.util.logging.Logger logger = java.util.logging.Logger.getLogger(ApplicationJournal.class.getName());
+
+    /** One segment file and the entries appended to it. */
+    private static final class Segment {
+
+        final Path path;
+        final FileChannel channel;
+        /** Entries appended; written under the caller's append lock. */
+        int entries;
+        /** Entries known to be in the database; writer thread only. */
+        int released;
+        /** Ticket of the last entry appended. */
+        volatile long lastTicket;
+        /** Ticket of the last entry forced to disk; sync leader only. */
+        long forcedTicket;
+        volatile boolean deleted;
+
+        Segment(Path path) throws IOException {
+            this.path = path;
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+        }
+    }
+
+    private final Path directory;
+    private final String prefix;
+    private final Deque<Segment> segments = new ConcurrentLinkedDeque<>();
+    private final Object syncMonitor = new Object();
+    private long nextSegment = 1;
+    /** Set when a segment was created; its directory entry is forced with the next sync. */
+    private volatile boolean directoryChanged = true;
+    private volatile long appended;
+    private long durable;
+    private boolean syncing;
+
+    ApplicationJournal(Path path) throws IOException {
+        this.directory = path.toAbsolutePath().getParent();
+        this.prefix = path.getFileName() + ".";
+        Files.createDirectories(directory);
+        List<Path> existing = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*")) {
+            for (Path file : files) {
+                if (segmentNumber(file) > 0) {
+                    existing.add(file);
+                }
+            }
+        }
+        existing.sort(Comparator.comparingLong(this::segmentNumber));
+        for (Path file : existing) {
+            segments.add(new Segment(file));
+            nextSegment = segmentNumber(file) + 1;
+        }
+        segments.add(new Segment(nextSegmentPath()));
+    }
+
+    /**
+     * Read the entries left by a previous run. A torn last line from a crash mid-write is skipped.
+     *
+     * @return the entries in the order they were accepted
+     */
+    List<ApplicationIngestionQueue.PendingApplication> readAll() throws IOException {
+        List<ApplicationIngestionQueue.PendingApplication> entries = new ArrayList<>();
+        for (Segment segment : segments) {
+            for (String line : Files.readAllLines(segment.path, StandardCharsets.UTF_8)) {
+                String[] fields = line.split(",");
+                try {
+                    entries.add(new ApplicationIngestionQueue.PendingApplication(Long.parseLong(fields[0]),
+                            Long.parseLong(fields[1]), LocalDateTime.parse(fields[2])));
+                } catch (RuntimeException e) {
+                    logger.warning("Skipping unreadable application journal entry: " + line);
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Append an entry to the newest segment without forcing it to disk.
+     *
+     * @return the ticket to pass to {@link #sync(long)}
+     */
+    long append(ApplicationIngestionQueue.PendingApplication entry) throws IOException {
+        Segment active = segments.getLast();
+        String line = entry.jobId() + "," + entry.studentId() + "," + entry.appliedAt() + "\n";
+        ByteBuffer bytes = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+        while (bytes.hasRemaining()) {
+            active.channel.write(bytes);
+        }
+        active.entries++;
+        long ticket = appended + 1;
+        active.lastTicket = ticket;
+        appended = ticket;
+        return ticket;
+    }
+
+    /**
+     * Wait until the entry with the given ticket is on disk, forcing it and every entry appended
+     * before the force started unless another caller is already doing so.
+     */
+    void sync(long ticket) throws IOException {
+        boolean interrupted = false;
+        synchronized (syncMonitor) {
+            while (durable < ticket && syncing) {
+                try {
+                    syncMonitor.wait();
+                } catch (InterruptedException e) {
+                    // An interrupted force would close the channel for every submitter
+                    interrupted = true;
+                }
+            }
+            if (durable >= ticket) {
+                restoreInterrupt(interrupted);
+                return;
+            }
+            syncing = true;
+        }
+        long target = appended;
+        boolean forced = false;
+        try {
+            if (directoryChanged) {
+                directoryChanged = false;
+                forceDirectory();
+            }
+            for (Segment segment : segments) {
+                long last = segment.lastTicket;
+                if (last > segment.forcedTicket) {
+                    force(segment);
+                    segment.forcedTicket = last;
+                }
+            }
+            forced = true;
+        } finally {
+            synchronized (syncMonitor) {
+                if (forced) {
+                    durable = Math.max(durable, target);
+                }
+                syncing = false;
+                syncMonitor.notifyAll();
+            }
+            restoreInterrupt(interrupted);
+        }
+    }
+
+    /**
+     * Start a new segment for the entries appended from now on, if the newest one has any.
+     * Only creates a file, so it is cheap enough to run under the caller's append lock.
+     */
+    void roll() throws IOException {
+        if (segments.getLast().entries > 0) {
+            segments.add(new Segment(nextSegmentPath()));
+            directoryChanged = true;
+        }
+    }
+
+    /**
+     * Record that the oldest entries are in the database and delete the segments that held only
+     * such entries. Entries are released in the order they were appended, and only entries
+     * appended before the last {@link #roll()}, so the newest segment is never deleted.
+     *
+     * @param count the number of entries now in the database
+     */
+    void release(int count) throws IOException {
+        while (count > 0 && segments.size() > 1) {
+            Segment oldest = segments.getFirst();
+            int released = Math.min(count, oldest.entries - oldest.released);
+            oldest.released += released;
+            count -= released;
+            if (oldest.released < oldest.entries) {
+                return;
+            }
+            delete(segments.removeFirst());
+        }
+    }
+
+    /** Discard every entry; called once all of them are in the database. */
+    void clear() throws IOException {
+        while (segments.size() > 1) {
+            delete(segments.removeFirst());
+        }
+        Segment active = segments.getLast();
+        active.channel.truncate(0);
+        active.channel.position(0);
+        active.channel.force(true);
+        active.entries = 0;
+        active.released = 0;
+    }
+
+    private static void force(Segment segment) throws IOException {
+        try {
+            segment.channel.force(false);
+        } catch (ClosedChannelException e) {
+            // Released meanwhile: its entries are in the database
+            if (!segment.deleted) {
+                throw e;
+            }
+        }
+    }
+
+    /** Make new segment files survive a crash; not every platform can open a directory, hence best effort. */
+    private void forceDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.fine(() -> "Cannot force journal directory: " + e.getMessage());
+        }
+    }
+
+    private static void delete(Segment segment) throws IOException {
+        segment.deleted = true;
+        segment.channel.close();
+        Files.deleteIfExists(segment.path);
+    }
+
+    private static void restoreInterrupt(boolean interrupted) {
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Path nextSegmentPath() {
+        return directory.resolve(prefix + nextSegment++);
+    }
+
+    /** The segment number in a file name, or 0 if the file is not a segment of this journal. */
+    private long segmentNumber(Path file) {
+        String suffix = file.getFileName().toString().substring(prefix.length());
+        return !suffix.isEmpty() && suffix.chars().allMatch(Character::isDigit) ? Long.parseLong(suffix) : 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Segment segment : segments) {
+            segment.channel.close();
+        }
+    }
+}
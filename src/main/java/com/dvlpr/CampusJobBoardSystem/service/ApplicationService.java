@@ -1,16 +1,21 @@
 package com.dvlpr.CampusJobBoardSystem.service;
 
-import com.dvlpr.CampusJobBoardSystem.entity.Job;
 import com.dvlpr.CampusJobBoardSystem.entity.JobApplication;
 import com.dvlpr.CampusJobBoardSystem.entity.User;
 import com.dvlpr.CampusJobBoardSystem.exception.DuplicateApplicationException;
 import com.dvlpr.CampusJobBoardSystem.exception.ResourceNotFoundException;
 import com.dvlpr.CampusJobBoardSystem.repository.JobApplicationRepository;
-import com.dvlpr.CampusJobBoardSystem.repository.JobRepository;
 import com.dvlpr.CampusJobBoardSystem.repository.UserRepository;
+import com.dvlpr.CampusJobBoardSystem.search.ApprovedJobCatalog;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service for job application operations.
@@ -19,42 +24,114 @@ import java.util.List;
 public class ApplicationService {
 
     private final JobApplicationRepository applicationRepository;
-    private final JobRepository jobRepository;
     private final UserRepository userRepository;
+    private final ApprovedJobCatalog approvedJobCatalog;
+    private final ApplicationCounter applicationCounter;
+    private final JobChangeTracker jobChangeTracker;
+    /** Null unless write-behind ingestion is enabled. */
+    private final ApplicationIngestionQueue ingestionQueue;
 
-    public ApplicationService(JobApplicationRepository applicationRepository,
-                              JobRepository jobRepository, UserRepository userRepository) {
+    public ApplicationService(JobApplicationRepository applicationRepository, UserRepository userRepository,
+                              ApprovedJobCatalog approvedJobCatalog, ApplicationCounter applicationCounter,
+                              JobChangeTracker jobChangeTracker,
+                              ObjectProvider<ApplicationIngestionQueue> ingestionQueue) {
         this.applicationRepository = applicationRepository;
-        this.jobRepository = jobRepository;
         this.userRepository = userRepository;
+        this.approvedJobCatalog = approvedJobCatalog;
+        this.applicationCounter = applicationCounter;
+        this.jobChangeTracker = jobChangeTracker;
+        this.ingestionQueue = ingestionQueue.getIfAvailable();
     }
 
-    /** Apply for a job (prevents duplicates). */
-    public void applyForJob(Long jobId, String studentEmail) {
-        User student = userRepository.findByEmail(studentEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
+    /**
+     * Submit a student's application: straight to the database, or through the write-behind
+     * queue when it is enabled. Queued applications for jobs that are not approved are refused
+     * up front from the in-memory catalog; repeats are dropped when the queue is flushed.
+     *
+     * @param jobId the job to apply for
+     * @param studentId the signed-in student's user ID
+     * @return true if the application was queued and is still pending, false if it was saved
+     * @throws DuplicateApplicationException if saved directly and the student already applied
+     * @throws ResourceNotFoundException if the job does not exist or is not approved
+     * @throws com.dvlpr.CampusJobBoardSystem.exception.ApplicationQueueFullException if the queue is full
+     */
+    public boolean submitApplication(Long jobId, Long studentId) {
+        if (ingestionQueue == null) {
+            applyForJob(jobId, studentId);
+            return false;
+        }
+        if (approvedJobCatalog.isReady() && approvedJobCatalog.findById(jobId).isEmpty()) {
+            throw new ResourceNotFoundException("Job not found or no longer open for applications");
+        }
+        ingestionQueue.submit(jobId, studentId);
+        return true;
+    }
 
-        if (applicationRepository.findByJobIdAndStudentId(jobId, student.getId()).isPresent()) {
-            throw new DuplicateApplicationException("You have already applied for this job");
+    /**
+     * Apply for a job in a single statement. The student comes from the authenticated principal,
+     * so nothing is looked up first; the job status is checked by the insert itself and
+     * duplicates are caught by the unique constraint, which also settles concurrent double clicks.
+     *
+     * @param jobId the job to apply for
+     * @param studentId the signed-in student's user ID
+     * @throws DuplicateApplicationException if the student already applied for the job
+     * @throws ResourceNotFoundException if the job does not exist or is not approved
+     */
+    public void applyForJob(Long jobId, Long studentId) {
+        int inserted;
+        try {
+            inserted = applicationRepository.insertForApprovedJob(jobId, studentId);
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueViolation(e)) {
+                throw new DuplicateApplicationException("You have already applied for this job");
+            }
+            throw e;
+        }
+        if (inserted == 0) {
+            throw new ResourceNotFoundException("Job not found or no longer open for applications");
         }
+        applicationCounter.increment(jobId);
+        // The applicant count on the employer's dashboard changed
+        approvedJobCatalog.findById(jobId).ifPresentOrElse(
+                job -> jobChangeTracker.employerChanged(job.employerEmail()),
+                jobChangeTracker::allEmployersChanged);
+    }
+
+    /**
+     * Application counts of several jobs, from the in-memory counters.
+     *
+     * @param jobIds the job IDs
+     * @return the count of every given job
+     */
+    public Map<Long, Long> getApplicationCounts(Collection<Long> jobIds) {
+        return applicationCounter.countsFor(jobIds);
+    }
 
-        JobApplication application = new JobApplication();
-        application.setJob(job);
-        application.setStudent(student);
-        applicationRepository.save(application);
+    /** Total number of applications across all jobs, from the in-memory counters. */
+    public long getTotalApplications() {
+        return applicationCounter.total();
     }
 
     /** Get applications for a job (employer view). */
+    @Transactional(readOnly = true)
     public List<JobApplication> getApplicationsForJob(Long jobId) {
         return applicationRepository.findByJobIdWithStudent(jobId);
     }
 
     /** Get student's applications with job details. */
+    @Transactional(readOnly = true)
     public List<JobApplication> getStudentApplications(String studentEmail) {
         User student = userRepository.findByEmail(studentEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
         return applicationRepository.findByStudentIdWithJob(student.getId());
     }
-}
\ No newline at end of file
+
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE;
+            }
+        }
+        return false;
+    }
+}
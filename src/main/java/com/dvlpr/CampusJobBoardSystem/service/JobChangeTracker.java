@@ -0,0 +1,117 @@
+package com.dvlpr.CampusJobBoardSystem.service;
+
+import com.dvlpr.CampusJobBoardSystem.dto.JobView;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory change versions of the job pages, used to answer conditional GETs with 304.
+ * <p>
+ * One version covers everything students see (the approved jobs, their facets and details);
+ * each employer has a version covering their dashboard, including its applicant counts; and a
+ * job's details page is tagged with the job's own {@code version} column. Every job mutation
+ * bumps the versions it affects once its transaction commits, so a page rendered before the
+ * commit is never tagged with the new version. Versions restart at startup with a new
+ * timestamp, which invalidates everything clients cached before.
+ */
+@Component
+public class JobChangeTracker {
+
+    /**
+     * A change counter and the time of its last change.
+     *
+     * @param value increases with every change
+     * @param lastModified epoch milliseconds of the last change
+     */
+    public record ChangeVersion(long value, long lastModified) {
+
+        private ChangeVersion next() {
+            return new ChangeVersion(value + 1, Math.max(System.currentTimeMillis(), lastModified));
+        }
+
+        /**
+         * Weak entity tag for a page with this version.
+         *
+         * @param scope the page
+         * @param viewer distinguishes what different viewers of the same page see
+         * @return the tag
+         */
+        public String etag(String scope, String viewer) {
+            return "W/\"" + scope + "-" + Long.toString(lastModified, 36) + "-" + value + "-" + viewer + "\"";
+        }
+    }
+
+    private final ChangeVersion initial = new ChangeVersion(0, System.currentTimeMillis());
+    private final AtomicReference<ChangeVersion> approved = new AtomicReference<>(initial);
+    private final AtomicReference<ChangeVersion> allEmployers = new AtomicReference<>(initial);
+    private final Map<String, ChangeVersion> employers = new ConcurrentHashMap<>();
+
+    /**
+     * Version of the pages students see.
+     *
+     * @return the current version
+     */
+    public ChangeVersion approvedVersion() {
+        return approved.get();
+    }
+
+    /**
+     * Version of an employer's dashboard.
+     *
+     * @param employerEmail the employer's login email
+     * @return the current version
+     */
+    public ChangeVersion employerVersion(String employerEmail) {
+        ChangeVersion own = employers.getOrDefault(employerEmail, initial);
+        ChangeVersion shared = allEmployers.get();
+        return new ChangeVersion(own.value() + shared.value(), Math.max(own.lastModified(), shared.lastModified()));
+    }
+
+    /**
+     * Weak entity tag for the details page of one approved job, from the job's own version.
+     *
+     * @param job the job
+     * @param viewer distinguishes what different viewers of the page see
+     * @return the tag
+     */
+    public String jobEtag(JobView job, String viewer) {
+        return new ChangeVersion(job.version(), initial.lastModified()).etag("job-" + job.id(), viewer);
+    }
+
+    /** Record a change to the approved jobs, or to a job that may have been approved. */
+    public void approvedChanged() {
+        afterCommit(() -> approved.updateAndGet(ChangeVersion::next));
+    }
+
+    /**
+     * Record a change to one employer's jobs or to their applicant counts.
+     *
+     * @param employerEmail the employer's login email
+     */
+    public void employerChanged(String employerEmail) {
+        afterCommit(() -> employers.compute(employerEmail, (email, version) -> (version != null ? version : initial).next()));
+    }
+
+    /** Record a change that may affect any employer's dashboard, e.g. a bulk status change. */
+    public void allEmployersChanged() {
+        afterCommit(() -> allEmployers.updateAndGet(ChangeVersion::next));
+    }
+
+    private static void afterCommit(Runnable bump) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump.run();
+                }
+            });
+        } else {
+            bump.run();
+        }
+    }
+}
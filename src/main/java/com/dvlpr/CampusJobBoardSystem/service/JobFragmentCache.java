@@ -0,0 +1,106 @@
+package com.dvlpr.CampusJobBoardSystem.service;
+
+import com.dvlpr.CampusJobBoardSystem.dto.AdminJobSummary;
+import com.dvlpr.CampusJobBoardSystem.dto.JobView;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rendered HTML of the per-job parts of the student dashboard cards and admin dashboard rows.
+ * <p>
+ * The fragments in {@code fragments/job-card.html} are rendered once per job and version and
+ * inserted into the pages with {@code th:utext}, so a dashboard re-evaluates only what differs per
+ * request (forms with their CSRF token, applicant counts). A fragment is re-rendered when the job's
+ * version no longer matches, and {@link JobService} evicts the jobs it changes. Caching is on
+ * whenever Thymeleaf template caching is, so template edits show up immediately in development.
+ */
+@Service
+public class JobFragmentCache {
+
+    private static final String TEMPLATE = "fragments/job-card";
+
+    /** HTML of one fragment rendered for one version of a job. */
+    private record Rendered(long version, Locale locale, String html) {
+    }
+
+    private final ITemplateEngine templateEngine;
+    private final boolean enabled;
+    private final Cache<Long, Rendered> studentCards;
+    private final Cache<Long, Rendered> adminRows;
+
+    public JobFragmentCache(ITemplateEngine templateEngine,
+                            @Value("${spring.thymeleaf.cache:true}") boolean enabled,
+                            @Value("${app.views.fragment-cache-size:10000}") long maximumSize) {
+        this.templateEngine = templateEngine;
+        this.enabled = enabled;
+        this.studentCards = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        this.adminRows = Caffeine.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    /**
+     * Header and body of a student job card.
+     *
+     * @param job the approved job
+     * @return the escaped HTML
+     */
+    public String studentCard(JobView job) {
+        return render(studentCards, "student-card", job.id(), job.version(), job);
+    }
+
+    /**
+     * Leading cells of an admin dashboard row, up to and including the status badge.
+     *
+     * @param job the job's dashboard row
+     * @return the escaped HTML
+     */
+    public String adminRow(AdminJobSummary job) {
+        return render(adminRows, "admin-row", job.id(), job.version(), job);
+    }
+
+    /**
+     * Drop the rendered fragments of changed jobs.
+     *
+     * @param jobIds the job IDs
+     */
+    public void evict(Collection<Long> jobIds) {
+        studentCards.invalidateAll(jobIds);
+        adminRows.invalidateAll(jobIds);
+    }
+
+    /**
+     * Drop the rendered fragments of a changed job.
+     *
+     * @param jobId the job ID
+     */
+    public void evict(Long jobId) {
+        studentCards.invalidate(jobId);
+        adminRows.invalidate(jobId);
+    }
+
+    private String render(Cache<Long, Rendered> cache, String fragment, Long jobId, long version, Object job) {
+        Locale locale = LocaleContextHolder.getLocale();
+        if (!enabled) {
+            return process(fragment, job, locale);
+        }
+        Rendered rendered = cache.getIfPresent(jobId);
+        if (rendered == null || rendered.version() != version || !rendered.locale().equals(locale)) {
+            rendered = new Rendered(version, locale, process(fragment, job, locale));
+            cache.put(jobId, rendered);
+        }
+        return rendered.html();
+    }
+
+    private String process(String fragment, Object job, Locale locale) {
+        return templateEngine.process(TEMPLATE, Set.of(fragment), new Context(locale, Map.of("job", job)));
+    }
+}
@@ -0,0 +1,167 @@
+package com.dvlpr.CampusJobBoardSystem.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads an uploaded job file one row at a time, so uploads of any size are parsed in
+ * constant memory. Each row is a map of lower-case field name to text value.
+ */
+abstract class JobImportReader implements Closeable {
+
+    /**
+     * Next row of the upload.
+     *
+     * @return the row's fields, or null at the end of the upload
+     * @throws IOException if the upload cannot be read or is malformed
+     */
+    abstract Map<String, String> next() throws IOException;
+
+    /**
+     * Reader for CSV with a header row naming the columns (RFC 4180 quoting).
+     */
+    static JobImportReader csv(InputStream in) {
+        return new Csv(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Reader for a JSON array of objects.
+     */
+    static JobImportReader json(InputStream in) throws IOException {
+        return new Json(new JsonFactory().createParser(in));
+    }
+
+    private static final class Csv extends JobImportReader {
+        private final Reader reader;
+        private List<String> header;
+
+        private Csv(Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        Map<String, String> next() throws IOException {
+            if (header == null) {
+                List<String> names = record();
+                if (names == null) {
+                    return null;
+                }
+                header = names.stream().map(name -> name.strip().toLowerCase(Locale.ROOT)).toList();
+            }
+            List<String> values;
+            do {
+                values = record();
+                if (values == null) {
+                    return null;
+                }
+            } while (values.size() == 1 && values.get(0).isBlank());
+            Map<String, String> row = new HashMap<>();
+            for (int i = 0; i < header.size() && i < values.size(); i++) {
+                row.put(header.get(i), values.get(i));
+            }
+            return row;
+        }
+
+        /** Fields of the next record, or null at the end of input. Quoted fields may span lines. */
+        private List<String> record() throws IOException {
+            int c = reader.read();
+            if (c < 0) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (c >= 0) {
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            field.append('"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+            if (quoted) {
+                throw new IOException("Unterminated quoted field");
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private static final class Json extends JobImportReader {
+        private final JsonParser parser;
+        private boolean started;
+
+        private Json(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        Map<String, String> next() throws IOException {
+            if (!started) {
+                started = true;
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new IOException("Expected a JSON array of jobs");
+                }
+            }
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY || token == null) {
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a job object at " + parser.currentLocation().offsetDescription());
+            }
+            Map<String, String> row = new HashMap<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName().toLowerCase(Locale.ROOT);
+                JsonToken value = parser.nextToken();
+                if (value.isScalarValue()) {
+                    row.put(name, value == JsonToken.VALUE_NULL ? null : parser.getText());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return row;
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+}
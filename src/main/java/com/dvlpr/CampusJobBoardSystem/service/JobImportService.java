@@ -0,0 +1,176 @@
+package com.dvlpr.CampusJobBoardSystem.service;
+
+import com.dvlpr.CampusJobBoardSystem.dto.JobImportResult;
+import com.dvlpr.CampusJobBoardSystem.entity.Job;
+import com.dvlpr.CampusJobBoardSystem.entity.JobStatus;
+import com.dvlpr.CampusJobBoardSystem.entity.User;
+import com.dvlpr.CampusJobBoardSystem.exception.ResourceNotFoundException;
+import com.dvlpr.CampusJobBoardSystem.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of job postings from a CSV or JSON upload.
+ * <p>
+ * Rows are streamed from the upload, checked against the same Bean Validation constraints as
+ * the job form, and inserted {@value #BATCH_SIZE} at a time, one transaction per batch. Job IDs
+ * come from a pooled table generator, so Hibernate can send each batch as one JDBC batch instead
+ * of one round trip per row. Invalid rows are skipped and reported; valid rows are kept.
+ */
+@Service
+public class JobImportService {
+
+    /** Rows inserted per transaction; matches {@code hibernate.jdbc.batch_size}. */
+    public static final int BATCH_SIZE = 50;
+
+    /** Most row errors reported back; further rejected rows are only counted. */
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final java.util.logging.Logger logger = java.util.logging.Logger.getLogger(JobImportService.class.getName());
+
+    private final UserRepository userRepository;
+    private final LocationService locationService;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final JobChangeTracker jobChangeTracker;
+    private final TransactionTemplate transactionTemplate;
+
+    public JobImportService(UserRepository userRepository, LocationService locationService, Validator validator,
+                            EntityManager entityManager, JobChangeTracker jobChangeTracker,
+                            PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.locationService = locationService;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.jobChangeTracker = jobChangeTracker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Import jobs for an employer. Imported jobs are PENDING until an admin approves them.
+     *
+     * @param upload the file contents
+     * @param json true for a JSON array of job objects, false for CSV with a header row
+     * @param employerEmail the posting employer's email
+     * @return counts, row errors and timing
+     * @throws IOException if the upload cannot be read or is not well-formed CSV/JSON
+     */
+    public JobImportResult importJobs(InputStream upload, boolean json, String employerEmail) throws IOException {
+        User employer = userRepository.findByEmail(employerEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("Employer not found"));
+        long start = System.nanoTime();
+        List<Job> batch = new ArrayList<>(BATCH_SIZE);
+        List<JobImportResult.RowError> errors = new ArrayList<>();
+        int imported = 0;
+        int rejected = 0;
+        long row = 0;
+        try (JobImportReader reader = json ? JobImportReader.json(upload) : JobImportReader.csv(upload)) {
+            Map<String, String> fields;
+            while ((fields = reader.next()) != null) {
+                row++;
+                String error;
+                Job job = new Job();
+                try {
+                    error = populate(job, fields, employer);
+                } catch (IllegalArgumentException e) {
+                    error = e.getMessage();
+                }
+                if (error != null) {
+                    rejected++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(new JobImportResult.RowError(row, error));
+                    }
+                    continue;
+                }
+                batch.add(job);
+                if (batch.size() == BATCH_SIZE) {
+                    imported += insert(batch);
+                }
+            }
+        }
+        imported += insert(batch);
+        // Imported jobs are PENDING, so no student-facing index or page changes; the employer's dashboard does
+        JobImportResult result = new JobImportResult(imported, rejected, errors, (System.nanoTime() - start) / 1_000_000);
+        logger.info(String.format("Imported %d jobs for %s (%d rejected) in %d ms, %d rows/s",
+                imported, employerEmail, rejected, result.elapsedMillis(), result.rowsPerSecond()));
+        return result;
+    }
+
+    /**
+     * Fill a job from one row and validate it.
+     *
+     * @return null if the job is valid, otherwise the reasons it is not
+     * @throws IllegalArgumentException if a salary or deadline cannot be parsed
+     */
+    private String populate(Job job, Map<String, String> fields, User employer) {
+        job.setTitle(trimmed(fields.get("title")));
+        job.setDescription(trimmed(fields.get("description")));
+        job.setLocation(trimmed(fields.get("location")));
+        job.setCategory(trimmed(fields.get("category")));
+        String salary = trimmed(fields.get("salary"));
+        if (salary != null) {
+            try {
+                job.setSalary(new BigDecimal(salary));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid salary: " + salary);
+            }
+        }
+        String deadline = trimmed(fields.get("deadline"));
+        if (deadline != null) {
+            try {
+                job.setDeadline(LocalDate.parse(deadline));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid deadline (expected yyyy-MM-dd): " + deadline);
+            }
+        }
+        job.setEmployer(employer);
+        job.setStatus(JobStatus.PENDING);
+        Set<ConstraintViolation<Job>> violations = validator.validate(job);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining("; "));
+        }
+        locationService.applyTo(job);
+        return null;
+    }
+
+    /** Insert a batch in one transaction and clear it. */
+    private int insert(List<Job> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Job job : batch) {
+                entityManager.persist(job);
+            }
+            entityManager.flush();
+            entityManager.clear();
+            jobChangeTracker.employerChanged(batch.get(0).getEmployer().getEmail());
+        });
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    private static String trimmed(String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+}
@@ -0,0 +1,136 @@
+package com.dvlpr.CampusJobBoardSystem.service;
+
+import com.dvlpr.CampusJobBoardSystem.entity.JobStatus;
+import com.dvlpr.CampusJobBoardSystem.event.JobsExpiredEvent;
+import com.dvlpr.CampusJobBoardSystem.repository.JobApplicationRepository;
+import com.dvlpr.CampusJobBoardSystem.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Closes jobs whose deadline has passed and moves long-closed jobs out of the hot tables.
+ * <p>
+ * Each run first expires every approved job with a past deadline in a single {@code UPDATE}
+ * and drops them from the in-memory indexes, which are told their IDs one chunk at a time. Jobs that have been expired for longer than the
+ * retention period are then copied with their applications to {@code JOB_ARCHIVE} and
+ * {@code JOB_APPLICATION_ARCHIVE} and deleted, one chunk per transaction, so the tables the
+ * student pages read hold only live postings and a run never holds locks for long.
+ */
+@Service
+public class JobLifecycleService {
+
+    private static final java.util.logging.Logger logger = java.util.logging.Logger.getLogger(JobLifecycleService.class.getName());
+
+    private final JobRepository jobRepository;
+    private final JobApplicationRepository applicationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JobChangeTracker jobChangeTracker;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int chunkSize;
+
+    public JobLifecycleService(JobRepository jobRepository, JobApplicationRepository applicationRepository,
+                               ApplicationEventPublisher eventPublisher, JobChangeTracker jobChangeTracker,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.jobs.archive-after:180d}") Duration retention,
+                               @Value("${app.jobs.archive-chunk-size:500}") int chunkSize) {
+        this.jobRepository = jobRepository;
+        this.applicationRepository = applicationRepository;
+        this.eventPublisher = eventPublisher;
+        this.jobChangeTracker = jobChangeTracker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+    }
+
+    /** Expire and archive as of today. */
+    @Scheduled(cron = "${app.jobs.lifecycle-cron:0 5 0 * * *}")
+    public void run() {
+        LocalDate today = LocalDate.now();
+        expireJobs(today);
+        archiveExpiredJobs(today);
+    }
+
+    /** Expire jobs whose deadline passed while the application was down. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void expireOnStartup() {
+        expireJobs(LocalDate.now());
+    }
+
+    /**
+     * Expire every approved job whose deadline is before the given date.
+     *
+     * @param today the current date
+     * @return the number of jobs expired
+     */
+    public synchronized int expireJobs(LocalDate today) {
+        int expired = transactionTemplate.execute(status -> {
+            // The indexes need the IDs; walk them in chunks and let the UPDATE select by deadline
+            long afterId = 0;
+            List<Long> ids;
+            do {
+                ids = jobRepository.findIdsByStatusAndDeadlineBefore(JobStatus.APPROVED, today, afterId,
+                        PageRequest.of(0, chunkSize));
+                if (!ids.isEmpty()) {
+                    eventPublisher.publishEvent(new JobsExpiredEvent(ids));
+                    afterId = ids.get(ids.size() - 1);
+                }
+            } while (ids.size() == chunkSize);
+            return jobRepository.updateStatusByDeadlineBefore(JobStatus.APPROVED, today, JobStatus.EXPIRED);
+        });
+        if (expired > 0) {
+            jobChangeTracker.approvedChanged();
+            jobChangeTracker.allEmployersChanged();
+            logger.info(String.format("Expired %d jobs past their deadline", expired));
+        }
+        return expired;
+    }
+
+    /**
+     * Archive jobs whose deadline is more than the retention period before the given date,
+     * together with their applications.
+     *
+     * @param today the current date
+     * @return the number of jobs archived
+     */
+    public synchronized int archiveExpiredJobs(LocalDate today) {
+        LocalDate cutoff = today.minusDays(retention.toDays());
+        int archived = 0;
+        int applications = 0;
+        long afterId = 0;
+        List<Long> ids;
+        do {
+            ids = jobRepository.findIdsByStatusAndDeadlineBefore(JobStatus.EXPIRED, cutoff, afterId,
+                    PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            List<Long> chunk = ids;
+            applications += transactionTemplate.execute(status -> {
+                int copied = applicationRepository.copyToArchive(chunk);
+                jobRepository.copyToArchive(chunk);
+                applicationRepository.deleteByJobIds(chunk);
+                jobRepository.deleteAllByIdInBatch(chunk);
+                jobChangeTracker.allEmployersChanged();
+                return copied;
+            });
+            archived += chunk.size();
+            afterId = chunk.get(chunk.size() - 1);
+        } while (ids.size() == chunkSize);
+        if (archived > 0) {
+            logger.info(String.format("Archived %d expired jobs and %d applications", archived, applications));
+        }
+        return archived;
+    }
+}
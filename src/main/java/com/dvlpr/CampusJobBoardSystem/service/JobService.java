@@ -1,14 +1,45 @@
 package com.dvlpr.CampusJobBoardSystem.service;
 
+import com.dvlpr.CampusJobBoardSystem.dto.AdminJobSummary;
+import com.dvlpr.CampusJobBoardSystem.dto.CursorPage;
+import com.dvlpr.CampusJobBoardSystem.dto.EmployerJobSummary;
+import com.dvlpr.CampusJobBoardSystem.dto.FacetValue;
+import com.dvlpr.CampusJobBoardSystem.dto.JobCursor;
+import com.dvlpr.CampusJobBoardSystem.dto.JobRelevanceCursor;
+import com.dvlpr.CampusJobBoardSystem.dto.JobSearchCriteria;
+import com.dvlpr.CampusJobBoardSystem.dto.JobSort;
+import com.dvlpr.CampusJobBoardSystem.dto.JobSortCursor;
+import com.dvlpr.CampusJobBoardSystem.dto.JobSuggestion;
+import com.dvlpr.CampusJobBoardSystem.dto.JobView;
 import com.dvlpr.CampusJobBoardSystem.entity.Job;
 import com.dvlpr.CampusJobBoardSystem.entity.JobStatus;
 import com.dvlpr.CampusJobBoardSystem.entity.User;
+import com.dvlpr.CampusJobBoardSystem.event.JobChangedEvent;
+import com.dvlpr.CampusJobBoardSystem.event.JobsApprovedEvent;
 import com.dvlpr.CampusJobBoardSystem.exception.ResourceNotFoundException;
 import com.dvlpr.CampusJobBoardSystem.repository.JobRepository;
+import com.dvlpr.CampusJobBoardSystem.repository.JobSpecifications;
 import com.dvlpr.CampusJobBoardSystem.repository.UserRepository;
+import com.dvlpr.CampusJobBoardSystem.search.ApprovedJobCatalog;
+import com.dvlpr.CampusJobBoardSystem.search.JobFacetService;
+import com.dvlpr.CampusJobBoardSystem.search.JobQueryPlan;
+import com.dvlpr.CampusJobBoardSystem.search.JobQueryPlanner;
+import com.dvlpr.CampusJobBoardSystem.search.JobSearchIndex;
+import com.dvlpr.CampusJobBoardSystem.search.JobSuggestionIndex;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongPredicate;
 
 /**
  * Service for job-related operations.
@@ -16,73 +47,166 @@ import java.util.List;
 @Service
 public class JobService {
 
+    /** Page size used when the client does not ask for one. */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    /** Largest page size a client may request. */
+    public static final int MAX_PAGE_SIZE = 50;
+
+    private static final java.util.logging.Logger logger = java.util.logging.Logger.getLogger(JobService.class.getName());
+
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobFacetService jobFacetService;
+    private final JobQueryPlanner jobQueryPlanner;
+    private final ApprovedJobCatalog approvedJobCatalog;
+    private final JobSuggestionIndex jobSuggestionIndex;
+    private final LocationService locationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JobChangeTracker jobChangeTracker;
+    private final JobFragmentCache jobFragmentCache;
+    private final TransactionTemplate transactionTemplate;
 
-    public JobService(JobRepository jobRepository, UserRepository userRepository) {
+    public JobService(JobRepository jobRepository, UserRepository userRepository,
+                      JobSearchIndex jobSearchIndex, JobFacetService jobFacetService,
+                      JobQueryPlanner jobQueryPlanner, ApprovedJobCatalog approvedJobCatalog,
+                      JobSuggestionIndex jobSuggestionIndex, LocationService locationService,
+                      ApplicationEventPublisher eventPublisher, JobChangeTracker jobChangeTracker,
+                      JobFragmentCache jobFragmentCache, PlatformTransactionManager transactionManager) {
         this.jobRepository = jobRepository;
         this.userRepository = userRepository;
+        this.jobSearchIndex = jobSearchIndex;
+        this.jobFacetService = jobFacetService;
+        this.jobQueryPlanner = jobQueryPlanner;
+        this.approvedJobCatalog = approvedJobCatalog;
+        this.jobSuggestionIndex = jobSuggestionIndex;
+        this.locationService = locationService;
+        this.eventPublisher = eventPublisher;
+        this.jobChangeTracker = jobChangeTracker;
+        this.jobFragmentCache = jobFragmentCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
-    /** Post a new job (status: PENDING until admin approves). */
+    /**
+     * Post a new job (status: PENDING until admin approves).
+     * Its location is resolved to a canonical one before the transaction that saves it.
+     */
     public void postJob(Job job, String employerEmail) {
-        User employer = userRepository.findByEmail(employerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employer not found"));
-        job.setEmployer(employer);
-        job.setStatus(JobStatus.PENDING);
-        jobRepository.save(job);
+        locationService.applyTo(job);
+        transactionTemplate.executeWithoutResult(status -> {
+            User employer = userRepository.findByEmail(employerEmail)
+                    .orElseThrow(() -> new ResourceNotFoundException("Employer not found"));
+            job.setEmployer(employer);
+            job.setStatus(JobStatus.PENDING);
+            jobRepository.save(job);
+            eventPublisher.publishEvent(JobChangedEvent.saved(job));
+            jobChangeTracker.employerChanged(employerEmail);
+        });
     }
 
-    /** Update an existing job (resets to PENDING). */
+    /**
+     * Update an existing job (resets to PENDING).
+     * Its location is resolved to a canonical one before the transaction that saves it.
+     */
     public void updateJob(Long jobId, Job updatedJob, String employerEmail) {
-        Job job = getJobById(jobId);
-        if (!job.getEmployer().getEmail().equals(employerEmail)) {
-            throw new IllegalArgumentException("Unauthorized to update this job");
-        }
-        job.setTitle(updatedJob.getTitle());
-        job.setDescription(updatedJob.getDescription());
-        job.setLocation(updatedJob.getLocation());
-        job.setSalary(updatedJob.getSalary());
-        job.setCategory(updatedJob.getCategory());
-        job.setDeadline(updatedJob.getDeadline());
-        job.setStatus(JobStatus.PENDING);
-        jobRepository.save(job);
+        locationService.applyTo(updatedJob);
+        transactionTemplate.executeWithoutResult(status -> {
+            Job job = getJobById(jobId);
+            if (!job.getEmployer().getEmail().equals(employerEmail)) {
+                throw new IllegalArgumentException("Unauthorized to update this job");
+            }
+            job.setTitle(updatedJob.getTitle());
+            job.setDescription(updatedJob.getDescription());
+            job.setLocation(updatedJob.getLocation());
+            job.setLocationId(updatedJob.getLocationId());
+            job.setSalary(updatedJob.getSalary());
+            job.setCategory(updatedJob.getCategory());
+            job.setDeadline(updatedJob.getDeadline());
+            job.setStatus(JobStatus.PENDING);
+            jobRepository.save(job);
+            eventPublisher.publishEvent(JobChangedEvent.saved(job));
+            jobChangeTracker.approvedChanged();
+            jobChangeTracker.employerChanged(employerEmail);
+            jobFragmentCache.evict(jobId);
+        });
     }
 
     /** Delete a job. */
+    @Transactional
     public void deleteJob(Long jobId, String employerEmail) {
         Job job = getJobById(jobId);
         if (!job.getEmployer().getEmail().equals(employerEmail)) {
             throw new IllegalArgumentException("Unauthorized to delete this job");
         }
         jobRepository.delete(job);
+        eventPublisher.publishEvent(JobChangedEvent.deleted(jobId));
+        jobChangeTracker.approvedChanged();
+        jobChangeTracker.employerChanged(employerEmail);
+        jobFragmentCache.evict(jobId);
     }
 
     /** Get all approved jobs (for students). */
+    @Transactional(readOnly = true)
     public List<Job> getAllApprovedJobs() {
         return jobRepository.findByStatus(JobStatus.APPROVED);
     }
 
-    /** Get jobs by employer. */
-    public List<Job> getJobsByEmployer(String email) {
-        User employer = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return jobRepository.findByEmployerId(employer.getId());
+    /** Get dashboard rows for the jobs posted by an employer, in a single query. */
+    @Transactional(readOnly = true)
+    public List<EmployerJobSummary> getJobsByEmployer(String email) {
+        return jobRepository.findEmployerSummaries(email);
     }
 
-    /** Get all jobs (for admin). */
-    public List<Job> getAllJobs() {
-        return jobRepository.findAll();
+    /** Get dashboard rows for all jobs (for admin), in a single query. */
+    @Transactional(readOnly = true)
+    public List<AdminJobSummary> getAllJobs() {
+        return jobRepository.findAdminSummaries();
     }
 
     /** Update job status (admin approve/reject). */
+    @Transactional
     public void updateJobStatus(Long jobId, JobStatus status) {
         Job job = getJobById(jobId);
         job.setStatus(status);
         jobRepository.save(job);
+        eventPublisher.publishEvent(JobChangedEvent.saved(job));
+        jobChangeTracker.approvedChanged();
+        jobChangeTracker.employerChanged(job.getEmployer().getEmail());
+        jobFragmentCache.evict(jobId);
+    }
+
+    /**
+     * Approve or reject many pending jobs with one set-based UPDATE instead of a load and save each.
+     * Jobs that are no longer pending are skipped. Newly approved jobs are added to the
+     * student-facing indexes in one batch; rejected ones were never in them.
+     *
+     * @param jobIds the jobs to moderate
+     * @param status {@link JobStatus#APPROVED} or {@link JobStatus#REJECTED}
+     * @return the number of jobs whose status changed
+     */
+    @Transactional
+    public int moderateJobs(Collection<Long> jobIds, JobStatus status) {
+        if (status == JobStatus.PENDING) {
+            throw new IllegalArgumentException("Jobs can only be moderated to APPROVED or REJECTED");
+        }
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+        int changed = jobRepository.updateStatus(jobIds, JobStatus.PENDING, status);
+        if (changed > 0 && status == JobStatus.APPROVED) {
+            eventPublisher.publishEvent(new JobsApprovedEvent(jobRepository.findByIdInAndStatus(jobIds, JobStatus.APPROVED)));
+            jobChangeTracker.approvedChanged();
+        }
+        if (changed > 0) {
+            jobChangeTracker.allEmployersChanged();
+            jobFragmentCache.evict(jobIds);
+        }
+        logger.info(String.format("Moderated %d of %d jobs to %s", changed, jobIds.size(), status));
+        return changed;
     }
 
     /** Get job by ID. */
+    @Transactional(readOnly = true)
     public Job getJobById(Long id) {
         return jobRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
@@ -90,59 +214,238 @@ public class JobService {
 
     /**
      * Search approved jobs by keyword.
-     * Searches in title, description, location, and category.
+     * Searches in title, description, location, and category using the in-memory
+     * inverted index; every word of the keyword must match the start of a word in the job.
+     * If nothing matches, the search is retried allowing a typo or two per word.
+     * Results are ordered by relevance, best match first.
+     * Falls back to the database LIKE scan until the index has been built.
      *
      * @param keyword the search keyword
      * @return list of matching approved jobs
      */
+    @Transactional(readOnly = true)
     public List<Job> searchApprovedJobs(String keyword) {
         if (keyword == null || keyword.trim().isEmpty()) {
             return getAllApprovedJobs();
         }
-        return jobRepository.searchByKeywordAndStatus(keyword.trim(), JobStatus.APPROVED);
+        if (!jobSearchIndex.isReady()) {
+            return jobRepository.searchByKeywordAndStatus(keyword.trim(), JobStatus.APPROVED);
+        }
+        List<Long> ids = rankKeywordMatches(keyword, Integer.MAX_VALUE, id -> true);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Job> jobs = new HashMap<>();
+        for (Job job : jobRepository.findByIdInAndStatus(ids, JobStatus.APPROVED)) {
+            jobs.put(job.getId(), job);
+        }
+        return ids.stream().map(jobs::get).filter(Objects::nonNull).toList();
     }
 
     /**
-     * Get approved jobs by category.
+     * Get all distinct categories from approved jobs with their job counts.
+     * Served from the in-memory facets once they are built.
      *
-     * @param category the job category
-     * @return list of approved jobs in the specified category
+     * @return list of distinct categories
      */
-    public List<Job> getApprovedJobsByCategory(String category) {
-        if (category == null || category.trim().isEmpty()) {
-            return getAllApprovedJobs();
+    @Transactional(readOnly = true)
+    public List<FacetValue> getAvailableCategories() {
+        if (jobFacetService.isReady()) {
+            return jobFacetService.getCategories();
         }
-        return jobRepository.findByCategoryIgnoreCaseAndStatus(category.trim(), JobStatus.APPROVED);
+        return jobRepository.countCategoriesByStatus(JobStatus.APPROVED);
     }
 
     /**
-     * Get approved jobs by location.
+     * Get all distinct locations from approved jobs with their job counts.
+     * Served from the in-memory facets once they are built.
      *
-     * @param location the job location
-     * @return list of approved jobs in the specified location
+     * @return list of distinct locations
      */
-    public List<Job> getApprovedJobsByLocation(String location) {
-        if (location == null || location.trim().isEmpty()) {
-            return getAllApprovedJobs();
+    @Transactional(readOnly = true)
+    public List<FacetValue> getAvailableLocations() {
+        if (jobFacetService.isReady()) {
+            return jobFacetService.getLocations();
         }
-        return jobRepository.findByLocationIgnoreCaseContainingAndStatus(location.trim(), JobStatus.APPROVED);
+        return jobRepository.countLocationsByStatus(JobStatus.APPROVED);
     }
 
     /**
-     * Get all distinct categories from approved jobs.
+     * Get one page of the approved job feed, newest first.
      *
-     * @return list of distinct categories
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size the requested page size (clamped to 1..{@value #MAX_PAGE_SIZE})
+     * @return the page of jobs
      */
-    public List<String> getAvailableCategories() {
-        return jobRepository.findDistinctCategoriesByStatus(JobStatus.APPROVED);
+    @Transactional(readOnly = true)
+    public CursorPage<JobView> getApprovedJobsPage(String cursor, int size) {
+        return findApprovedJobs(new JobSearchCriteria(), cursor, size);
     }
 
     /**
-     * Get all distinct locations from approved jobs.
+     * Get one page of approved jobs matching any combination of filters, newest first
+     * unless the criteria ask for another order.
+     * Served lock-free from the in-memory catalog once it is built. Until then all filters
+     * are combined into a single SQL statement; keyword and location text are first resolved
+     * to ID and value lists in memory where possible so every predicate can use an index.
+     * With relevance sorting, keyword matches are paged best first from the search index.
      *
-     * @return list of distinct locations
+     * @param criteria the filters to apply
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size the requested page size (clamped to 1..{@value #MAX_PAGE_SIZE})
+     * @return the page of matching jobs
      */
-    public List<String> getAvailableLocations() {
-        return jobRepository.findDistinctLocationsByStatus(JobStatus.APPROVED);
+    @Transactional(readOnly = true)
+    public CursorPage<JobView> findApprovedJobs(JobSearchCriteria criteria, String cursor, int size) {
+        criteria.validate();
+        int limit = clampPageSize(size);
+        JobSort sort = criteria.getSortOrder();
+        if (criteria.isSortedByRelevance() && jobSearchIndex.isReady() && approvedJobCatalog.isReady()) {
+            List<Long> locationIds = criteria.hasLocation() && locationService.isReady()
+                    ? locationService.findMatchingIds(criteria.getLocation()) : null;
+            return findRelevant(criteria.getKeyword(), approvedJobCatalog.matching(criteria, locationIds),
+                    JobRelevanceCursor.decode(cursor), limit);
+        }
+        JobQueryPlan plan = jobQueryPlanner.plan(criteria);
+        logger.fine(() -> "Job search plan: " + plan);
+        if (plan.isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+        boolean servedFromCatalog = approvedJobCatalog.isReady() && (!criteria.hasKeyword() || plan.jobIds() != null);
+        if (sort == JobSort.SALARY || sort == JobSort.DEADLINE) {
+            if (servedFromCatalog) {
+                JobSortCursor after = JobSortCursor.decode(cursor, sort == JobSort.SALARY);
+                return approvedJobCatalog.findSorted(criteria, plan.jobIds(), plan.locationIds(), sort, after, limit);
+            }
+            // Until the catalog is built: the first page in the requested order, without a next cursor
+            Specification<Job> spec = toSpecification(criteria, plan);
+            List<Job> rows = sort == JobSort.SALARY
+                    ? jobRepository.findBy(spec, query -> query.sortBy(JobSpecifications.SALARY_ORDER).limit(limit).all())
+                    : jobRepository.findBy(spec.and(JobSpecifications.orderedByDeadline()), query -> query.limit(limit).all());
+            return new CursorPage<>(rows.stream().map(JobView::from).toList(), null);
+        }
+        JobCursor after = JobCursor.decode(cursor);
+        if (servedFromCatalog) {
+            return approvedJobCatalog.find(criteria, plan.jobIds(), plan.locationIds(), after, limit);
+        }
+        Specification<Job> spec = toSpecification(criteria, plan).and(JobSpecifications.after(after));
+        List<Job> rows = jobRepository.findBy(spec,
+                query -> query.sortBy(JobSpecifications.FEED_ORDER).limit(limit + 1).all());
+        return toPage(rows, limit).map(JobView::from);
+    }
+
+    /**
+     * Get an approved job for students.
+     * Served from the in-memory catalog once it is built.
+     *
+     * @param id the job ID
+     * @return the job, or empty if it does not exist or is not approved
+     */
+    @Transactional(readOnly = true)
+    public Optional<JobView> findApprovedJob(Long id) {
+        if (approvedJobCatalog.isReady()) {
+            return approvedJobCatalog.findById(id);
+        }
+        return jobRepository.findById(id)
+                .filter(job -> job.getStatus() == JobStatus.APPROVED)
+                .map(JobView::from);
+    }
+
+    /**
+     * Suggest job titles, categories and locations for a partially typed search.
+     * Answered from memory only; returns nothing until the suggestion index has been built.
+     *
+     * @param prefix the text typed so far
+     * @param limit the maximum number of suggestions (clamped to 1..{@value JobSuggestionIndex#MAX_SUGGESTIONS})
+     * @return the suggestions, most frequent first
+     */
+    public List<JobSuggestion> suggestJobs(String prefix, int limit) {
+        if (!jobSuggestionIndex.isReady()) {
+            return List.of();
+        }
+        return jobSuggestionIndex.suggest(prefix, Math.max(1, Math.min(limit, JobSuggestionIndex.MAX_SUGGESTIONS)));
+    }
+
+    /**
+     * Describe how a search would be executed and what each of its predicates costs.
+     *
+     * @param criteria the filters to apply
+     * @return the query plan
+     */
+    @Transactional(readOnly = true)
+    public JobQueryPlan explainSearch(JobSearchCriteria criteria) {
+        criteria.validate();
+        return jobQueryPlanner.plan(criteria);
+    }
+
+    /** Rank keyword matches by relevance, retrying with typo tolerance if nothing matches as typed. */
+    private List<Long> rankKeywordMatches(String keyword, int limit, LongPredicate filter) {
+        List<Long> ids = jobSearchIndex.rank(keyword, false, limit, filter);
+        if (ids.isEmpty()) {
+            ids = jobSearchIndex.rank(keyword, true, limit, filter);
+        }
+        return ids;
+    }
+
+    /**
+     * One page of keyword matches, best first, fetching one extra to detect a next page.
+     * Only the first page falls back to typo tolerance; later pages keep the cursor's mode.
+     */
+    private CursorPage<JobView> findRelevant(String keyword, LongPredicate filter, JobRelevanceCursor cursor, int limit) {
+        boolean fuzzy = cursor.fuzzy();
+        JobSearchIndex.ScoredJob after = cursor.isStart() ? null : new JobSearchIndex.ScoredJob(cursor.id(), cursor.score());
+        List<JobSearchIndex.ScoredJob> ranked = jobSearchIndex.rank(keyword, fuzzy, limit + 1, filter, after);
+        if (ranked.isEmpty() && cursor.isStart()) {
+            fuzzy = true;
+            ranked = jobSearchIndex.rank(keyword, true, limit + 1, filter, null);
+        }
+        String nextCursor = null;
+        if (ranked.size() > limit) {
+            ranked = ranked.subList(0, limit);
+            JobSearchIndex.ScoredJob last = ranked.get(limit - 1);
+            nextCursor = new JobRelevanceCursor(last.score(), last.id(), fuzzy).encode();
+        }
+        List<Long> ids = ranked.stream().map(JobSearchIndex.ScoredJob::id).toList();
+        return new CursorPage<>(approvedJobCatalog.findAllById(ids), nextCursor);
+    }
+
+    /** Build the WHERE clause for a planned search. */
+    private static Specification<Job> toSpecification(JobSearchCriteria criteria, JobQueryPlan plan) {
+        Specification<Job> spec = JobSpecifications.hasStatus(JobStatus.APPROVED);
+        if (criteria.hasKeyword()) {
+            spec = spec.and(plan.jobIds() != null
+                    ? JobSpecifications.idIn(plan.jobIds())
+                    : JobSpecifications.keywordLike(criteria.getKeyword()));
+        }
+        if (criteria.hasCategory()) {
+            spec = spec.and(JobSpecifications.categoryEquals(criteria.getCategory().trim()));
+        }
+        if (criteria.hasLocation()) {
+            spec = spec.and(plan.locationIds() != null
+                    ? JobSpecifications.locationIdIn(plan.locationIds())
+                    : JobSpecifications.locationContains(criteria.getLocation()));
+        }
+        if (criteria.hasSalaryRange()) {
+            spec = spec.and(JobSpecifications.salaryBetween(criteria.getMinSalary(), criteria.getMaxSalary()));
+        }
+        if (criteria.hasDeadlineRange()) {
+            spec = spec.and(JobSpecifications.deadlineBetween(criteria.getDeadlineFrom(), criteria.getDeadlineTo()));
+        }
+        return spec;
+    }
+
+    /** Clamp a client-supplied page size to the allowed range. */
+    static int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /** Build a page from up to limit + 1 rows; the extra row only signals that a next page exists. */
+    private static CursorPage<Job> toPage(List<Job> rows, int limit) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<Job> items = rows.subList(0, limit);
+        Job last = items.get(limit - 1);
+        return new CursorPage<>(List.copyOf(items), new JobCursor(last.getCreatedAt(), last.getId()).encode());
     }
-}
\ No newline at end of file
+}
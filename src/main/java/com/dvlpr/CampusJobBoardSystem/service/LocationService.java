@@ -0,0 +1,213 @@
+package com.dvlpr.CampusJobBoardSystem.service;
+
+import com.dvlpr.CampusJobBoardSystem.entity.Job;
+import com.dvlpr.CampusJobBoardSystem.entity.Location;
+import com.dvlpr.CampusJobBoardSystem.entity.LocationAlias;
+import com.dvlpr.CampusJobBoardSystem.repository.JobRepository;
+import com.dvlpr.CampusJobBoardSystem.repository.LocationAliasRepository;
+import com.dvlpr.CampusJobBoardSystem.repository.LocationRepository;
+import com.dvlpr.CampusJobBoardSystem.search.Tokenizer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dictionary of canonical job locations.
+ * <p>
+ * Free text such as "calgary, AB" or "Calgary Campus" is resolved once, when a job is saved,
+ * to a canonical {@link Location} with an integer ID; the job keeps its text as typed. Every
+ * spelling seen is recorded in the alias table, so later jobs typed the same way resolve with a
+ * single key lookup. Students then filter by indexed ID equality instead of
+ * {@code LOWER(location) LIKE '%x%'}, and the location facets list each place once, under the
+ * name it was first typed with.
+ * <p>
+ * New locations and aliases are committed in their own transaction before they enter the
+ * in-memory dictionary, so a rolled-back job save never leaves an ID there that the database
+ * does not have.
+ */
+@Service
+public class LocationService {
+
+    /** Trailing words that qualify a place rather than name it; dropped when building the canonical key. */
+    private static final Set<String> QUALIFIERS = Set.of(
+            "ab", "alberta", "bc", "mb", "nb", "nl", "ns", "nt", "nu", "on", "pe", "qc", "sk", "yt",
+            "canada", "ca", "campus", "area", "region", "downtown");
+
+    private static final java.util.logging.Logger logger = java.util.logging.Logger.getLogger(LocationService.class.getName());
+
+    private final LocationRepository locationRepository;
+    private final LocationAliasRepository locationAliasRepository;
+    private final JobRepository jobRepository;
+    private final TransactionTemplate newTransaction;
+    private final Map<String, Location> locationsByAlias = new ConcurrentHashMap<>();
+    private final Map<Long, Location> locationsById = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public LocationService(LocationRepository locationRepository, LocationAliasRepository locationAliasRepository,
+                           JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        this.locationRepository = locationRepository;
+        this.locationAliasRepository = locationAliasRepository;
+        this.jobRepository = jobRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Load the dictionary and link jobs saved before it existed to their canonical locations.
+     * Runs before the job indexes are built so they see the location IDs.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public synchronized void load() {
+        for (Location location : locationRepository.findAll()) {
+            locationsById.put(location.getId(), location);
+        }
+        for (LocationAlias alias : locationAliasRepository.findAll()) {
+            locationsByAlias.put(alias.getAliasKey(), alias.getLocation());
+        }
+        List<Job> unresolved = jobRepository.findByLocationIdIsNullAndLocationIsNotNull();
+        for (Job job : unresolved) {
+            applyTo(job);
+        }
+        jobRepository.saveAll(unresolved);
+        ready = true;
+        logger.info(String.format("Loaded %d locations and %d aliases; resolved %d existing jobs",
+                locationsById.size(), locationsByAlias.size(), unresolved.size()));
+    }
+
+    /**
+     * Whether the dictionary has been loaded.
+     *
+     * @return true once loaded
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Resolve a free-text location to its canonical location, creating it if it is new.
+     * A new location or alias is committed before this returns, whatever the caller's transaction does.
+     *
+     * @param text the location as typed
+     * @return the canonical location, or null if the text has no words
+     */
+    public Location resolve(String text) {
+        String aliasKey = aliasKey(text);
+        if (aliasKey.isEmpty()) {
+            return null;
+        }
+        Location known = locationsByAlias.get(aliasKey);
+        if (known != null) {
+            return known;
+        }
+        Location location;
+        try {
+            location = newTransaction.execute(status -> findOrCreate(text, aliasKey));
+        } catch (DataIntegrityViolationException e) {
+            // Another request created the same location or alias first; theirs is committed now
+            location = newTransaction.execute(status -> findOrCreate(text, aliasKey));
+        }
+        locationsById.putIfAbsent(location.getId(), location);
+        Location published = locationsByAlias.putIfAbsent(aliasKey, location);
+        return published != null ? published : location;
+    }
+
+    private Location findOrCreate(String text, String aliasKey) {
+        String key = canonicalKey(aliasKey);
+        Location location = locationRepository.findByKey(key)
+                .orElseGet(() -> locationRepository.save(new Location(displayName(text, key), key)));
+        if (!locationAliasRepository.existsById(aliasKey)) {
+            locationAliasRepository.save(new LocationAlias(aliasKey, location));
+        }
+        return location;
+    }
+
+    /**
+     * Link a job to the canonical location of its free-text location, which is left as typed.
+     * Call it before the transaction that saves the job, so that transaction does not wait on
+     * the one that may create the location.
+     *
+     * @param job the job about to be saved
+     */
+    public void applyTo(Job job) {
+        Location location = resolve(job.getLocation());
+        job.setLocationId(location != null ? location.getId() : null);
+    }
+
+    /**
+     * Find the canonical locations a student's location filter refers to:
+     * every location whose key contains the normalized filter text.
+     *
+     * @param text the filter as typed
+     * @return matching location IDs; empty if none match or the text has no words
+     */
+    public List<Long> findMatchingIds(String text) {
+        String needle = canonicalKey(aliasKey(text));
+        List<Long> ids = new ArrayList<>();
+        if (needle.isEmpty()) {
+            return ids;
+        }
+        for (Location location : locationsById.values()) {
+            if (location.getKey().contains(needle)) {
+                ids.add(location.getId());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Canonical name of a location.
+     *
+     * @param id the location ID
+     * @return the name, or null if unknown
+     */
+    public String getName(Long id) {
+        Location location = locationsById.get(id);
+        return location != null ? location.getName() : null;
+    }
+
+    /** Lower-case words of the text separated by single spaces: "Calgary,  AB" becomes "calgary ab". */
+    static String aliasKey(String text) {
+        return String.join(" ", Tokenizer.tokenize(text));
+    }
+
+    /** Alias key without trailing province, country and similar qualifiers: "calgary ab" becomes "calgary". */
+    static String canonicalKey(String aliasKey) {
+        List<String> words = new ArrayList<>(List.of(aliasKey.split(" ")));
+        while (words.size() > 1 && QUALIFIERS.contains(words.get(words.size() - 1))) {
+            words.remove(words.size() - 1);
+        }
+        return String.join(" ", words);
+    }
+
+    /**
+     * The words of the typed text that make up the canonical key, with the case and punctuation
+     * between them as typed: "St. Albert, AB" becomes "St. Albert".
+     */
+    static String displayName(String text, String key) {
+        int words = key.split(" ").length;
+        int start = -1;
+        for (int i = 0; i < text.length(); i++) {
+            boolean wordChar = Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            }
+            boolean wordEnd = wordChar && (i + 1 == text.length() || !Character.isLetterOrDigit(text.charAt(i + 1)));
+            if (wordEnd && --words == 0) {
+                return text.substring(start, i + 1);
+            }
+        }
+        return text.strip();
+    }
+}
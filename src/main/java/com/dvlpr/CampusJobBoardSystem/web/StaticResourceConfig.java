@@ -0,0 +1,68 @@
+package com.dvlpr.CampusJobBoardSystem.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * Serves the application's own static assets under content-hashed URLs that never change.
+ * <p>
+ * Template links such as {@code @{/css/site.css}} are rewritten to {@code /css/site-<md5>.css} by
+ * the {@code ResourceUrlEncodingFilter} Spring Boot registers for the resource chain. Only those
+ * hashed URLs are cached as {@code immutable} for a year, since an edited file gets a new URL; the
+ * plain path of an asset keeps serving whatever is current, so it is sent as {@code no-cache} and
+ * revalidated. The {@code .gz} and {@code .br} variants written next to each asset by the Maven
+ * build are served to clients that accept them instead of compressing per request.
+ */
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    private static final String[] ASSET_DIRECTORIES = {"css", "js", "images"};
+
+    /** The content hash {@link VersionResourceResolver} inserts before the file extension. */
+    private static final Pattern VERSIONED_PATH = Pattern.compile("-[0-9a-f]{32}\\.[^/.]+$");
+
+    private final Duration maxAge;
+
+    public StaticResourceConfig(@Value("${app.static.max-age:365d}") Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (String directory : ASSET_DIRECTORIES) {
+            registry.addResourceHandler("/" + directory + "/**")
+                    .addResourceLocations("classpath:/static/" + directory + "/")
+                    .resourceChain(true)
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+        }
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        String immutable = CacheControl.maxAge(maxAge).cachePublic().immutable().getHeaderValue();
+        String revalidate = CacheControl.noCache().getHeaderValue();
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                boolean versioned = VERSIONED_PATH.matcher(request.getRequestURI()).find();
+                response.setHeader(HttpHeaders.CACHE_CONTROL, versioned ? immutable : revalidate);
+                return true;
+            }
+        }).addPathPatterns(Arrays.stream(ASSET_DIRECTORIES).map(directory -> "/" + directory + "/**").toList());
+    }
+}
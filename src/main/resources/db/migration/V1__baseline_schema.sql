@@ -0,0 +1,42 @@
+-- Schema as it stood when the project started, before any of the later migrations. Databases
+-- created by hand from it are baselined at this version (spring.flyway.baseline-on-migrate)
+-- and receive V2 onwards.
+
+CREATE TABLE `user` (
+    user_id    BIGINT       NOT NULL AUTO_INCREMENT,
+    full_name  VARCHAR(255) NOT NULL,
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    role       ENUM('STUDENT','EMPLOYER','ADMIN') NOT NULL,
+    status     ENUM('ACTIVE','INACTIVE') DEFAULT 'ACTIVE',
+    created_at DATETIME(6),
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_user_email UNIQUE (email)
+);
+
+CREATE TABLE job (
+    job_id      BIGINT        NOT NULL AUTO_INCREMENT,
+    employer_id BIGINT        NOT NULL,
+    title       VARCHAR(255)  NOT NULL,
+    description TEXT          NOT NULL,
+    location    VARCHAR(255),
+    salary      DECIMAL(38,2),
+    category    VARCHAR(255),
+    deadline    DATE,
+    status      ENUM('PENDING','APPROVED','REJECTED') DEFAULT 'PENDING',
+    created_at  DATETIME(6),
+    PRIMARY KEY (job_id),
+    CONSTRAINT fk_job_employer FOREIGN KEY (employer_id) REFERENCES `user` (user_id)
+);
+
+CREATE TABLE job_application (
+    application_id BIGINT NOT NULL AUTO_INCREMENT,
+    job_id         BIGINT NOT NULL,
+    student_id     BIGINT NOT NULL,
+    status         ENUM('SUBMITTED','ACCEPTED','REJECTED') DEFAULT 'SUBMITTED',
+    applied_at     DATETIME(6),
+    PRIMARY KEY (application_id),
+    CONSTRAINT uk_job_application_job_student UNIQUE (job_id, student_id),
+    CONSTRAINT fk_job_application_job FOREIGN KEY (job_id) REFERENCES job (job_id),
+    CONSTRAINT fk_job_application_student FOREIGN KEY (student_id) REFERENCES `user` (user_id)
+);
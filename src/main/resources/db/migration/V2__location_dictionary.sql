@@ -0,0 +1,21 @@
+-- Canonical locations and every spelling seen for them. Jobs saved before this migration keep a
+-- null location_id and are resolved by LocationService at startup.
+
+CREATE TABLE location (
+    location_id  BIGINT       NOT NULL AUTO_INCREMENT,
+    name         VARCHAR(100) NOT NULL,
+    location_key VARCHAR(100) NOT NULL,
+    PRIMARY KEY (location_id),
+    CONSTRAINT uk_location_key UNIQUE (location_key)
+);
+
+CREATE TABLE location_alias (
+    alias_key   VARCHAR(100) NOT NULL,
+    location_id BIGINT       NOT NULL,
+    PRIMARY KEY (alias_key),
+    CONSTRAINT fk_location_alias_location FOREIGN KEY (location_id) REFERENCES location (location_id)
+);
+
+ALTER TABLE job ADD COLUMN location_id BIGINT;
+ALTER TABLE job ADD CONSTRAINT fk_job_location FOREIGN KEY (location_id) REFERENCES location (location_id);
+CREATE INDEX idx_job_location_id ON job (location_id);
@@ -0,0 +1,4 @@
+-- Admin user list: filter by role and status, sorted by registration date
+
+CREATE INDEX idx_user_role_status_created ON `user` (role, status, created_at);
+CREATE INDEX idx_user_created_at ON `user` (created_at);
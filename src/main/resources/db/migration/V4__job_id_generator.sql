@@ -0,0 +1,12 @@
+-- Job IDs are allocated 50 at a time from the JOB row so imports can insert in JDBC batches.
+-- Hibernate's pooled optimizer treats the stored value as the upper end of the next block, so
+-- the row is seeded a full block above the highest existing ID.
+
+CREATE TABLE id_generator (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT,
+    PRIMARY KEY (sequence_name)
+);
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'JOB', COALESCE(MAX(job_id), 0) + 50 FROM job;
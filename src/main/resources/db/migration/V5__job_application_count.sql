@@ -0,0 +1,4 @@
+-- Application count of each job as of the last counter flush; the first reconciliation after
+-- startup fills it in for existing jobs.
+
+ALTER TABLE job ADD COLUMN application_count BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,23 @@
+-- Indexes for the query shapes in JobRepository, JobSpecifications and JobApplicationRepository.
+-- InnoDB appends the primary key to every secondary index, so each one also yields job IDs
+-- (or application IDs) without touching the table.
+
+-- Approved jobs newest first, with the (created_at, job_id) cursor of the search pages
+CREATE INDEX idx_job_status_created ON job (status, created_at);
+
+-- Category filter, and the category facet counts grouped within a status (covering)
+CREATE INDEX idx_job_status_category ON job (status, category);
+
+-- Location facet counts grouped within a status (covering)
+CREATE INDEX idx_job_status_location ON job (status, location);
+
+-- Deadline and salary range filters within a status
+CREATE INDEX idx_job_status_deadline ON job (status, deadline);
+CREATE INDEX idx_job_status_salary ON job (status, salary);
+
+-- Employer dashboard: an employer's jobs in ID order; also backs the employer foreign key
+CREATE INDEX idx_job_employer_status ON job (employer_id, status);
+
+-- A student's applications joined to their jobs (covering); lookups by job use the
+-- (job_id, student_id) unique constraint
+CREATE INDEX idx_job_application_student_job ON job_application (student_id, job_id);
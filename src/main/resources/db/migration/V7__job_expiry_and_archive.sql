@@ -0,0 +1,35 @@
+-- Approved jobs past their deadline become EXPIRED; after the retention period they move,
+-- with their applications, to the archive tables below so the hot tables hold only live jobs.
+
+ALTER TABLE job MODIFY status ENUM('PENDING','APPROVED','REJECTED','EXPIRED') DEFAULT 'PENDING';
+
+-- No foreign keys: archived rows outlive the users that created them
+CREATE TABLE job_archive (
+    job_id            BIGINT        NOT NULL,
+    employer_id       BIGINT        NOT NULL,
+    title             VARCHAR(255)  NOT NULL,
+    description       TEXT          NOT NULL,
+    location          VARCHAR(255),
+    location_id       BIGINT,
+    salary            DECIMAL(38,2),
+    category          VARCHAR(255),
+    deadline          DATE,
+    status            VARCHAR(20)   NOT NULL,
+    created_at        DATETIME(6),
+    application_count BIGINT        NOT NULL DEFAULT 0,
+    archived_at       DATETIME(6)   NOT NULL,
+    PRIMARY KEY (job_id)
+);
+CREATE INDEX idx_job_archive_employer ON job_archive (employer_id);
+
+CREATE TABLE job_application_archive (
+    application_id BIGINT      NOT NULL,
+    job_id         BIGINT      NOT NULL,
+    student_id     BIGINT      NOT NULL,
+    status         VARCHAR(20) NOT NULL,
+    applied_at     DATETIME(6),
+    archived_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (application_id)
+);
+CREATE INDEX idx_job_application_archive_job ON job_application_archive (job_id);
+CREATE INDEX idx_job_application_archive_student ON job_application_archive (student_id);
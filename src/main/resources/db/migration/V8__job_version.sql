@@ -0,0 +1,3 @@
+-- Change counter of each job, incremented by every update; the job details page uses it as its ETag.
+
+ALTER TABLE job ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,29 @@
+// Typeahead for the job search box: fills the linked <datalist> from /api/jobs/suggest as the student types.
+document.addEventListener('DOMContentLoaded', function () {
+    document.querySelectorAll('input[data-suggest-url]').forEach(function (input) {
+        var list = document.getElementById(input.getAttribute('list'));
+        var pending = null;
+        input.addEventListener('input', function () {
+            var q = input.value.trim();
+            if (pending) {
+                pending.abort();
+            }
+            if (!q) {
+                list.replaceChildren();
+                return;
+            }
+            pending = new AbortController();
+            fetch(input.dataset.suggestUrl + '?q=' + encodeURIComponent(q), {signal: pending.signal})
+                .then(function (response) { return response.ok ? response.json() : []; })
+                .then(function (suggestions) {
+                    list.replaceChildren.apply(list, suggestions.map(function (s) {
+                        var option = document.createElement('option');
+                        option.value = s.text;
+                        option.label = s.field.toLowerCase() + ' (' + s.count + ')';
+                        return option;
+                    }));
+                })
+                .catch(function () { /* superseded by a newer keystroke */ });
+        });
+    });
+});
@@ -1,8 +1,12 @@
 package com.dvlpr.CampusJobBoardSystem.controller;
 
+import com.dvlpr.CampusJobBoardSystem.dto.AdminJobSummary;
+import com.dvlpr.CampusJobBoardSystem.dto.UserSearchCriteria;
 import com.dvlpr.CampusJobBoardSystem.entity.*;
 import com.dvlpr.CampusJobBoardSystem.security.SecurityConfig;
 import com.dvlpr.CampusJobBoardSystem.service.AdminService;
+import com.dvlpr.CampusJobBoardSystem.service.ApplicationService;
+import com.dvlpr.CampusJobBoardSystem.service.JobFragmentCache;
 import com.dvlpr.CampusJobBoardSystem.service.JobService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,16 +15,22 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.thymeleaf.ITemplateEngine;
 
 import static org.mockito.Mockito.mock;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -45,6 +55,9 @@ class AdminControllerTest {
     @Autowired
     private AdminService adminService;
 
+    @Autowired
+    private ApplicationService applicationService;
+
     private Job testJob;
     private User testEmployer;
     private User testStudent;
@@ -53,7 +66,7 @@ class AdminControllerTest {
     @BeforeEach
     void setUp() {
         // Reset mocks to clear invocation counts between tests
-        reset(jobService, adminService);
+        reset(jobService, adminService, applicationService);
 
         testEmployer = new User();
         testEmployer.setId(1L);
@@ -93,14 +106,18 @@ class AdminControllerTest {
     @Test
     @WithMockUser(username = "admin@test.com", roles = "ADMIN")
     void testDashboard_ReturnsAllJobsInView() throws Exception {
-        List<Job> allJobs = Arrays.asList(testJob);
+        List<AdminJobSummary> allJobs = Arrays.asList(summaryOf(testJob));
         when(jobService.getAllJobs()).thenReturn(allJobs);
+        when(applicationService.getApplicationCounts(List.of(1L))).thenReturn(Map.of(1L, 4L));
+        when(applicationService.getTotalApplications()).thenReturn(9L);
 
         mockMvc.perform(get("/admin/dashboard"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("admin/dashboard"))
                 .andExpect(model().attributeExists("jobs"))
-                .andExpect(model().attribute("jobs", allJobs));
+                .andExpect(model().attribute("jobs", allJobs))
+                .andExpect(model().attribute("applicationCounts", Map.of(1L, 4L)))
+                .andExpect(model().attribute("totalApplications", 9L));
 
         verify(jobService, times(1)).getAllJobs();
     }
@@ -119,19 +136,9 @@ class AdminControllerTest {
     @Test
     @WithMockUser(username = "admin@test.com", roles = "ADMIN")
     void testDashboard_MultipleJobsWithDifferentStatuses_ReturnsAllJobs() throws Exception {
-        Job approvedJob = new Job();
-        approvedJob.setId(2L);
-        approvedJob.setTitle("Approved Job");
-        approvedJob.setStatus(JobStatus.APPROVED);
-        approvedJob.setEmployer(testEmployer);
-
-        Job rejectedJob = new Job();
-        rejectedJob.setId(3L);
-        rejectedJob.setTitle("Rejected Job");
-        rejectedJob.setStatus(JobStatus.REJECTED);
-        rejectedJob.setEmployer(testEmployer);
-
-        List<Job> allJobs = Arrays.asList(testJob, approvedJob, rejectedJob);
+        List<AdminJobSummary> allJobs = Arrays.asList(summaryOf(testJob),
+                new AdminJobSummary(2L, "Approved Job", "Test Employer", LocalDateTime.now(), JobStatus.APPROVED, 0),
+                new AdminJobSummary(3L, "Rejected Job", "Test Employer", LocalDateTime.now(), JobStatus.REJECTED, 0));
         when(jobService.getAllJobs()).thenReturn(allJobs);
 
         mockMvc.perform(get("/admin/dashboard"))
@@ -189,27 +196,56 @@ class AdminControllerTest {
         verify(jobService, times(1)).updateJobStatus(1L, JobStatus.REJECTED);
     }
 
+    // ==================== Bulk Moderation Tests ====================
+
+    @Test
+    @WithMockUser(username = "admin@test.com", roles = "ADMIN")
+    void testModerateJobs_ApprovesSelectedJobsInOneCall() throws Exception {
+        when(jobService.moderateJobs(List.of(1L, 2L), JobStatus.APPROVED)).thenReturn(2);
+
+        mockMvc.perform(post("/admin/jobs/moderate")
+                        .param("jobIds", "1", "2")
+                        .param("status", "APPROVED")
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/admin/dashboard?moderated=2&status=approved"));
+
+        verify(jobService, times(1)).moderateJobs(List.of(1L, 2L), JobStatus.APPROVED);
+    }
+
+    @Test
+    @WithMockUser(username = "admin@test.com", roles = "ADMIN")
+    void testModerateJobs_NothingSelected_ChangesNothing() throws Exception {
+        mockMvc.perform(post("/admin/jobs/moderate")
+                        .param("status", "REJECTED")
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/admin/dashboard?moderated=0&status=rejected"));
+
+        verify(jobService, times(1)).moderateJobs(List.of(), JobStatus.REJECTED);
+    }
+
     // ==================== User Management Tests ====================
 
     @Test
     @WithMockUser(username = "admin@test.com", roles = "ADMIN")
-    void testManageUsers_ReturnsAllUsersInView() throws Exception {
+    void testManageUsers_ReturnsFirstPageInView() throws Exception {
         List<User> allUsers = Arrays.asList(testEmployer, testStudent, testAdmin);
-        when(adminService.getAllUsers()).thenReturn(allUsers);
+        when(adminService.findUsers(any(UserSearchCriteria.class), eq(0), eq(50))).thenReturn(new PageImpl<>(allUsers));
 
         mockMvc.perform(get("/admin/users"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("admin/users"))
-                .andExpect(model().attributeExists("users"))
+                .andExpect(model().attributeExists("users", "page", "criteria"))
                 .andExpect(model().attribute("users", allUsers));
 
-        verify(adminService, times(1)).getAllUsers();
+        verify(adminService, times(1)).findUsers(any(UserSearchCriteria.class), eq(0), eq(50));
     }
 
     @Test
     @WithMockUser(username = "admin@test.com", roles = "ADMIN")
     void testManageUsers_NoUsers_ReturnsEmptyList() throws Exception {
-        when(adminService.getAllUsers()).thenReturn(Collections.emptyList());
+        when(adminService.findUsers(any(UserSearchCriteria.class), anyInt(), anyInt())).thenReturn(Page.empty());
 
         mockMvc.perform(get("/admin/users"))
                 .andExpect(status().isOk())
@@ -217,6 +253,60 @@ class AdminControllerTest {
                 .andExpect(model().attributeExists("users"));
     }
 
+    @Test
+    @WithMockUser(username = "admin@test.com", roles = "ADMIN")
+    void testManageUsers_BindsFiltersAndPage() throws Exception {
+        when(adminService.findUsers(any(UserSearchCriteria.class), eq(2), eq(20)))
+                .thenReturn(new PageImpl<>(List.of(testStudent), PageRequest.of(2, 20), 41));
+
+        mockMvc.perform(get("/admin/users")
+                        .param("role", "STUDENT")
+                        .param("status", "ACTIVE")
+                        .param("emailPrefix", "stu")
+                        .param("createdFrom", "2025-09-01")
+                        .param("createdTo", "")
+                        .param("page", "2")
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("users", List.of(testStudent)));
+
+        verify(adminService).findUsers(argThat(criteria -> criteria.getRole() == UserRole.STUDENT
+                && criteria.getStatus() == UserStatus.ACTIVE
+                && "stu".equals(criteria.getEmailPrefix())
+                && LocalDate.of(2025, 9, 1).equals(criteria.getCreatedFrom())
+                && criteria.getCreatedTo() == null), eq(2), eq(20));
+    }
+
+    @Test
+    @WithMockUser(username = "admin@test.com", roles = "ADMIN")
+    void testUpdateSelectedUsers_RedirectsWithCount() throws Exception {
+        when(adminService.updateStatus(List.of(1L, 2L), UserStatus.INACTIVE)).thenReturn(2);
+
+        mockMvc.perform(post("/admin/users/status")
+                        .param("userIds", "1", "2")
+                        .param("newStatus", "INACTIVE")
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/admin/users?updated=2"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin@test.com", roles = "ADMIN")
+    void testUpdateMatchingUsers_PassesFiltersAndRedirectsWithCount() throws Exception {
+        when(adminService.updateStatus(any(UserSearchCriteria.class), eq(UserStatus.ACTIVE))).thenReturn(7);
+
+        mockMvc.perform(post("/admin/users/status/matching")
+                        .param("role", "STUDENT")
+                        .param("status", "INACTIVE")
+                        .param("newStatus", "ACTIVE")
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/admin/users?updated=7"));
+
+        verify(adminService).updateStatus(argThat((UserSearchCriteria criteria) -> criteria.getRole() == UserRole.STUDENT
+                && criteria.getStatus() == UserStatus.INACTIVE), eq(UserStatus.ACTIVE));
+    }
+
     // ==================== Activate User Tests ====================
 
     @Test
@@ -266,5 +356,20 @@ class AdminControllerTest {
         public AdminService adminService() {
             return mock(AdminService.class);
         }
+
+        @Bean
+        public ApplicationService applicationService() {
+            return mock(ApplicationService.class);
+        }
+
+        @Bean
+        public JobFragmentCache jobFragmentCache(ITemplateEngine templateEngine) {
+            return new JobFragmentCache(templateEngine, true, 100);
+        }
+    }
+
+    private static AdminJobSummary summaryOf(Job job) {
+        return new AdminJobSummary(job.getId(), job.getTitle(), job.getEmployer().getFullName(),
+                LocalDateTime.now(), job.getStatus(), job.getVersion());
     }
 }
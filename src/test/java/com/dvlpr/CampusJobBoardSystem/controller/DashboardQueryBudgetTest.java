@@ -0,0 +1,97 @@
+package com.dvlpr.CampusJobBoardSystem.controller;
+
+import com.dvlpr.CampusJobBoardSystem.entity.*;
+import com.dvlpr.CampusJobBoardSystem.monitoring.SqlStatementCountFilter;
+import com.dvlpr.CampusJobBoardSystem.repository.JobRepository;
+import com.dvlpr.CampusJobBoardSystem.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * SQL statement budgets for the dashboards, checked against a real (in-memory) database.
+ * A dashboard that starts loading related rows one by one fails here instead of in production.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+class DashboardQueryBudgetTest {
+
+    private static final int EMPLOYERS = 3;
+    private static final int JOBS_PER_EMPLOYER = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository.deleteAll();
+        userRepository.deleteAll();
+        for (int e = 1; e <= EMPLOYERS; e++) {
+            User employer = new User();
+            employer.setFullName("Employer " + e);
+            employer.setEmail("employer" + e + "@test.com");
+            employer.setPassword("secret");
+            employer.setRole(UserRole.EMPLOYER);
+            userRepository.save(employer);
+            for (int j = 1; j <= JOBS_PER_EMPLOYER; j++) {
+                Job job = new Job();
+                job.setTitle("Job " + e + "-" + j);
+                job.setDescription("A job posted by employer " + e);
+                job.setCategory("IT");
+                job.setLocation("Calgary");
+                job.setSalary(new BigDecimal("20"));
+                job.setDeadline(LocalDate.now().plusDays(30));
+                job.setStatus(j % 2 == 0 ? JobStatus.APPROVED : JobStatus.PENDING);
+                job.setEmployer(employer);
+                jobRepository.save(job);
+            }
+        }
+    }
+
+    @Test
+    @WithMockUser(username = "admin@test.com", roles = "ADMIN")
+    void testAdminDashboard_StaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/admin/dashboard"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(2));
+    }
+
+    @Test
+    @WithMockUser(username = "employer1@test.com", roles = "EMPLOYER")
+    void testEmployerDashboard_StaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/employer/dashboard"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(2));
+    }
+
+    /** Fails when the request issued more SQL statements than allowed. */
+    private static ResultMatcher sqlStatementsAtMost(int budget) {
+        return result -> {
+            String header = result.getResponse().getHeader(SqlStatementCountFilter.HEADER);
+            assertNotNull(header, "Missing " + SqlStatementCountFilter.HEADER + " header");
+            int statements = Integer.parseInt(header);
+            assertTrue(statements <= budget,
+                    result.getRequest().getRequestURI() + " issued " + statements + " SQL statements; budget is " + budget);
+        };
+    }
+}
@@ -1,8 +1,12 @@
 package com.dvlpr.CampusJobBoardSystem.controller;
 
+import com.dvlpr.CampusJobBoardSystem.dto.EmployerJobSummary;
+import com.dvlpr.CampusJobBoardSystem.dto.JobImportResult;
 import com.dvlpr.CampusJobBoardSystem.entity.*;
 import com.dvlpr.CampusJobBoardSystem.security.SecurityConfig;
 import com.dvlpr.CampusJobBoardSystem.service.ApplicationService;
+import com.dvlpr.CampusJobBoardSystem.service.JobChangeTracker;
+import com.dvlpr.CampusJobBoardSystem.service.JobImportService;
 import com.dvlpr.CampusJobBoardSystem.service.JobService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +16,9 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
@@ -19,11 +26,14 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -44,13 +54,19 @@ class EmployerControllerTest {
     @Autowired
     private ApplicationService applicationService;
 
+    @Autowired
+    private JobImportService jobImportService;
+
+    @Autowired
+    private JobChangeTracker jobChangeTracker;
+
     private Job testJob;
     private User testEmployer;
 
     @BeforeEach
     void setUp() {
         // Reset mocks to clear invocation counts between tests
-        reset(jobService, applicationService);
+        reset(jobService, applicationService, jobImportService);
 
         testEmployer = new User();
         testEmployer.setId(1L);
@@ -75,14 +91,18 @@ class EmployerControllerTest {
     @Test
     @WithMockUser(username = "employer@test.com", roles = "EMPLOYER")
     void testDashboard_ReturnsEmployerJobsInView() throws Exception {
-        List<Job> employerJobs = Arrays.asList(testJob);
+        List<EmployerJobSummary> employerJobs = Arrays.asList(new EmployerJobSummary(testJob.getId(),
+                testJob.getTitle(), testJob.getCategory(), testJob.getLocation(), testJob.getStatus()));
         when(jobService.getJobsByEmployer("employer@test.com")).thenReturn(employerJobs);
+        when(applicationService.getApplicationCounts(List.of(testJob.getId()))).thenReturn(Map.of(testJob.getId(), 3L));
 
         mockMvc.perform(get("/employer/dashboard"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("employer/dashboard"))
                 .andExpect(model().attributeExists("jobs"))
-                .andExpect(model().attribute("jobs", employerJobs));
+                .andExpect(model().attribute("jobs", employerJobs))
+                .andExpect(model().attribute("applicationCounts", Map.of(testJob.getId(), 3L)))
+                .andExpect(content().string(containsString("<td>3</td>")));
 
         verify(jobService, times(1)).getJobsByEmployer("employer@test.com");
     }
@@ -98,6 +118,28 @@ class EmployerControllerTest {
                 .andExpect(model().attributeExists("jobs"));
     }
 
+    @Test
+    @WithMockUser(username = "employer@test.com", roles = "EMPLOYER")
+    void testDashboard_Unchanged_Returns304UntilOwnJobsChange() throws Exception {
+        when(jobService.getJobsByEmployer("employer@test.com")).thenReturn(Collections.emptyList());
+        MockHttpSession session = new MockHttpSession();
+
+        String etag = mockMvc.perform(get("/employer/dashboard").session(session))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        jobChangeTracker.employerChanged("other@test.com");
+        mockMvc.perform(get("/employer/dashboard").session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(jobService, times(1)).getJobsByEmployer("employer@test.com");
+
+        jobChangeTracker.employerChanged("employer@test.com");
+        mockMvc.perform(get("/employer/dashboard").session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        verify(jobService, times(2)).getJobsByEmployer("employer@test.com");
+    }
+
     // ==================== Create Job Tests ====================
 
     @Test
@@ -174,6 +216,33 @@ class EmployerControllerTest {
         verify(jobService, never()).postJob(any(Job.class), anyString());
     }
 
+    // ==================== Import Jobs Tests ====================
+
+    @Test
+    @WithMockUser(username = "employer@test.com", roles = "EMPLOYER")
+    void testImportJobs_JsonFile_RedirectsWithResult() throws Exception {
+        JobImportResult result = new JobImportResult(2, 1, List.of(new JobImportResult.RowError(3, "Job title is required")), 10);
+        when(jobImportService.importJobs(any(), eq(true), eq("employer@test.com"))).thenReturn(result);
+        MockMultipartFile file = new MockMultipartFile("file", "jobs.json", "application/json", "[]".getBytes());
+
+        mockMvc.perform(multipart("/employer/job/import").file(file).with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/employer/dashboard"))
+                .andExpect(flash().attribute("importResult", result));
+    }
+
+    @Test
+    @WithMockUser(username = "employer@test.com", roles = "EMPLOYER")
+    void testImportJobs_EmptyFile_RedirectsWithError() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "jobs.csv", "text/csv", new byte[0]);
+
+        mockMvc.perform(multipart("/employer/job/import").file(file).with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(flash().attributeExists("error"));
+
+        verifyNoInteractions(jobImportService);
+    }
+
     // ==================== Edit Job Tests ====================
 
     @Test
@@ -311,5 +380,15 @@ class EmployerControllerTest {
         public ApplicationService applicationService() {
             return mock(ApplicationService.class);
         }
+
+        @Bean
+        public JobImportService jobImportService() {
+            return mock(JobImportService.class);
+        }
+
+        @Bean
+        public JobChangeTracker jobChangeTracker() {
+            return new JobChangeTracker();
+        }
     }
 }
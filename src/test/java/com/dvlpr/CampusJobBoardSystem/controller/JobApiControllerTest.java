@@ -0,0 +1,144 @@
+package com.dvlpr.CampusJobBoardSystem.controller;
+
+import com.dvlpr.CampusJobBoardSystem.dto.CursorPage;
+import com.dvlpr.CampusJobBoardSystem.dto.JobSearchCriteria;
+import com.dvlpr.CampusJobBoardSystem.dto.JobSuggestion;
+import com.dvlpr.CampusJobBoardSystem.dto.JobView;
+import com.dvlpr.CampusJobBoardSystem.entity.*;
+import com.dvlpr.CampusJobBoardSystem.search.JobQueryPlan;
+import com.dvlpr.CampusJobBoardSystem.security.SecurityConfig;
+import com.dvlpr.CampusJobBoardSystem.service.JobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for JobApiController.
+ * Tests the paginated JSON job feed.
+ */
+@WebMvcTest(JobApiController.class)
+@Import({SecurityConfig.class, JobApiControllerTest.TestConfig.class})
+class JobApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JobService jobService;
+
+    private Job testJob;
+
+    @BeforeEach
+    void setUp() {
+        reset(jobService);
+
+        User testEmployer = new User();
+        testEmployer.setId(1L);
+        testEmployer.setEmail("employer@test.com");
+        testEmployer.setFullName("Test Employer");
+        testEmployer.setPassword("secret-hash");
+        testEmployer.setRole(UserRole.EMPLOYER);
+
+        testJob = new Job();
+        testJob.setId(1L);
+        testJob.setTitle("Software Developer");
+        testJob.setDescription("Java developer position");
+        testJob.setLocation("Calgary");
+        testJob.setSalary(new BigDecimal("50000"));
+        testJob.setCategory("IT");
+        testJob.setStatus(JobStatus.APPROVED);
+        testJob.setEmployer(testEmployer);
+    }
+
+    @Test
+    @WithMockUser(username = "student@test.com", roles = "STUDENT")
+    void testListJobs_ReturnsPageWithNextCursor() throws Exception {
+        when(jobService.findApprovedJobs(any(JobSearchCriteria.class), isNull(), eq(20)))
+                .thenReturn(new CursorPage<>(List.of(JobView.from(testJob)), "next"));
+
+        mockMvc.perform(get("/api/jobs"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").value("Software Developer"))
+                .andExpect(jsonPath("$.items[0].employerName").value("Test Employer"))
+                .andExpect(jsonPath("$.items[0].employer").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @WithMockUser(username = "student@test.com", roles = "STUDENT")
+    void testListJobs_CategoryFilter_PassesCriteriaAndCursor() throws Exception {
+        when(jobService.findApprovedJobs(any(JobSearchCriteria.class), eq("abc"), eq(5)))
+                .thenReturn(new CursorPage<>(List.of(), null));
+
+        mockMvc.perform(get("/api/jobs").param("category", "IT").param("cursor", "abc").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty());
+
+        verify(jobService, times(1)).findApprovedJobs(argThat(criteria -> "IT".equals(criteria.getCategory())),
+                eq("abc"), eq(5));
+    }
+
+    @Test
+    @WithMockUser(username = "student@test.com", roles = "STUDENT")
+    void testExplain_StudentIsForbidden() throws Exception {
+        mockMvc.perform(get("/api/jobs/plan").param("keyword", "java"))
+                .andExpect(status().isForbidden());
+
+        verify(jobService, never()).explainSearch(any(JobSearchCriteria.class));
+    }
+
+    @Test
+    @WithMockUser(username = "admin@test.com", roles = "ADMIN")
+    void testExplain_ReturnsPlanWithoutJobIds() throws Exception {
+        JobQueryPlan.Step step = new JobQueryPlan.Step("keyword=\"java\"", "PRIMARY KEY IN (2 ids)", 2, true);
+        when(jobService.explainSearch(any(JobSearchCriteria.class)))
+                .thenReturn(new JobQueryPlan(List.of(step), 10, List.of(1L, 2L), null));
+
+        mockMvc.perform(get("/api/jobs/plan").param("keyword", "java"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.steps[0].access").value("PRIMARY KEY IN (2 ids)"))
+                .andExpect(jsonPath("$.estimatedRows").value(2))
+                .andExpect(jsonPath("$.jobIds").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(username = "student@test.com", roles = "STUDENT")
+    void testSuggest_ReturnsSuggestionsForPrefix() throws Exception {
+        when(jobService.suggestJobs("cal", 8))
+                .thenReturn(List.of(new JobSuggestion("Calgary", JobSuggestion.Field.LOCATION, 12)));
+
+        mockMvc.perform(get("/api/jobs/suggest").param("q", "cal"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].text").value("Calgary"))
+                .andExpect(jsonPath("$[0].field").value("LOCATION"))
+                .andExpect(jsonPath("$[0].count").value(12));
+    }
+
+    @Test
+    void testListJobs_Unauthenticated_IsRejected() throws Exception {
+        mockMvc.perform(get("/api/jobs"))
+                .andExpect(status().is3xxRedirection());
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        public JobService jobService() {
+            return mock(JobService.class);
+        }
+    }
+}
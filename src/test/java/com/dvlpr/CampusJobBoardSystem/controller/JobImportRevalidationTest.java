@@ -0,0 +1,81 @@
+package com.dvlpr.CampusJobBoardSystem.controller;
+
+import com.dvlpr.CampusJobBoardSystem.entity.User;
+import com.dvlpr.CampusJobBoardSystem.entity.UserRole;
+import com.dvlpr.CampusJobBoardSystem.repository.JobRepository;
+import com.dvlpr.CampusJobBoardSystem.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * A cached employer dashboard must not be answered with 304 after the employer imports jobs.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+class JobImportRevalidationTest {
+
+    private static final String EMPLOYER = "import-employer@test.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository.deleteAll();
+        userRepository.deleteAll();
+        User employer = new User();
+        employer.setFullName("Import Employer");
+        employer.setEmail(EMPLOYER);
+        employer.setPassword("secret");
+        employer.setRole(UserRole.EMPLOYER);
+        userRepository.save(employer);
+    }
+
+    @Test
+    @WithMockUser(username = EMPLOYER, roles = "EMPLOYER")
+    void testDashboard_AfterImport_IsRenderedAgain() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        String etag = mockMvc.perform(get("/employer/dashboard").session(session))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/employer/dashboard").session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // Imported from another session, so the dashboard request below carries no flash message
+        String csv = "Title,Description,Deadline\n"
+                + "Imported Lab Tutor,Help first-year students in the chemistry lab," + LocalDate.now().plusDays(30) + "\n";
+        mockMvc.perform(multipart("/employer/job/import")
+                        .file(new MockMultipartFile("file", "jobs.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8)))
+                        .session(new MockHttpSession()).with(csrf()))
+                .andExpect(status().is3xxRedirection());
+
+        mockMvc.perform(get("/employer/dashboard").session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("Imported Lab Tutor")));
+    }
+}
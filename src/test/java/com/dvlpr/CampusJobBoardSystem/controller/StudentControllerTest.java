@@ -1,9 +1,17 @@
 package com.dvlpr.CampusJobBoardSystem.controller;
 
+import com.dvlpr.CampusJobBoardSystem.dto.CursorPage;
+import com.dvlpr.CampusJobBoardSystem.dto.FacetValue;
+import com.dvlpr.CampusJobBoardSystem.dto.JobSearchCriteria;
+import com.dvlpr.CampusJobBoardSystem.dto.JobView;
 import com.dvlpr.CampusJobBoardSystem.entity.*;
+import com.dvlpr.CampusJobBoardSystem.exception.ApplicationQueueFullException;
 import com.dvlpr.CampusJobBoardSystem.exception.DuplicateApplicationException;
+import com.dvlpr.CampusJobBoardSystem.security.CustomUserDetails;
 import com.dvlpr.CampusJobBoardSystem.security.SecurityConfig;
 import com.dvlpr.CampusJobBoardSystem.service.ApplicationService;
+import com.dvlpr.CampusJobBoardSystem.service.JobFragmentCache;
+import com.dvlpr.CampusJobBoardSystem.service.JobChangeTracker;
 import com.dvlpr.CampusJobBoardSystem.service.JobService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,18 +20,24 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpSession;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.thymeleaf.ITemplateEngine;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -45,8 +59,13 @@ class StudentControllerTest {
     @Autowired
     private ApplicationService applicationService;
 
+    @Autowired
+    private JobChangeTracker jobChangeTracker;
+
     private Job testJob;
+    private JobView testJobView;
     private User testEmployer;
+    private User testStudent;
 
     @BeforeEach
     void setUp() {
@@ -59,6 +78,12 @@ class StudentControllerTest {
         testEmployer.setFullName("Test Employer");
         testEmployer.setRole(UserRole.EMPLOYER);
 
+        testStudent = new User();
+        testStudent.setId(2L);
+        testStudent.setEmail("student@test.com");
+        testStudent.setFullName("Test Student");
+        testStudent.setRole(UserRole.STUDENT);
+
         testJob = new Job();
         testJob.setId(1L);
         testJob.setTitle("Software Developer");
@@ -69,6 +94,7 @@ class StudentControllerTest {
         testJob.setDeadline(LocalDate.now().plusDays(30));
         testJob.setStatus(JobStatus.APPROVED);
         testJob.setEmployer(testEmployer);
+        testJobView = JobView.from(testJob);
     }
 
     // ==================== Dashboard Tests ====================
@@ -76,8 +102,8 @@ class StudentControllerTest {
     @Test
     @WithMockUser(username = "student@test.com", roles = "STUDENT")
     void testListJobs_ReturnsApprovedJobsInDashboard() throws Exception {
-        List<Job> approvedJobs = Arrays.asList(testJob);
-        when(jobService.getAllApprovedJobs()).thenReturn(approvedJobs);
+        List<JobView> approvedJobs = Arrays.asList(testJobView);
+        when(jobService.getApprovedJobsPage(null, 20)).thenReturn(new CursorPage<>(approvedJobs, null));
 
         mockMvc.perform(get("/student/dashboard"))
                 .andExpect(status().isOk())
@@ -85,13 +111,75 @@ class StudentControllerTest {
                 .andExpect(model().attributeExists("jobs"))
                 .andExpect(model().attribute("jobs", approvedJobs));
 
-        verify(jobService, times(1)).getAllApprovedJobs();
+        verify(jobService, times(1)).getApprovedJobsPage(null, 20);
+    }
+
+    @Test
+    @WithMockUser(username = "student@test.com", roles = "STUDENT")
+    void testListJobs_WithCursor_PassesCursorAndExposesNextCursor() throws Exception {
+        when(jobService.getApprovedJobsPage("abc", 10)).thenReturn(new CursorPage<>(List.of(testJobView), "def"));
+
+        mockMvc.perform(get("/student/dashboard").param("cursor", "abc").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("jobs", List.of(testJobView)))
+                .andExpect(model().attribute("nextCursor", "def"));
+    }
+
+    @Test
+    @WithMockUser(username = "student@test.com", roles = "STUDENT")
+    void testSearchJobs_Keyword_ReturnsPageOfMatches() throws Exception {
+        when(jobService.findApprovedJobs(any(JobSearchCriteria.class), isNull(), eq(20)))
+                .thenReturn(new CursorPage<>(List.of(testJobView), null));
+
+        mockMvc.perform(get("/student/search").param("keyword", "java"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("student/dashboard"))
+                .andExpect(model().attribute("jobs", List.of(testJobView)))
+                .andExpect(model().attribute("searchKeyword", "java"));
+    }
+
+    @Test
+    @WithMockUser(username = "student@test.com", roles = "STUDENT")
+    void testSearchJobs_CombinesAllFiltersInOneCriteria() throws Exception {
+        when(jobService.findApprovedJobs(any(JobSearchCriteria.class), any(), anyInt()))
+                .thenReturn(new CursorPage<>(List.of(testJobView), null));
+
+        mockMvc.perform(get("/student/search")
+                        .param("keyword", "java")
+                        .param("category", "IT")
+                        .param("location", "Calgary")
+                        .param("minSalary", "20")
+                        .param("deadlineTo", "2030-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("searchKeyword", "java"))
+                .andExpect(model().attribute("selectedCategory", "IT"))
+                .andExpect(model().attribute("selectedLocation", "Calgary"));
+
+        verify(jobService, times(1)).findApprovedJobs(argThat(criteria ->
+                "java".equals(criteria.getKeyword())
+                        && "IT".equals(criteria.getCategory())
+                        && "Calgary".equals(criteria.getLocation())
+                        && new BigDecimal("20").equals(criteria.getMinSalary())
+                        && LocalDate.of(2030, 1, 31).equals(criteria.getDeadlineTo())), isNull(), eq(20));
+    }
+
+    @Test
+    @WithMockUser(username = "student@test.com", roles = "STUDENT")
+    void testListJobs_RendersFacetCounts() throws Exception {
+        when(jobService.getApprovedJobsPage(null, 20)).thenReturn(new CursorPage<>(List.of(testJobView), null));
+        when(jobService.getAvailableCategories()).thenReturn(List.of(new FacetValue("IT", 42)));
+        when(jobService.getAvailableLocations()).thenReturn(List.of(new FacetValue("Calgary", 7)));
+
+        mockMvc.perform(get("/student/dashboard"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("IT (42)")))
+                .andExpect(content().string(containsString("Calgary (7)")));
     }
 
     @Test
     @WithMockUser(username = "student@test.com", roles = "STUDENT")
     void testListJobs_EmptyList_ReturnsEmptyJobsInDashboard() throws Exception {
-        when(jobService.getAllApprovedJobs()).thenReturn(Collections.emptyList());
+        when(jobService.getApprovedJobsPage(null, 20)).thenReturn(new CursorPage<>(Collections.emptyList(), null));
 
         mockMvc.perform(get("/student/dashboard"))
                 .andExpect(status().isOk())
@@ -104,20 +192,64 @@ class StudentControllerTest {
     @Test
     @WithMockUser(username = "student@test.com", roles = "STUDENT")
     void testViewJobDetails_ApprovedJob_ReturnsJobDetailsView() throws Exception {
-        when(jobService.getJobById(1L)).thenReturn(testJob);
+        when(jobService.findApprovedJob(1L)).thenReturn(Optional.of(testJobView));
 
         mockMvc.perform(get("/student/job/1"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("student/job-details"))
                 .andExpect(model().attributeExists("job"))
-                .andExpect(model().attribute("job", testJob));
+                .andExpect(model().attribute("job", testJobView))
+                .andExpect(content().string(containsString("employer@test.com")));
+    }
+
+    @Test
+    @WithMockUser(username = "student@test.com", roles = "STUDENT")
+    void testListJobs_Unchanged_Returns304WithoutQueryingUntilApprovedJobsChange() throws Exception {
+        when(jobService.getApprovedJobsPage(null, JobService.DEFAULT_PAGE_SIZE))
+                .thenReturn(new CursorPage<>(List.of(testJobView), null));
+        MockHttpSession session = new MockHttpSession();
+
+        String etag = mockMvc.perform(get("/student/dashboard").session(session))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/student/dashboard").session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(jobService, times(1)).getApprovedJobsPage(null, JobService.DEFAULT_PAGE_SIZE);
+
+        // A flash message from a redirect is always rendered
+        mockMvc.perform(get("/student/dashboard").session(session).header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .flashAttr("successMessage", "Application submitted successfully!"))
+                .andExpect(status().isOk());
+
+        jobChangeTracker.approvedChanged();
+        mockMvc.perform(get("/student/dashboard").session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        verify(jobService, times(3)).getApprovedJobsPage(null, JobService.DEFAULT_PAGE_SIZE);
+    }
+
+    @Test
+    @WithMockUser(username = "student@test.com", roles = "STUDENT")
+    void testViewJobDetails_SameJobVersion_Returns304() throws Exception {
+        when(jobService.findApprovedJob(1L)).thenReturn(Optional.of(testJobView));
+        MockHttpSession session = new MockHttpSession();
+
+        String etag = mockMvc.perform(get("/student/job/1").session(session))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/student/job/1").session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/student/job/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
     }
 
     @Test
     @WithMockUser(username = "student@test.com", roles = "STUDENT")
     void testViewJobDetails_PendingJob_RedirectsToDashboard() throws Exception {
-        testJob.setStatus(JobStatus.PENDING);
-        when(jobService.getJobById(1L)).thenReturn(testJob);
+        // Pending and rejected jobs are not in the approved catalog
+        when(jobService.findApprovedJob(1L)).thenReturn(Optional.empty());
 
         mockMvc.perform(get("/student/job/1"))
                 .andExpect(status().is3xxRedirection())
@@ -127,8 +259,8 @@ class StudentControllerTest {
     @Test
     @WithMockUser(username = "student@test.com", roles = "STUDENT")
     void testViewJobDetails_RejectedJob_RedirectsToDashboard() throws Exception {
-        testJob.setStatus(JobStatus.REJECTED);
-        when(jobService.getJobById(1L)).thenReturn(testJob);
+        // Pending and rejected jobs are not in the approved catalog
+        when(jobService.findApprovedJob(1L)).thenReturn(Optional.empty());
 
         mockMvc.perform(get("/student/job/1"))
                 .andExpect(status().is3xxRedirection())
@@ -170,41 +302,64 @@ class StudentControllerTest {
     // ==================== Apply for Job Tests ====================
 
     @Test
-    @WithMockUser(username = "student@test.com", roles = "STUDENT")
     void testApplyJob_Success_RedirectsWithSuccessMessage() throws Exception {
-        doNothing().when(applicationService).applyForJob(eq(1L), eq("student@test.com"));
+        when(applicationService.submitApplication(1L, 2L)).thenReturn(false);
 
         mockMvc.perform(post("/student/job/1/apply")
+                        .with(user(new CustomUserDetails(testStudent)))
                         .with(csrf()))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/student/dashboard"))
                 .andExpect(flash().attributeExists("successMessage"));
 
-        verify(applicationService, times(1)).applyForJob(1L, "student@test.com");
+        verify(applicationService, times(1)).submitApplication(1L, 2L);
+    }
+
+    @Test
+    void testApplyJob_Queued_RedirectsWithPendingMessage() throws Exception {
+        when(applicationService.submitApplication(1L, 2L)).thenReturn(true);
+
+        mockMvc.perform(post("/student/job/1/apply")
+                        .with(user(new CustomUserDetails(testStudent)))
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(flash().attribute("successMessage", containsString("pending")));
+    }
+
+    @Test
+    void testApplyJob_QueueFull_RedirectsWithRetryMessage() throws Exception {
+        doThrow(new ApplicationQueueFullException("Please try again in a moment."))
+                .when(applicationService).submitApplication(eq(1L), eq(2L));
+
+        mockMvc.perform(post("/student/job/1/apply")
+                        .with(user(new CustomUserDetails(testStudent)))
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(flash().attribute("errorMessage", containsString("try again")));
     }
 
     @Test
-    @WithMockUser(username = "student@test.com", roles = "STUDENT")
     void testApplyJob_DuplicateApplication_RedirectsWithErrorMessage() throws Exception {
         doThrow(new DuplicateApplicationException("You have already applied for this job"))
-                .when(applicationService).applyForJob(eq(1L), eq("student@test.com"));
+                .when(applicationService).submitApplication(eq(1L), eq(2L));
 
         mockMvc.perform(post("/student/job/1/apply")
+                        .with(user(new CustomUserDetails(testStudent)))
                         .with(csrf()))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/student/dashboard"))
                 .andExpect(flash().attributeExists("errorMessage"));
 
-        verify(applicationService, times(1)).applyForJob(1L, "student@test.com");
+        verify(applicationService, times(1)).submitApplication(1L, 2L);
     }
 
     @Test
-    @WithMockUser(username = "student@test.com", roles = "STUDENT")
     void testApplyJob_GenericException_RedirectsWithErrorMessage() throws Exception {
         doThrow(new RuntimeException("Unexpected error"))
-                .when(applicationService).applyForJob(eq(1L), eq("student@test.com"));
+                .when(applicationService).submitApplication(eq(1L), eq(2L));
 
         mockMvc.perform(post("/student/job/1/apply")
+                        .with(user(new CustomUserDetails(testStudent)))
                         .with(csrf()))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/student/dashboard"))
@@ -230,5 +385,15 @@ class StudentControllerTest {
         public ApplicationService applicationService() {
             return mock(ApplicationService.class);
         }
+
+        @Bean
+        public JobChangeTracker jobChangeTracker() {
+            return new JobChangeTracker();
+        }
+
+        @Bean
+        public JobFragmentCache jobFragmentCache(ITemplateEngine templateEngine) {
+            return new JobFragmentCache(templateEngine, true, 100);
+        }
     }
 }
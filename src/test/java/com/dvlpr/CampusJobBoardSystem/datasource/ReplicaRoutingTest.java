@@ -0,0 +1,137 @@
+package com.dvlpr.CampusJobBoardSystem.datasource;
+
+import com.dvlpr.CampusJobBoardSystem.dto.UserSearchCriteria;
+import com.dvlpr.CampusJobBoardSystem.entity.User;
+import com.dvlpr.CampusJobBoardSystem.entity.UserRole;
+import com.dvlpr.CampusJobBoardSystem.entity.UserStatus;
+import com.dvlpr.CampusJobBoardSystem.repository.JobRepository;
+import com.dvlpr.CampusJobBoardSystem.repository.UserRepository;
+import com.dvlpr.CampusJobBoardSystem.service.AdminService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Read/write routing against two in-memory databases standing in for a primary and its replica.
+ * The replica is refreshed only when a test calls {@link #replicate()}, so anything written
+ * afterwards shows up as replication lag.
+ */
+@SpringBootTest
+@ActiveProfiles({"h2", "replica"})
+class ReplicaRoutingTest {
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository.deleteAll();
+        userRepository.deleteAll();
+        alice = user("alice@uni.ca");
+        replicate(routingDataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testReadOnlyTransactionsUseReplicaAndWritesUsePrimary() {
+        user("bob@uni.ca");
+
+        assertEquals(List.of("alice@uni.ca"), emails());
+        assertEquals(List.of("bob@uni.ca", "alice@uni.ca"), transactionTemplate.execute(status -> emails()));
+    }
+
+    @Test
+    void testReadsStayOnPrimaryAfterOwnWrite() {
+        signIn("admin@uni.ca");
+        adminService.deactivateUser(alice.getId());
+
+        assertEquals(UserStatus.INACTIVE, adminService.findUsers(new UserSearchCriteria(), 0, 10).getContent().get(0).getStatus());
+
+        signIn("someone@uni.ca");
+        assertEquals(UserStatus.ACTIVE, adminService.findUsers(new UserSearchCriteria(), 0, 10).getContent().get(0).getStatus());
+    }
+
+    @Test
+    void testTracker_ForgetsWritesOlderThanReplicaLag() {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ZERO);
+        tracker.recordWrite("alice@uni.ca");
+
+        assertFalse(tracker.wroteRecently("alice@uni.ca"));
+        assertFalse(tracker.wroteRecently(null));
+    }
+
+    private List<String> emails() {
+        return adminService.findUsers(new UserSearchCriteria(), 0, 10).getContent().stream().map(User::getEmail).toList();
+    }
+
+    private User user(String email) {
+        User user = new User();
+        user.setFullName(email);
+        user.setEmail(email);
+        user.setPassword("secret");
+        user.setRole(UserRole.STUDENT);
+        return userRepository.save(user);
+    }
+
+    private static void signIn(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+
+    /** Copy the primary's schema and rows to the replica, as replication would. */
+    private static void replicate(ReplicaRoutingDataSource routingDataSource) {
+        DataSource primary = routingDataSource.getResolvedDataSources().get(ReplicaRoutingDataSource.PRIMARY);
+        DataSource replica = routingDataSource.getResolvedDataSources().get(ReplicaRoutingDataSource.REPLICA_PREFIX + 0);
+        JdbcTemplate replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.execute("DROP ALL OBJECTS");
+        for (String sql : new JdbcTemplate(primary).queryForList("SCRIPT", String.class)) {
+            replicaJdbc.execute(sql);
+        }
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+        /** Give the replica the schema before the startup index builds read from it. */
+        @EventListener(ApplicationReadyEvent.class)
+        @Order(Ordered.HIGHEST_PRECEDENCE)
+        public void replicateSchema(ApplicationReadyEvent event) {
+            replicate(event.getApplicationContext().getBean(ReplicaRoutingDataSource.class));
+        }
+    }
+}
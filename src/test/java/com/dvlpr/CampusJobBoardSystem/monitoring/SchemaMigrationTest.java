@@ -0,0 +1,114 @@
+package com.dvlpr.CampusJobBoardSystem.monitoring;
+
+import com.dvlpr.CampusJobBoardSystem.entity.Job;
+import com.dvlpr.CampusJobBoardSystem.entity.User;
+import com.dvlpr.CampusJobBoardSystem.entity.UserRole;
+import com.dvlpr.CampusJobBoardSystem.repository.JobRepository;
+import com.dvlpr.CampusJobBoardSystem.repository.UserRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The migrations run against an empty (in-memory, MySQL-mode) database, Hibernate validates the
+ * entities against the result, and the index check finds every index the queries need. A database
+ * holding only the original schema is baselined and brought up to the same state.
+ * Identifiers are kept in lower case, as MySQL does with the table names on Linux.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:campus_job_board_migrated;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@ActiveProfiles("h2")
+@DirtiesContext
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private IndexCoverageCheck indexCoverageCheck;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void testMigrations_CreateValidSchemaWithEveryRequiredIndex() throws Exception {
+        assertEquals(0, flyway.info().pending().length);
+        assertTrue(flyway.info().applied().length >= 2);
+        assertTrue(indexCoverageCheck.findMissing().isEmpty());
+
+        jdbcTemplate.execute("DROP INDEX idx_job_status_deadline");
+        try {
+            List<IndexCoverageCheck.RequiredIndex> missing = indexCoverageCheck.findMissing();
+
+            assertEquals(List.of("idx_job_status_deadline"), missing.stream().map(IndexCoverageCheck.RequiredIndex::name).toList());
+            assertEquals("CREATE INDEX idx_job_status_deadline ON job (status, deadline)", missing.get(0).createStatement());
+        } finally {
+            jdbcTemplate.execute("CREATE INDEX idx_job_status_deadline ON job (status, deadline)");
+        }
+    }
+
+    @Test
+    void testBaselinedDatabase_ReceivesLaterMigrationsAndSeedsJobIds() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:campus_job_board_baselined;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline_schema.sql")).execute(dataSource);
+        JdbcTemplate baselined = new JdbcTemplate(dataSource);
+        baselined.update("INSERT INTO `user` (user_id, full_name, email, password, role) "
+                + "VALUES (1, 'Employer', 'employer@test.com', 'secret', 'EMPLOYER')");
+        baselined.update("INSERT INTO job (job_id, employer_id, title, description, status) "
+                + "VALUES (120, 1, 'Tutor', 'Tutor first-year calculus', 'APPROVED')");
+
+        Flyway.configure().dataSource(dataSource).baselineOnMigrate(true).baselineVersion("1").load().migrate();
+
+        assertEquals(0L, baselined.queryForObject("SELECT COUNT(*) FROM location", Long.class));
+        assertEquals(0L, baselined.queryForObject(
+                "SELECT application_count + version FROM job WHERE job_id = 120", Long.class));
+        assertEquals(170L, baselined.queryForObject(
+                "SELECT next_val FROM id_generator WHERE sequence_name = 'JOB'", Long.class));
+        assertTrue(new IndexCoverageCheck(dataSource).findMissing().isEmpty());
+    }
+
+    @Test
+    void testJobIds_ContinueAboveTheSeededGenerator() {
+        User employer = new User();
+        employer.setFullName("Employer");
+        employer.setEmail("seeded@test.com");
+        employer.setPassword("secret");
+        employer.setRole(UserRole.EMPLOYER);
+        userRepository.save(employer);
+        jdbcTemplate.update("INSERT INTO job (job_id, employer_id, title, description, status) "
+                + "VALUES (120, ?, 'Tutor', 'Tutor first-year calculus', 'APPROVED')", employer.getId());
+        // What V4 writes for a database whose highest job ID is 120
+        jdbcTemplate.update("UPDATE id_generator SET next_val = 170 WHERE sequence_name = 'JOB'");
+
+        Job job = new Job();
+        job.setTitle("Lab Assistant");
+        job.setDescription("Prepare the chemistry labs");
+        job.setDeadline(LocalDate.now().plusDays(7));
+        job.setEmployer(employer);
+        jobRepository.save(job);
+
+        assertTrue(job.getId() > 120 && job.getId() <= 170, "allocated " + job.getId());
+    }
+}
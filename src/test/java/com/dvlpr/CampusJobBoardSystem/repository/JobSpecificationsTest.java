@@ -0,0 +1,64 @@
+package com.dvlpr.CampusJobBoardSystem.repository;
+
+import com.dvlpr.CampusJobBoardSystem.entity.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Orderings against a real (in-memory, MySQL mode) database, which sorts NULLs first ascending.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class JobSpecificationsTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    private User employer;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository.deleteAll();
+        userRepository.deleteAll();
+        employer = new User();
+        employer.setFullName("Order Employer");
+        employer.setEmail("order@test.com");
+        employer.setPassword("secret");
+        employer.setRole(UserRole.EMPLOYER);
+        employer = userRepository.save(employer);
+    }
+
+    @Test
+    void testOrderedByDeadline_PutsJobsWithoutDeadlineLast() {
+        Long open = job(null);
+        Long later = job(LocalDate.now().plusDays(20));
+        Long sooner = job(LocalDate.now().plusDays(5));
+        Long alsoLater = job(LocalDate.now().plusDays(20));
+
+        List<Long> ids = jobRepository.findBy(JobSpecifications.orderedByDeadline(), query -> query.all())
+                .stream().map(Job::getId).toList();
+
+        assertEquals(List.of(sooner, later, alsoLater, open), ids);
+    }
+
+    private Long job(LocalDate deadline) {
+        Job job = new Job();
+        job.setTitle("Campus Tour Guide");
+        job.setDescription("Lead prospective students around campus");
+        job.setDeadline(deadline);
+        job.setEmployer(employer);
+        job.setStatus(JobStatus.APPROVED);
+        return jobRepository.save(job).getId();
+    }
+}
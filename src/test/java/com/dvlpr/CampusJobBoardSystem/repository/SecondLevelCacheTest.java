@@ -0,0 +1,117 @@
+package com.dvlpr.CampusJobBoardSystem.repository;
+
+import com.dvlpr.CampusJobBoardSystem.dto.AdminJobSummary;
+import com.dvlpr.CampusJobBoardSystem.entity.*;
+import com.dvlpr.CampusJobBoardSystem.service.AdminService;
+import com.dvlpr.CampusJobBoardSystem.service.JobService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Second-level cache behaviour against a real (in-memory) database:
+ * repeated lookups are served from the cache, and writes never leave stale entries behind.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User employer;
+    private Job job;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository.deleteAll();
+        userRepository.deleteAll();
+        employer = new User();
+        employer.setFullName("Cache Employer");
+        employer.setEmail("cache@test.com");
+        employer.setPassword("secret");
+        employer.setRole(UserRole.EMPLOYER);
+        employer = userRepository.save(employer);
+        job = new Job();
+        job.setTitle("Library Assistant");
+        job.setDescription("Shelve books and help students");
+        job.setDeadline(LocalDate.now().plusDays(30));
+        job.setEmployer(employer);
+        job = jobRepository.save(job);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testFindByEmail_RepeatedLookupIsServedFromCache() {
+        userRepository.findByEmail("cache@test.com").orElseThrow();
+        long queries = statistics.getPrepareStatementCount();
+
+        User cached = userRepository.findByEmail("cache@test.com").orElseThrow();
+
+        assertEquals(employer.getId(), cached.getId());
+        assertEquals(queries, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+        assertTrue(userRepository.findByEmail("nobody@test.com").isEmpty());
+    }
+
+    @Test
+    void testDeactivateUser_UpdatesCachedUser() {
+        userRepository.findByEmail("cache@test.com").orElseThrow();
+
+        adminService.deactivateUser(employer.getId());
+
+        assertEquals(UserStatus.INACTIVE, userRepository.findByEmail("cache@test.com").orElseThrow().getStatus());
+        adminService.activateUser(employer.getId());
+        assertEquals(UserStatus.ACTIVE, userRepository.findByEmail("cache@test.com").orElseThrow().getStatus());
+    }
+
+    @Test
+    void testUpdateJobStatus_UpdatesCachedJobAndInvalidatesQueries() {
+        jobRepository.findById(job.getId()).orElseThrow();
+        List<AdminJobSummary> before = jobRepository.findAdminSummaries();
+        jobRepository.findAdminSummaries();
+        assertTrue(statistics.getQueryCacheHitCount() > 0);
+
+        jobService.updateJobStatus(job.getId(), JobStatus.APPROVED);
+
+        assertEquals(JobStatus.PENDING, before.get(0).status());
+        assertEquals(JobStatus.APPROVED, jobRepository.findById(job.getId()).orElseThrow().getStatus());
+        assertEquals(JobStatus.APPROVED, jobRepository.findAdminSummaries().get(0).status());
+    }
+
+    @Test
+    void testModerateJobs_BulkUpdateEvictsCachedJobs() {
+        jobRepository.findById(job.getId()).orElseThrow();
+        jobRepository.findAdminSummaries();
+
+        assertEquals(1, jobService.moderateJobs(List.of(job.getId()), JobStatus.REJECTED));
+
+        assertEquals(JobStatus.REJECTED, jobRepository.findById(job.getId()).orElseThrow().getStatus());
+        assertEquals(JobStatus.REJECTED, jobRepository.findAdminSummaries().get(0).status());
+        assertEquals(0, jobService.moderateJobs(List.of(job.getId()), JobStatus.APPROVED));
+    }
+}
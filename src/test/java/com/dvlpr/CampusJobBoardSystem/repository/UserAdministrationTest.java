@@ -0,0 +1,133 @@
+package com.dvlpr.CampusJobBoardSystem.repository;
+
+import com.dvlpr.CampusJobBoardSystem.dto.UserSearchCriteria;
+import com.dvlpr.CampusJobBoardSystem.entity.User;
+import com.dvlpr.CampusJobBoardSystem.entity.UserRole;
+import com.dvlpr.CampusJobBoardSystem.entity.UserStatus;
+import com.dvlpr.CampusJobBoardSystem.service.AdminService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Admin user list filters, paging and set-based status updates against a real (in-memory) database.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class UserAdministrationTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 9, 1);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private User alice;
+    private User bob;
+    private User carol;
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository.deleteAll();
+        userRepository.deleteAll();
+        alice = user("alice@uni.ca", UserRole.STUDENT, 0);
+        bob = user("bob@uni.ca", UserRole.STUDENT, 2);
+        carol = user("carol@corp.ca", UserRole.EMPLOYER, 4);
+        admin = user("admin@uni.ca", UserRole.ADMIN, 6);
+    }
+
+    @Test
+    void testFindUsers_FiltersByRolePrefixAndRegistrationDays() {
+        UserSearchCriteria criteria = new UserSearchCriteria();
+        criteria.setRole(UserRole.STUDENT);
+        assertEquals(List.of(bob.getId(), alice.getId()), ids(adminService.findUsers(criteria, 0, 50)));
+
+        criteria = new UserSearchCriteria();
+        criteria.setEmailPrefix("car");
+        assertEquals(List.of(carol.getId()), ids(adminService.findUsers(criteria, 0, 50)));
+
+        criteria = new UserSearchCriteria();
+        criteria.setCreatedFrom(DAY.plusDays(2));
+        criteria.setCreatedTo(DAY.plusDays(4));
+        assertEquals(List.of(carol.getId(), bob.getId()), ids(adminService.findUsers(criteria, 0, 50)));
+    }
+
+    @Test
+    void testFindUsers_PagesNewestFirstAndClampsSize() {
+        Page<User> first = adminService.findUsers(new UserSearchCriteria(), 0, 3);
+        Page<User> second = adminService.findUsers(new UserSearchCriteria(), 1, 3);
+
+        assertEquals(List.of(admin.getId(), carol.getId(), bob.getId()), ids(first));
+        assertEquals(List.of(alice.getId()), ids(second));
+        assertEquals(4, first.getTotalElements());
+        assertEquals(AdminService.MAX_PAGE_SIZE, adminService.findUsers(new UserSearchCriteria(), 0, 10_000).getSize());
+    }
+
+    @Test
+    void testUpdateStatusMatching_SkipsAdminsAndUpdatesCachedUsers() {
+        userRepository.findByEmail("alice@uni.ca").orElseThrow();
+        UserSearchCriteria criteria = new UserSearchCriteria();
+        criteria.setEmailPrefix("a");
+
+        assertEquals(1, adminService.updateStatus(criteria, UserStatus.INACTIVE));
+
+        assertEquals(UserStatus.INACTIVE, userRepository.findByEmail("alice@uni.ca").orElseThrow().getStatus());
+        assertEquals(UserStatus.ACTIVE, userRepository.findById(admin.getId()).orElseThrow().getStatus());
+        assertEquals(0, adminService.updateStatus(criteria, UserStatus.INACTIVE));
+        assertThrows(IllegalArgumentException.class,
+                () -> adminService.updateStatus(new UserSearchCriteria(), UserStatus.INACTIVE));
+    }
+
+    @Test
+    void testUpdateStatusByIds_ChangesOnlySelectedNonAdminUsers() {
+        assertEquals(2, adminService.updateStatus(List.of(bob.getId(), carol.getId(), admin.getId()), UserStatus.INACTIVE));
+
+        UserSearchCriteria inactive = new UserSearchCriteria();
+        inactive.setStatus(UserStatus.INACTIVE);
+        assertEquals(List.of(carol.getId(), bob.getId()), ids(adminService.findUsers(inactive, 0, 50)));
+        assertEquals(0, adminService.updateStatus(List.of(), UserStatus.ACTIVE));
+    }
+
+    private User user(String email, UserRole role, int daysAfter) {
+        User user = new User();
+        user.setFullName(email);
+        user.setEmail(email);
+        user.setPassword("secret");
+        user.setRole(role);
+        user = userRepository.save(user);
+        Long id = user.getId();
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createQuery("UPDATE User u SET u.createdAt = :at WHERE u.id = :id")
+                .setParameter("at", DAY.plusDays(daysAfter).atTime(9, 0))
+                .setParameter("id", id)
+                .executeUpdate());
+        return user;
+    }
+
+    private static List<Long> ids(Page<User> page) {
+        return page.getContent().stream().map(User::getId).toList();
+    }
+}
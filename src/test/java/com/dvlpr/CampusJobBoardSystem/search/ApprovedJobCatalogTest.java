@@ -0,0 +1,164 @@
+package com.dvlpr.CampusJobBoardSystem.search;
+
+import com.dvlpr.CampusJobBoardSystem.dto.CursorPage;
+import com.dvlpr.CampusJobBoardSystem.dto.JobCursor;
+import com.dvlpr.CampusJobBoardSystem.dto.JobSearchCriteria;
+import com.dvlpr.CampusJobBoardSystem.dto.JobSort;
+import com.dvlpr.CampusJobBoardSystem.dto.JobSortCursor;
+import com.dvlpr.CampusJobBoardSystem.dto.JobView;
+import com.dvlpr.CampusJobBoardSystem.entity.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApprovedJobCatalogTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 9, 1, 12, 0);
+    private static final LocalDate DEADLINE = LocalDate.of(2025, 10, 1);
+
+    private ApprovedJobCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new ApprovedJobCatalog();
+        catalog.rebuild(List.of(
+                job(1L, 1, "IT", "Calgary", "20"),
+                job(2L, 2, "Food Service", "Edmonton", "16"),
+                job(3L, 3, "IT", "Calgary NW", "25"),
+                job(4L, 3, "IT", "Red Deer", "30")));
+    }
+
+    @Test
+    void testFind_ReturnsNewestFirstAndPagesWithCursor() {
+        CursorPage<JobView> first = catalog.find(new JobSearchCriteria(), null, null, JobCursor.start(), 3);
+
+        assertEquals(List.of(4L, 3L, 2L), ids(first));
+        assertTrue(first.hasNext());
+
+        CursorPage<JobView> second = catalog.find(new JobSearchCriteria(), null, null, JobCursor.decode(first.nextCursor()), 3);
+
+        assertEquals(List.of(1L), ids(second));
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void testFind_AppliesFiltersAndKeywordCandidates() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setCategory("it");
+        criteria.setLocation("calgary");
+        criteria.setMinSalary(new BigDecimal("21"));
+
+        assertEquals(List.of(3L), ids(catalog.find(criteria, null, null, JobCursor.start(), 20)));
+        assertEquals(List.of(3L, 1L), ids(catalog.find(new JobSearchCriteria(), List.of(1L, 3L, 99L), null, JobCursor.start(), 20)));
+    }
+
+    @Test
+    void testFind_ResolvedLocationsMatchById() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setLocation("calgary, ab");
+
+        assertTrue(ids(catalog.find(criteria, null, null, JobCursor.start(), 20)).isEmpty());
+        assertEquals(List.of(4L, 2L), ids(catalog.find(criteria, null, List.of(20L, 40L), JobCursor.start(), 20)));
+        assertTrue(catalog.matching(criteria, List.of(20L)).test(2L));
+        assertFalse(catalog.matching(criteria, List.of(20L)).test(1L));
+    }
+
+    @Test
+    void testFindSorted_HighestSalaryFirstAndPagesWithCursor() {
+        catalog.index(job(5L, 4, "IT", "Banff", null));
+        JobSearchCriteria criteria = new JobSearchCriteria();
+
+        CursorPage<JobView> first = catalog.findSorted(criteria, null, null, JobSort.SALARY, JobSortCursor.start(true), 2);
+
+        assertEquals(List.of(4L, 3L), ids(first));
+        CursorPage<JobView> second = catalog.findSorted(criteria, null, null, JobSort.SALARY,
+                JobSortCursor.decode(first.nextCursor(), true), 2);
+        assertEquals(List.of(1L, 2L), ids(second));
+        CursorPage<JobView> last = catalog.findSorted(criteria, null, null, JobSort.SALARY,
+                JobSortCursor.decode(second.nextCursor(), true), 2);
+        assertEquals(List.of(5L), ids(last));
+        assertFalse(last.hasNext());
+    }
+
+    @Test
+    void testFindSorted_SoonestDeadlineFirstWithinFilters() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setCategory("it");
+
+        List<Long> sorted = ids(catalog.findSorted(criteria, List.of(1L, 3L, 4L), null, JobSort.DEADLINE,
+                JobSortCursor.start(false), 20));
+
+        assertEquals(List.of(4L, 3L, 1L), sorted);
+    }
+
+    @Test
+    void testRangeFilters_IntersectIndexWithKeywordCandidates() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setMinSalary(new BigDecimal("24.99"));
+        criteria.setMaxSalary(new BigDecimal("29.99"));
+
+        assertEquals(1, catalog.countSalaryBetween(criteria.getMinSalary(), criteria.getMaxSalary()));
+        assertEquals(4, catalog.countSalaryBetween(null, null));
+        assertEquals(2, catalog.countDeadlineBetween(null, DEADLINE.plusDays(4)));
+        assertEquals(List.of(3L), ids(catalog.find(criteria, null, null, JobCursor.start(), 20)));
+        assertTrue(ids(catalog.find(criteria, List.of(1L, 4L), null, JobCursor.start(), 20)).isEmpty());
+    }
+
+    @Test
+    void testIndexAndRemove_PublishNewSnapshotWithoutChangingOldPages() {
+        CursorPage<JobView> before = catalog.find(new JobSearchCriteria(), null, null, JobCursor.start(), 20);
+
+        catalog.index(job(1L, 5, "IT", "Calgary", "22"));
+        catalog.remove(2L);
+        catalog.remove(99L);
+
+        assertEquals(List.of(4L, 3L, 2L, 1L), ids(before));
+        assertEquals(List.of(1L, 4L, 3L), ids(catalog.find(new JobSearchCriteria(), null, null, JobCursor.start(), 20)));
+        assertEquals(new BigDecimal("22"), catalog.findById(1L).orElseThrow().salary());
+        assertTrue(catalog.findById(2L).isEmpty());
+        assertEquals(3, catalog.size());
+    }
+
+    @Test
+    void testIndexAll_PublishesOneSnapshotWithEveryJob() {
+        catalog.indexAll(List.of(job(5L, 6, "IT", "Banff", "40"), job(2L, 7, "IT", "Edmonton", "17")));
+
+        assertEquals(List.of(2L, 5L, 4L, 3L, 1L), ids(catalog.find(new JobSearchCriteria(), null, null, JobCursor.start(), 20)));
+        assertEquals(List.of(5L, 4L), ids(catalog.findSorted(new JobSearchCriteria(), null, null, JobSort.SALARY,
+                JobSortCursor.start(true), 2)));
+        assertEquals(5, catalog.size());
+    }
+
+    @Test
+    void testRemoveAll_PublishesOneSnapshotWithoutTheJobs() {
+        catalog.removeAll(List.of(1L, 3L, 99L));
+
+        assertEquals(List.of(4L, 2L), ids(catalog.find(new JobSearchCriteria(), null, null, JobCursor.start(), 20)));
+        assertEquals(0, catalog.countSalaryBetween(new BigDecimal("20"), new BigDecimal("25")));
+        assertEquals(2, catalog.size());
+    }
+
+    private static List<Long> ids(CursorPage<JobView> page) {
+        return page.items().stream().map(JobView::id).toList();
+    }
+
+    private static Job job(Long id, int hoursAfterBase, String category, String location, String salary) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle("Job " + id);
+        job.setCategory(category);
+        job.setLocation(location);
+        job.setLocationId(id * 10);
+        job.setSalary(salary != null ? new BigDecimal(salary) : null);
+        job.setDeadline(DEADLINE.plusDays(10 - 2 * id));
+        ReflectionTestUtils.setField(job, "createdAt", BASE.plusHours(hoursAfterBase));
+        return job;
+    }
+}
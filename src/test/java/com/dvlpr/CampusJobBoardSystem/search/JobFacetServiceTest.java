@@ -0,0 +1,76 @@
+package com.dvlpr.CampusJobBoardSystem.search;
+
+import com.dvlpr.CampusJobBoardSystem.dto.FacetValue;
+import com.dvlpr.CampusJobBoardSystem.entity.Job;
+import com.dvlpr.CampusJobBoardSystem.service.LocationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JobFacetServiceTest {
+
+    private LocationService locations;
+    private JobFacetService facets;
+
+    @BeforeEach
+    void setUp() {
+        locations = mock(LocationService.class);
+        facets = new JobFacetService(locations);
+        facets.rebuild(List.of(
+                job(1L, "IT", "Calgary"),
+                job(2L, "it", "Edmonton"),
+                job(3L, "Food Service", "Calgary"),
+                job(4L, null, null)));
+    }
+
+    @Test
+    void testRebuild_CountsValuesCaseInsensitively() {
+        assertTrue(facets.isReady());
+        assertEquals(List.of(new FacetValue("Food Service", 1), new FacetValue("IT", 2)), facets.getCategories());
+        assertEquals(List.of(new FacetValue("Calgary", 2), new FacetValue("Edmonton", 1)), facets.getLocations());
+    }
+
+    @Test
+    void testIndex_MovesCountsWhenJobIsEdited() {
+        facets.index(job(3L, "IT", "Red Deer"));
+
+        assertEquals(List.of(new FacetValue("IT", 3)), facets.getCategories());
+        assertEquals(List.of(new FacetValue("Calgary", 1), new FacetValue("Edmonton", 1), new FacetValue("Red Deer", 1)),
+                facets.getLocations());
+    }
+
+    @Test
+    void testRemove_DropsValueWhenLastJobGoes() {
+        facets.remove(2L);
+        facets.remove(99L);
+
+        assertEquals(List.of(new FacetValue("Food Service", 1), new FacetValue("IT", 1)), facets.getCategories());
+        assertEquals(List.of(new FacetValue("Calgary", 2)), facets.getLocations());
+    }
+
+    @Test
+    void testIndex_CountsSpellingsOfOnePlaceUnderItsCanonicalName() {
+        when(locations.getName(10L)).thenReturn("Calgary");
+        Job typed = job(5L, "IT", "calgary, AB");
+        typed.setLocationId(10L);
+        Job campus = job(6L, "IT", "Calgary Campus");
+        campus.setLocationId(10L);
+
+        facets.indexAll(List.of(typed, campus));
+
+        assertEquals(List.of(new FacetValue("Calgary", 4), new FacetValue("Edmonton", 1)), facets.getLocations());
+    }
+
+    private static Job job(Long id, String category, String location) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle("Job " + id);
+        job.setCategory(category);
+        job.setLocation(location);
+        return job;
+    }
+}
@@ -0,0 +1,130 @@
+package com.dvlpr.CampusJobBoardSystem.search;
+
+import com.dvlpr.CampusJobBoardSystem.dto.JobSearchCriteria;
+import com.dvlpr.CampusJobBoardSystem.entity.Job;
+import com.dvlpr.CampusJobBoardSystem.service.LocationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JobQueryPlannerTest {
+
+    private JobSearchIndex searchIndex;
+    private JobFacetService facets;
+    private ApprovedJobCatalog catalog;
+    private JobQueryPlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new JobSearchIndex();
+        LocationService locations = mock(LocationService.class);
+        facets = new JobFacetService(locations);
+        when(locations.isReady()).thenReturn(true);
+        when(locations.findMatchingIds("calgary")).thenReturn(List.of(10L));
+        when(locations.getName(10L)).thenReturn("Calgary");
+        catalog = new ApprovedJobCatalog();
+        planner = new JobQueryPlanner(searchIndex, facets, locations, catalog);
+        List<Job> jobs = List.of(
+                job(1L, "Java Developer", "IT", "Calgary"),
+                job(2L, "Barista", "Food Service", "Calgary"),
+                job(3L, "Python Developer", "IT", "Edmonton"));
+        searchIndex.rebuild(jobs);
+        facets.rebuild(jobs);
+        catalog.rebuild(jobs);
+    }
+
+    @Test
+    void testPlan_ResolvesKeywordAndLocationInMemory() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setKeyword("developer");
+        criteria.setLocation("calgary");
+
+        JobQueryPlan plan = planner.plan(criteria);
+
+        assertEquals(List.of(1L, 3L), plan.jobIds());
+        assertEquals(List.of(10L), plan.locationIds());
+        assertEquals(2, plan.steps().stream()
+                .filter(step -> step.access().equals("INDEX IN location_id (1 ids)"))
+                .findFirst().orElseThrow().estimatedRows());
+        assertEquals(3, plan.totalRows());
+        assertFalse(plan.isEmpty());
+    }
+
+    @Test
+    void testPlan_OrdersPredicatesBySelectivity() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setMinSalary(new BigDecimal("30"));
+        criteria.setCategory("it");
+        criteria.setKeyword("barista");
+
+        List<JobQueryPlan.Step> steps = planner.plan(criteria).steps();
+
+        assertEquals(List.of(1L, 1L, 2L), steps.stream().map(JobQueryPlan.Step::estimatedRows).toList());
+        assertEquals("keyword=\"barista\"", steps.get(0).predicate());
+        assertEquals("INDEX EQ category", steps.get(2).access());
+    }
+
+    @Test
+    void testPlan_ExactZeroEstimateMarksPlanEmpty() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setCategory("Finance");
+
+        assertTrue(planner.plan(criteria).isEmpty());
+    }
+
+    @Test
+    void testPlan_KeywordWithTypo_RetriesFuzzy() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setKeyword("pyhton");
+
+        JobQueryPlan plan = planner.plan(criteria);
+
+        assertEquals(List.of(3L), plan.jobIds());
+        assertEquals("PRIMARY KEY IN (1 ids, fuzzy)", plan.steps().get(0).access());
+    }
+
+    @Test
+    void testPlan_SalaryRange_CountedFromRangeIndex() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setMinSalary(new BigDecimal("20"));
+
+        JobQueryPlan.Step step = planner.plan(criteria).steps().get(0);
+
+        assertEquals("INDEX RANGE salary", step.access());
+        assertEquals(2, step.estimatedRows());
+        assertTrue(step.exact());
+    }
+
+    @Test
+    void testPlan_BeforeIndexesAreBuilt_FallsBackToScans() {
+        JobQueryPlanner cold = new JobQueryPlanner(new JobSearchIndex(), new JobFacetService(mock(LocationService.class)), mock(LocationService.class),
+                new ApprovedJobCatalog());
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setKeyword("java");
+
+        JobQueryPlan plan = cold.plan(criteria);
+
+        assertNull(plan.jobIds());
+        assertEquals("FULL SCAN LIKE", plan.steps().get(0).access());
+        assertEquals(-1, plan.estimatedRows());
+    }
+
+    private static Job job(Long id, String title, String category, String location) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle(title);
+        job.setDescription(title + " role");
+        job.setCategory(category);
+        job.setLocation(location);
+        job.setSalary(new BigDecimal(10 * id + 5));
+        ReflectionTestUtils.setField(job, "createdAt", LocalDateTime.of(2025, 9, 1, 12, 0).plusHours(id));
+        return job;
+    }
+}
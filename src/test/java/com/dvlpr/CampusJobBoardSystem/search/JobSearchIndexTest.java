@@ -0,0 +1,125 @@
+package com.dvlpr.CampusJobBoardSystem.search;
+
+import com.dvlpr.CampusJobBoardSystem.entity.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobSearchIndexTest {
+
+    private JobSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobSearchIndex();
+        index.rebuild(List.of(
+                job(1L, "Java Developer", "Build Spring services", "Calgary", "IT"),
+                job(2L, "Barista", "Make coffee for students", "Calgary Campus", "Food Service"),
+                job(3L, "Junior Developer", "Python scripting and Java support", "Edmonton", "IT")));
+    }
+
+    @Test
+    void testSearch_AllTermsMustMatch() {
+        assertEquals(List.of(1L, 3L), index.search("java developer"));
+        assertEquals(List.of(3L), index.search("java edmonton"));
+    }
+
+    @Test
+    void testSearch_MatchesWordPrefixesCaseInsensitively() {
+        assertEquals(List.of(1L, 3L), index.search("DEV"));
+        assertEquals(List.of(1L, 2L), index.search("calg"));
+    }
+
+    @Test
+    void testSearch_NoMatchOrNoTerms_ReturnsEmpty() {
+        assertTrue(index.search("cobol").isEmpty());
+        assertTrue(index.search("  --  ").isEmpty());
+    }
+
+    @Test
+    void testSearch_FuzzyToleratesTyposPerTerm() {
+        assertTrue(index.search("jav devloper").isEmpty());
+        assertEquals(List.of(1L, 3L), index.search("jav devloper", true));
+        assertEquals(List.of(2L), index.search("barrista", true));
+        assertEquals(List.of(3L), index.search("edmontn pyton", true));
+        // Three-letter terms must match exactly
+        assertTrue(index.search("jvaa xyz", true).isEmpty());
+    }
+
+    @Test
+    void testFuzzyHelpers_BoundEditsByTermLength() {
+        assertEquals(0, JobSearchIndex.maxEdits(3));
+        assertEquals(1, JobSearchIndex.maxEdits(7));
+        assertEquals(2, JobSearchIndex.maxEdits(10));
+        assertTrue(JobSearchIndex.withinEditDistance("internshp", "internship", 1));
+        assertTrue(JobSearchIndex.withinEditDistance("pyhton", "python", 1));
+        assertFalse(JobSearchIndex.withinEditDistance("intern", "eastern", 1));
+    }
+
+    @Test
+    void testRemove_DropsTermFromFuzzyCandidates() {
+        index.remove(2L);
+
+        assertTrue(index.search("barrista", true).isEmpty());
+    }
+
+    @Test
+    void testRank_TitleMatchesOutrankDescriptionMatches() {
+        index.index(job(4L, "Lab Tutor", "Java labs, Java help and Java tooling", "Calgary", "Education"));
+
+        assertEquals(List.of(1L, 4L, 3L), index.rank("java", false, 10, id -> true));
+        assertEquals(List.of(1L, 4L), index.rank("java", false, 2, id -> true));
+        assertEquals(List.of(4L, 3L), index.rank("java", false, 10, id -> id != 1L));
+        assertTrue(index.rank("cobol", false, 10, id -> true).isEmpty());
+    }
+
+    @Test
+    void testRank_AfterAJob_ContinuesTheRankingEvenWhenScoresShift() {
+        index.index(job(4L, "Lab Tutor", "Java labs, Java help and Java tooling", "Calgary", "Education"));
+        List<JobSearchIndex.ScoredJob> first = index.rank("java", false, 2, id -> true, null);
+        assertEquals(List.of(1L, 4L), first.stream().map(JobSearchIndex.ScoredJob::id).toList());
+
+        // Another Java job changes every score; the next page still starts below job 4
+        index.index(job(5L, "Java Intern", "Java", "Calgary", "IT"));
+        List<JobSearchIndex.ScoredJob> next = index.rank("java", false, 2, id -> true, first.get(1));
+
+        assertEquals(List.of(3L), next.stream().map(JobSearchIndex.ScoredJob::id).toList());
+    }
+
+    @Test
+    void testRank_RareTermsWeighMoreThanCommonOnes() {
+        assertTrue(JobSearchIndex.inverseDocumentFrequency(100, 1) > JobSearchIndex.inverseDocumentFrequency(100, 50));
+        assertTrue(JobSearchIndex.inverseDocumentFrequency(100, 100) > 0);
+    }
+
+    @Test
+    void testIndex_ReplacesPreviousVersionOfJob() {
+        index.index(job(1L, "Data Analyst", "SQL reporting", "Calgary", "IT"));
+
+        assertEquals(List.of(3L), index.search("java"));
+        assertEquals(List.of(1L), index.search("analyst"));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void testRemove_DropsJobFromAllPostings() {
+        index.remove(2L);
+
+        assertTrue(index.search("coffee").isEmpty());
+        assertEquals(List.of(1L), index.search("calgary"));
+        assertEquals(2, index.size());
+    }
+
+    private static Job job(Long id, String title, String description, String location, String category) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle(title);
+        job.setDescription(description);
+        job.setLocation(location);
+        job.setCategory(category);
+        return job;
+    }
+}
@@ -0,0 +1,66 @@
+package com.dvlpr.CampusJobBoardSystem.search;
+
+import com.dvlpr.CampusJobBoardSystem.dto.JobSuggestion;
+import com.dvlpr.CampusJobBoardSystem.dto.JobSuggestion.Field;
+import com.dvlpr.CampusJobBoardSystem.entity.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobSuggestionIndexTest {
+
+    private JobSuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobSuggestionIndex();
+        index.rebuild(List.of(
+                job(1L, "Software Developer", "IT", "Calgary"),
+                job(2L, "software developer", "IT", "Cochrane"),
+                job(3L, "Dishwasher", "Food Service", "Calgary"),
+                job(4L, "Data Analyst", "IT", "Edmonton")));
+    }
+
+    @Test
+    void testSuggest_RanksByFrequencyAcrossFields() {
+        assertTrue(index.isReady());
+        assertEquals(List.of(
+                new JobSuggestion("Calgary", Field.LOCATION, 2),
+                new JobSuggestion("Cochrane", Field.LOCATION, 1)), index.suggest("c", 10));
+        assertEquals(List.of(new JobSuggestion("Calgary", Field.LOCATION, 2)), index.suggest("CAL", 10));
+    }
+
+    @Test
+    void testSuggest_MatchesStartOfAnyWordAndStopsInsideEdges() {
+        assertEquals(List.of(
+                new JobSuggestion("software developer", Field.TITLE, 2),
+                new JobSuggestion("Data Analyst", Field.TITLE, 1),
+                new JobSuggestion("Dishwasher", Field.TITLE, 1)), index.suggest("d", 10));
+        assertEquals(List.of(new JobSuggestion("software developer", Field.TITLE, 2)), index.suggest("softw", 1));
+        assertEquals(List.of(), index.suggest("softx", 10));
+        assertEquals(List.of(), index.suggest("  ", 10));
+    }
+
+    @Test
+    void testIndexAndRemove_UpdateCounts() {
+        index.index(job(3L, "Line Cook", "Food Service", "Edmonton"));
+        index.remove(4L);
+        index.remove(99L);
+
+        assertEquals(List.of(new JobSuggestion("Edmonton", Field.LOCATION, 1)), index.suggest("edm", 10));
+        assertEquals(List.of(), index.suggest("dish", 10));
+        assertEquals(List.of(new JobSuggestion("IT", Field.CATEGORY, 2)), index.suggest("it", 10));
+    }
+
+    private static Job job(Long id, String title, String category, String location) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle(title);
+        job.setCategory(category);
+        job.setLocation(location);
+        return job;
+    }
+}
@@ -0,0 +1,293 @@
+package com.dvlpr.CampusJobBoardSystem.service;
+
+import com.dvlpr.CampusJobBoardSystem.entity.*;
+import com.dvlpr.CampusJobBoardSystem.exception.DuplicateApplicationException;
+import com.dvlpr.CampusJobBoardSystem.exception.ResourceNotFoundException;
+import com.dvlpr.CampusJobBoardSystem.repository.JobApplicationRepository;
+import com.dvlpr.CampusJobBoardSystem.repository.JobRepository;
+import com.dvlpr.CampusJobBoardSystem.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Deadline-night burst against a real (in-memory) database: thousands of parallel applies,
+ * many of them repeated clicks, must produce exactly one application per student and job.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class ApplicationConcurrencyTest {
+
+    private static final int STUDENTS = 50;
+    private static final int CLICKS = 10;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private JobApplicationRepository applicationRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationCounter applicationCounter;
+
+    @Autowired
+    private JobChangeTracker jobChangeTracker;
+
+    private List<Long> studentIds;
+    private List<Long> approvedJobIds;
+    private Long pendingJobId;
+
+    @BeforeEach
+    void setUp() {
+        applicationRepository.deleteAll();
+        jobRepository.deleteAll();
+        userRepository.deleteAll();
+        User employer = userRepository.save(user("burst-employer@test.com", UserRole.EMPLOYER));
+        approvedJobIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            approvedJobIds.add(jobRepository.save(job(employer, JobStatus.APPROVED)).getId());
+        }
+        pendingJobId = jobRepository.save(job(employer, JobStatus.PENDING)).getId();
+        studentIds = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            studentIds.add(userRepository.save(user("burst-student" + i + "@test.com", UserRole.STUDENT)).getId());
+        }
+        applicationCounter.reconcile();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Other tests sharing the database delete jobs and users without their applications
+        applicationRepository.deleteAll();
+    }
+
+    @Test
+    void testApplyForJob_ParallelBurstInsertsOncePerStudentAndJob() throws Exception {
+        List<Runnable> applies = new ArrayList<>();
+        for (Long studentId : studentIds) {
+            for (int click = 0; click < CLICKS; click++) {
+                for (Long jobId : approvedJobIds) {
+                    applies.add(() -> applicationService.applyForJob(jobId, studentId));
+                }
+                applies.add(() -> applicationService.applyForJob(pendingJobId, studentId));
+            }
+        }
+        Collections.shuffle(applies);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger duplicates = new AtomicInteger();
+        AtomicInteger notOpen = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        List<Future<?>> results = new ArrayList<>();
+        for (Runnable apply : applies) {
+            results.add(pool.submit(() -> {
+                start.await();
+                try {
+                    apply.run();
+                    accepted.incrementAndGet();
+                } catch (DuplicateApplicationException e) {
+                    duplicates.incrementAndGet();
+                } catch (ResourceNotFoundException e) {
+                    notOpen.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        int expected = STUDENTS * approvedJobIds.size();
+        assertEquals(2000, applies.size());
+        assertEquals(expected, accepted.get());
+        assertEquals(expected * (CLICKS - 1), duplicates.get());
+        assertEquals(STUDENTS * CLICKS, notOpen.get());
+        assertEquals(expected, applicationRepository.count());
+        for (Long jobId : approvedJobIds) {
+            assertEquals(STUDENTS, applicationCounter.get(jobId));
+        }
+        assertEquals(expected, applicationCounter.total());
+
+        applicationCounter.flush();
+
+        for (Long jobId : approvedJobIds) {
+            assertEquals(STUDENTS, storedCount(jobId));
+        }
+        assertEquals(0, storedCount(pendingJobId));
+    }
+
+    @Test
+    void testWriteBehind_RecountsTheJobsOfEachBatch(@TempDir Path tempDir) throws Exception {
+        applicationService.applyForJob(approvedJobIds.get(1), studentIds.get(0));
+        ApplicationIngestionQueue queue = new ApplicationIngestionQueue(jdbcTemplate, jobChangeTracker,
+                applicationCounter, tempDir.resolve("journal.log"), 100, 200, Duration.ofMillis(20));
+        queue.start();
+        for (Long studentId : studentIds) {
+            queue.submit(approvedJobIds.get(0), studentId);
+        }
+        queue.submit(approvedJobIds.get(1), studentIds.get(1));
+        queue.stop();
+
+        assertEquals(STUDENTS, applicationCounter.get(approvedJobIds.get(0)));
+        assertEquals(2, applicationCounter.get(approvedJobIds.get(1)));
+        assertEquals(STUDENTS, storedCount(approvedJobIds.get(0)));
+        assertEquals(2, storedCount(approvedJobIds.get(1)));
+        assertEquals(STUDENTS + 2, applicationCounter.total());
+    }
+
+    @Test
+    void testReconcile_CorrectsDriftFromLostDeltas() {
+        applicationService.applyForJob(approvedJobIds.get(1), studentIds.get(0));
+        jdbcTemplate.update("INSERT INTO job_application (job_id, student_id, status, applied_at) "
+                + "VALUES (?, ?, 'SUBMITTED', CURRENT_TIMESTAMP)", approvedJobIds.get(0), studentIds.get(0));
+        jdbcTemplate.update("UPDATE job SET application_count = 7 WHERE job_id = ?", approvedJobIds.get(2));
+
+        assertEquals(0, applicationCounter.get(approvedJobIds.get(0)));
+
+        applicationCounter.reconcile();
+
+        assertEquals(1, applicationCounter.get(approvedJobIds.get(0)));
+        assertEquals(1, applicationCounter.get(approvedJobIds.get(1)));
+        assertEquals(0, applicationCounter.get(approvedJobIds.get(2)));
+        assertEquals(1, storedCount(approvedJobIds.get(0)));
+        assertEquals(1, storedCount(approvedJobIds.get(1)));
+        assertEquals(0, storedCount(approvedJobIds.get(2)));
+    }
+
+    @Test
+    void testReconcile_CountsUnflushedApplicationsOnce() {
+        Long jobId = approvedJobIds.get(0);
+        applicationService.applyForJob(jobId, studentIds.get(0));
+        applicationService.applyForJob(jobId, studentIds.get(1));
+
+        applicationCounter.reconcile();
+        applicationService.applyForJob(jobId, studentIds.get(2));
+
+        assertEquals(3, applicationCounter.get(jobId));
+        assertEquals(2, storedCount(jobId));
+
+        applicationCounter.flush();
+        applicationCounter.flush();
+
+        assertEquals(3, applicationCounter.get(jobId));
+        assertEquals(3, storedCount(jobId));
+        assertEquals(3, applicationCounter.total());
+    }
+
+    @Test
+    void testWriteBehind_ParallelBurstIsFlushedOncePerStudentAndJob(@TempDir Path tempDir) throws Exception {
+        ApplicationIngestionQueue queue = new ApplicationIngestionQueue(jdbcTemplate, jobChangeTracker,
+                applicationCounter, tempDir.resolve("journal.log"), 10_000, 200, Duration.ofMillis(20));
+        queue.start();
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        List<Future<?>> results = new ArrayList<>();
+        for (Long studentId : studentIds) {
+            for (int click = 0; click < CLICKS; click++) {
+                for (Long jobId : approvedJobIds) {
+                    results.add(pool.submit(() -> queue.submit(jobId, studentId)));
+                }
+                results.add(pool.submit(() -> queue.submit(pendingJobId, studentId)));
+            }
+        }
+        for (Future<?> result : results) {
+            result.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        queue.stop();
+
+        assertEquals(2000, queue.flushed());
+        assertEquals(STUDENTS * approvedJobIds.size(), applicationRepository.count());
+    }
+
+    @Test
+    void testWriteBehind_BatchWithUnknownStudentKeepsTheValidRows(@TempDir Path tempDir) throws Exception {
+        ApplicationIngestionQueue queue = new ApplicationIngestionQueue(jdbcTemplate, jobChangeTracker,
+                applicationCounter, tempDir.resolve("journal.log"), 100, 200, Duration.ofSeconds(5));
+        queue.start();
+        queue.submit(approvedJobIds.get(0), studentIds.get(0));
+        queue.submit(approvedJobIds.get(0), -1L);
+        queue.submit(approvedJobIds.get(0), studentIds.get(1));
+        queue.submit(pendingJobId, studentIds.get(2));
+        queue.stop();
+
+        assertEquals(4, queue.flushed());
+        assertEquals(2, applicationRepository.count());
+    }
+
+    @Test
+    void testApplyForJob_IsOneStatementAndKeepsCachedEntities() {
+        Long studentId = studentIds.get(0);
+        userRepository.findByEmail("burst-student0@test.com").orElseThrow();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        applicationService.applyForJob(approvedJobIds.get(0), studentId);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        userRepository.findByEmail("burst-student0@test.com").orElseThrow();
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertThrows(DuplicateApplicationException.class,
+                () -> applicationService.applyForJob(approvedJobIds.get(0), studentId));
+        assertThrows(ResourceNotFoundException.class, () -> applicationService.applyForJob(-1L, studentId));
+    }
+
+    private long storedCount(Long jobId) {
+        return jdbcTemplate.queryForObject("SELECT application_count FROM job WHERE job_id = ?", Long.class, jobId);
+    }
+
+    private static User user(String email, UserRole role) {
+        User user = new User();
+        user.setFullName(email);
+        user.setEmail(email);
+        user.setPassword("secret");
+        user.setRole(role);
+        return user;
+    }
+
+    private static Job job(User employer, JobStatus status) {
+        Job job = new Job();
+        job.setTitle("Exam Invigilator");
+        job.setDescription("Supervise final exams");
+        job.setDeadline(LocalDate.now().plusDays(1));
+        job.setEmployer(employer);
+        job.setStatus(status);
+        return job;
+    }
+}
@@ -0,0 +1,186 @@
+package com.dvlpr.CampusJobBoardSystem.service;
+
+import com.dvlpr.CampusJobBoardSystem.exception.ApplicationQueueFullException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ApplicationIngestionQueueTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ApplicationCounter applicationCounter = mock(ApplicationCounter.class);
+
+    @Test
+    void testSubmit_FullQueueRefusesNewApplications() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return 1;
+        });
+        ApplicationIngestionQueue queue = queue(jdbcTemplate, 2);
+        queue.start();
+
+        queue.submit(1L, 10L);
+        assertTrue(writing.await(10, TimeUnit.SECONDS));
+        queue.submit(1L, 11L);
+        queue.submit(1L, 12L);
+
+        assertThrows(ApplicationQueueFullException.class, () -> queue.submit(1L, 13L));
+        release.countDown();
+        queue.stop();
+        assertEquals(3, queue.flushed());
+        assertEquals(List.of(), journalEntries());
+    }
+
+    @Test
+    void testStart_ReplaysJournalLeftByCrash() throws Exception {
+        JdbcTemplate failing = mock(JdbcTemplate.class);
+        when(failing.update(anyString(), any(Object[].class))).thenThrow(new IllegalStateException("database down"));
+        ApplicationIngestionQueue crashed = queue(failing, 10);
+        crashed.start();
+        crashed.submit(1L, 10L);
+        crashed.submit(2L, 10L);
+        crashed.stop();
+
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        ApplicationIngestionQueue restarted = queue(jdbcTemplate, 10);
+        restarted.start();
+
+        // Both accepted applications in one statement: (student, applied at, job, student) per row
+        verify(jdbcTemplate).update(contains("UNION ALL"), eq(10L), any(), eq(1L), eq(10L), eq(10L), any(), eq(2L), eq(10L));
+        assertEquals(List.of(), journalEntries());
+        restarted.stop();
+    }
+
+    @Test
+    void testSubmit_BurstIsWrittenInFewMultiRowStatements() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        ApplicationIngestionQueue queue = queue(jdbcTemplate, 1000);
+        queue.start();
+
+        for (long student = 0; student < 500; student++) {
+            queue.submit(1L, student);
+        }
+        queue.stop();
+
+        assertEquals(500, queue.flushed());
+        verify(jdbcTemplate, atMost(50)).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void testFlush_RejectedBatchIsRetriedRowByRowDroppingBadRows() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.update(contains("UNION ALL"), any(Object[].class)))
+                .thenThrow(new DataIntegrityViolationException("student deleted"));
+        when(jdbcTemplate.update(anyString(), eq(99L), any(), anyLong(), eq(99L)))
+                .thenThrow(new DataIntegrityViolationException("student deleted"));
+        ApplicationIngestionQueue queue = new ApplicationIngestionQueue(jdbcTemplate, new JobChangeTracker(),
+                applicationCounter, tempDir.resolve("journal.log"), 10, 100, Duration.ofSeconds(5));
+        queue.start();
+        queue.submit(1L, 10L);
+        queue.submit(1L, 99L);
+        queue.submit(1L, 11L);
+        queue.stop();
+
+        assertEquals(3, queue.flushed());
+        verify(jdbcTemplate).update(anyString(), eq(10L), any(), eq(1L), eq(10L));
+        verify(jdbcTemplate).update(anyString(), eq(11L), any(), eq(1L), eq(11L));
+    }
+
+    @Test
+    void testFlush_RepeatsInABatchAreWrittenOnceAndItsJobsRecounted() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(2);
+        ApplicationIngestionQueue queue = new ApplicationIngestionQueue(jdbcTemplate, new JobChangeTracker(),
+                applicationCounter, tempDir.resolve("journal.log"), 10, 100, Duration.ofSeconds(5));
+        queue.start();
+        queue.submit(1L, 10L);
+        queue.submit(1L, 10L);
+        queue.submit(2L, 10L);
+        queue.stop();
+
+        assertEquals(3, queue.flushed());
+        verify(jdbcTemplate).update(anyString(), eq(10L), any(), eq(1L), eq(10L), eq(10L), any(), eq(2L), eq(10L));
+        verify(applicationCounter).recount(Set.of(1L, 2L));
+    }
+
+    @Test
+    void testFlush_DeletesJournalSegmentsOnceAllTheirEntriesAreSaved() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        Semaphore writing = new Semaphore(0);
+        Semaphore saved = new Semaphore(0);
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            writing.release();
+            assertTrue(saved.tryAcquire(10, TimeUnit.SECONDS));
+            return 1;
+        });
+        ApplicationIngestionQueue queue = new ApplicationIngestionQueue(jdbcTemplate, new JobChangeTracker(),
+                applicationCounter, tempDir.resolve("journal.log"), 10, 2, Duration.ZERO);
+        queue.start();
+
+        queue.submit(1L, 10L);
+        assertTrue(writing.tryAcquire(10, TimeUnit.SECONDS));
+        queue.submit(1L, 11L);
+        queue.submit(1L, 12L);
+        saved.release();
+        assertTrue(writing.tryAcquire(10, TimeUnit.SECONDS));
+        // The first segment still holds 11 and 12, which are being written; 13 goes to a new one
+        queue.submit(1L, 13L);
+        assertEquals(4, journalEntries().size());
+
+        saved.release();
+        assertTrue(writing.tryAcquire(10, TimeUnit.SECONDS));
+        List<String> remaining = journalEntries();
+        assertEquals(1, remaining.size());
+        assertTrue(remaining.get(0).startsWith("1,13,"));
+
+        saved.release(10);
+        queue.stop();
+        assertEquals(4, queue.flushed());
+        assertEquals(List.of(), journalEntries());
+        // Only the segment taking new entries is left
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    /** Entries in every journal segment, oldest first. */
+    private List<String> journalEntries() throws IOException {
+        List<String> entries = new ArrayList<>();
+        try (Stream<Path> files = Files.list(tempDir)) {
+            for (Path segment : files.sorted(Comparator.comparingLong(
+                    file -> Long.parseLong(file.getFileName().toString().substring("journal.log.".length())))).toList()) {
+                entries.addAll(Files.readAllLines(segment));
+            }
+        }
+        return entries;
+    }
+
+    private ApplicationIngestionQueue queue(JdbcTemplate jdbcTemplate, int capacity) {
+        return new ApplicationIngestionQueue(jdbcTemplate, new JobChangeTracker(), applicationCounter,
+                tempDir.resolve("journal.log"), capacity, 100, Duration.ofMillis(20));
+    }
+}
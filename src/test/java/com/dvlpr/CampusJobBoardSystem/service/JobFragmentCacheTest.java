@@ -0,0 +1,94 @@
+package com.dvlpr.CampusJobBoardSystem.service;
+
+import com.dvlpr.CampusJobBoardSystem.dto.AdminJobSummary;
+import com.dvlpr.CampusJobBoardSystem.dto.JobView;
+import com.dvlpr.CampusJobBoardSystem.entity.JobStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.context.IContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class JobFragmentCacheTest {
+
+    private SpringTemplateEngine templateEngine;
+
+    @BeforeEach
+    void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        templateEngine = spy(engine);
+    }
+
+    @Test
+    void testStudentCard_RendersOncePerVersionAndEscapes() {
+        JobFragmentCache cache = new JobFragmentCache(templateEngine, true, 100);
+        JobView job = view(1L, "<b>Barista</b>", 0);
+
+        String html = cache.studentCard(job);
+        assertTrue(html.contains("&lt;b&gt;Barista&lt;/b&gt;"));
+        assertTrue(html.contains("18.50"));
+        assertTrue(html.contains(">Jun 30, 2031<"));
+        assertFalse(html.contains("<form"));
+        assertSame(html, cache.studentCard(job));
+        verify(templateEngine, times(1)).process(anyString(), anySet(), any(IContext.class));
+
+        String updated = cache.studentCard(view(1L, "Head Barista", 1));
+        assertTrue(updated.contains("Head Barista"));
+        verify(templateEngine, times(2)).process(anyString(), anySet(), any(IContext.class));
+    }
+
+    @Test
+    void testEvict_RerendersChangedJobsOnly() {
+        JobFragmentCache cache = new JobFragmentCache(templateEngine, true, 100);
+        AdminJobSummary pending = new AdminJobSummary(2L, "Tutor", "Test Employer",
+                LocalDateTime.of(2031, 1, 15, 9, 0), JobStatus.PENDING, 0);
+        AdminJobSummary other = new AdminJobSummary(3L, "Lab Assistant", "Test Employer",
+                LocalDateTime.of(2031, 1, 16, 9, 0), JobStatus.APPROVED, 0);
+
+        String row = cache.adminRow(pending);
+        assertTrue(row.contains("name=\"jobIds\" value=\"2\""));
+        assertTrue(row.contains("badge bg-warning"));
+        cache.adminRow(other);
+
+        cache.evict(List.of(2L));
+        cache.adminRow(pending);
+        cache.adminRow(other);
+        verify(templateEngine, times(2)).process(anyString(), eq(Set.of("admin-row")), argThat(
+                (IContext context) -> context.getVariable("job") == pending));
+        verify(templateEngine, times(1)).process(anyString(), eq(Set.of("admin-row")), argThat(
+                (IContext context) -> context.getVariable("job") == other));
+    }
+
+    @Test
+    void testDisabled_RendersEveryTime() {
+        JobFragmentCache cache = new JobFragmentCache(templateEngine, false, 100);
+        JobView job = view(1L, "Barista", 0);
+
+        cache.studentCard(job);
+        cache.studentCard(job);
+
+        verify(templateEngine, times(2)).process(anyString(), anySet(), any(IContext.class));
+    }
+
+    private static JobView view(Long id, String title, long version) {
+        return new JobView(id, title, "Pull espresso shots between lectures", "Calgary", null,
+                new BigDecimal("18.5"), "Food Service", LocalDate.of(2031, 6, 30), LocalDateTime.now(),
+                1L, "Test Employer", "employer@test.com", version);
+    }
+}
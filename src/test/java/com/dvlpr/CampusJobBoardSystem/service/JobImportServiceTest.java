@@ -0,0 +1,104 @@
+package com.dvlpr.CampusJobBoardSystem.service;
+
+import com.dvlpr.CampusJobBoardSystem.dto.JobImportResult;
+import com.dvlpr.CampusJobBoardSystem.entity.Job;
+import com.dvlpr.CampusJobBoardSystem.entity.JobStatus;
+import com.dvlpr.CampusJobBoardSystem.entity.User;
+import com.dvlpr.CampusJobBoardSystem.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class JobImportServiceTest {
+
+    private static final String DEADLINE = LocalDate.now().plusDays(30).toString();
+
+    private EntityManager entityManager;
+    private JobChangeTracker jobChangeTracker;
+    private JobImportService jobImportService;
+    private User employer;
+
+    @BeforeEach
+    void setUp() {
+        UserRepository userRepository = mock(UserRepository.class);
+        entityManager = mock(EntityManager.class);
+        jobChangeTracker = mock(JobChangeTracker.class);
+        employer = new User();
+        employer.setId(1L);
+        employer.setEmail("employer@test.com");
+        when(userRepository.findByEmail("employer@test.com")).thenReturn(Optional.of(employer));
+        jobImportService = new JobImportService(userRepository, mock(LocationService.class),
+                Validation.buildDefaultValidatorFactory().getValidator(), entityManager, jobChangeTracker,
+                mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void testImportJobs_Csv_KeepsValidRowsAndReportsInvalidOnes() throws IOException {
+        String csv = "Title,Description,Location,Salary,Category,Deadline\r\n"
+                + "Lab Tutor,\"Help students, answer \"\"lab\"\" questions\",Calgary,18.50,Teaching," + DEADLINE + "\r\n"
+                + ",Missing title for this row,Calgary,18,Teaching," + DEADLINE + "\r\n"
+                + "Barista,\"Serve coffee\non two lines\",Edmonton,16,Food Service,\r\n"
+                + "Cashier,Run the campus store till,Calgary,lots,Retail," + DEADLINE + "\r\n";
+
+        JobImportResult result = jobImportService.importJobs(stream(csv), false, "employer@test.com");
+
+        assertEquals(2, result.imported());
+        assertEquals(2, result.rejected());
+        assertEquals(List.of(2L, 4L), result.errors().stream().map(JobImportResult.RowError::row).toList());
+        assertEquals("Job title is required", result.errors().get(0).message());
+        assertEquals("Invalid salary: lots", result.errors().get(1).message());
+        ArgumentCaptor<Job> saved = ArgumentCaptor.forClass(Job.class);
+        verify(entityManager, times(2)).persist(saved.capture());
+        Job tutor = saved.getAllValues().get(0);
+        assertEquals("Help students, answer \"lab\" questions", tutor.getDescription());
+        assertEquals(JobStatus.PENDING, tutor.getStatus());
+        assertSame(employer, tutor.getEmployer());
+        assertEquals("Serve coffee\non two lines", saved.getAllValues().get(1).getDescription());
+    }
+
+    @Test
+    void testImportJobs_Json_InsertsInBatches() throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        int rows = JobImportService.BATCH_SIZE * 2 + 20;
+        for (int i = 0; i < rows; i++) {
+            json.append(i == 0 ? "" : ",")
+                    .append("{\"title\":\"Job ").append(i).append("\",\"description\":\"Description of job ").append(i)
+                    .append("\",\"salary\":20,\"deadline\":\"").append(DEADLINE).append("\",\"tags\":[\"ignored\"]}");
+        }
+        json.append("]");
+
+        JobImportResult result = jobImportService.importJobs(stream(json.toString()), true, "employer@test.com");
+
+        assertEquals(rows, result.imported());
+        assertEquals(0, result.rejected());
+        verify(entityManager, times(rows)).persist(any(Job.class));
+        verify(entityManager, times(3)).flush();
+        verify(jobChangeTracker, times(3)).employerChanged("employer@test.com");
+    }
+
+    @Test
+    void testImportJobs_JsonNotAnArray_IsRejected() {
+        assertThrows(IOException.class,
+                () -> jobImportService.importJobs(stream("{\"title\":\"Lab Tutor\"}"), true, "employer@test.com"));
+        verifyNoInteractions(entityManager);
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,159 @@
+package com.dvlpr.CampusJobBoardSystem.service;
+
+import com.dvlpr.CampusJobBoardSystem.entity.*;
+import com.dvlpr.CampusJobBoardSystem.exception.ResourceNotFoundException;
+import com.dvlpr.CampusJobBoardSystem.repository.JobApplicationRepository;
+import com.dvlpr.CampusJobBoardSystem.repository.JobRepository;
+import com.dvlpr.CampusJobBoardSystem.repository.UserRepository;
+import com.dvlpr.CampusJobBoardSystem.search.ApprovedJobCatalog;
+import com.dvlpr.CampusJobBoardSystem.search.JobIndexCoordinator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Expiry and archival against the migrated schema (in-memory, MySQL mode), which has the archive tables.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:campus_job_board_lifecycle;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "app.jobs.archive-after=30d",
+        "app.jobs.archive-chunk-size=2"
+})
+@ActiveProfiles("h2")
+class JobLifecycleServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private JobLifecycleService lifecycleService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobApplicationRepository applicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApprovedJobCatalog approvedJobCatalog;
+
+    @Autowired
+    private JobIndexCoordinator jobIndexCoordinator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User employer;
+    private User student;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM job_application_archive");
+        jdbcTemplate.update("DELETE FROM job_archive");
+        applicationRepository.deleteAll();
+        jobRepository.deleteAll();
+        userRepository.deleteAll();
+        employer = userRepository.save(user("lifecycle-employer@test.com", UserRole.EMPLOYER));
+        student = userRepository.save(user("lifecycle-student@test.com", UserRole.STUDENT));
+    }
+
+    @Test
+    void testExpireJobs_ClosesApprovedJobsPastTheirDeadlineOnly() {
+        Long past = job(JobStatus.APPROVED, TODAY.minusDays(1));
+        Long today = job(JobStatus.APPROVED, TODAY);
+        Long pending = job(JobStatus.PENDING, TODAY.minusDays(1));
+        jobIndexCoordinator.rebuildAll();
+
+        assertThrows(ResourceNotFoundException.class, () -> applicationService.applyForJob(past, student.getId()));
+        assertEquals(1, lifecycleService.expireJobs(TODAY));
+
+        assertEquals(JobStatus.EXPIRED, jobRepository.findById(past).orElseThrow().getStatus());
+        assertEquals(JobStatus.APPROVED, jobRepository.findById(today).orElseThrow().getStatus());
+        assertEquals(JobStatus.PENDING, jobRepository.findById(pending).orElseThrow().getStatus());
+        assertTrue(approvedJobCatalog.findById(past).isEmpty());
+        assertTrue(approvedJobCatalog.findById(today).isPresent());
+        assertEquals(0, lifecycleService.expireJobs(TODAY));
+    }
+
+    @Test
+    void testExpireJobs_DropsEveryChunkFromTheIndexes() {
+        Long[] past = new Long[5];
+        for (int i = 0; i < past.length; i++) {
+            past[i] = job(JobStatus.APPROVED, TODAY.minusDays(1 + i));
+        }
+        jobIndexCoordinator.rebuildAll();
+        long version = jobRepository.findById(past[0]).orElseThrow().getVersion();
+
+        assertEquals(5, lifecycleService.expireJobs(TODAY));
+
+        for (Long id : past) {
+            assertEquals(JobStatus.EXPIRED, jobRepository.findById(id).orElseThrow().getStatus());
+            assertTrue(approvedJobCatalog.findById(id).isEmpty());
+        }
+        assertEquals(version + 1, jobRepository.findById(past[0]).orElseThrow().getVersion());
+    }
+
+    @Test
+    void testArchiveExpiredJobs_MovesJobsPastRetentionWithTheirApplicationsInChunks() {
+        Long[] old = new Long[5];
+        for (int i = 0; i < old.length; i++) {
+            old[i] = job(JobStatus.APPROVED, TODAY.plusDays(1));
+            applicationService.applyForJob(old[i], student.getId());
+            setDeadline(old[i], TODAY.minusDays(31 + i));
+        }
+        Long recent = job(JobStatus.APPROVED, TODAY.minusDays(30));
+        lifecycleService.expireJobs(TODAY);
+        jobRepository.findById(old[0]).orElseThrow();
+
+        assertEquals(5, lifecycleService.archiveExpiredJobs(TODAY));
+
+        assertTrue(jobRepository.findById(old[0]).isEmpty());
+        assertEquals(JobStatus.EXPIRED, jobRepository.findById(recent).orElseThrow().getStatus());
+        assertEquals(1, jobRepository.count());
+        assertEquals(0, applicationRepository.count());
+        assertEquals(5, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM job_archive WHERE status = 'EXPIRED'", Long.class));
+        assertEquals(5, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM job_application_archive WHERE student_id = ?",
+                Long.class, student.getId()));
+        assertEquals(0, lifecycleService.archiveExpiredJobs(TODAY));
+    }
+
+    /** Save a job, then move its deadline (validation only allows future deadlines on save). */
+    private Long job(JobStatus status, LocalDate deadline) {
+        Job job = new Job();
+        job.setTitle("Library Assistant");
+        job.setDescription("Shelve and check out books");
+        job.setDeadline(TODAY.plusDays(1));
+        job.setEmployer(employer);
+        job.setStatus(status);
+        Long id = jobRepository.save(job).getId();
+        setDeadline(id, deadline);
+        return id;
+    }
+
+    private void setDeadline(Long jobId, LocalDate deadline) {
+        jdbcTemplate.update("UPDATE job SET deadline = ? WHERE job_id = ?", deadline, jobId);
+    }
+
+    private static User user(String email, UserRole role) {
+        User user = new User();
+        user.setFullName(email);
+        user.setEmail(email);
+        user.setPassword("secret");
+        user.setRole(role);
+        return user;
+    }
+}
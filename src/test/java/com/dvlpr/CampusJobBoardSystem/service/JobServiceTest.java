@@ -1,19 +1,47 @@
 package com.dvlpr.CampusJobBoardSystem.service;
 
+import com.dvlpr.CampusJobBoardSystem.dto.CursorPage;
+import com.dvlpr.CampusJobBoardSystem.dto.FacetValue;
+import com.dvlpr.CampusJobBoardSystem.dto.JobCursor;
+import com.dvlpr.CampusJobBoardSystem.dto.JobRelevanceCursor;
+import com.dvlpr.CampusJobBoardSystem.dto.JobSearchCriteria;
+import com.dvlpr.CampusJobBoardSystem.dto.JobSort;
+import com.dvlpr.CampusJobBoardSystem.dto.JobSortCursor;
+import com.dvlpr.CampusJobBoardSystem.dto.JobView;
 import com.dvlpr.CampusJobBoardSystem.entity.Job;
 import com.dvlpr.CampusJobBoardSystem.entity.JobStatus;
 import com.dvlpr.CampusJobBoardSystem.entity.User;
+import com.dvlpr.CampusJobBoardSystem.event.JobChangedEvent;
+import com.dvlpr.CampusJobBoardSystem.event.JobsApprovedEvent;
 import com.dvlpr.CampusJobBoardSystem.repository.JobRepository;
+import com.dvlpr.CampusJobBoardSystem.repository.JobSpecifications;
 import com.dvlpr.CampusJobBoardSystem.repository.UserRepository;
+import com.dvlpr.CampusJobBoardSystem.search.ApprovedJobCatalog;
+import com.dvlpr.CampusJobBoardSystem.search.JobFacetService;
+import com.dvlpr.CampusJobBoardSystem.search.JobQueryPlan;
+import com.dvlpr.CampusJobBoardSystem.search.JobQueryPlanner;
+import com.dvlpr.CampusJobBoardSystem.search.JobSearchIndex;
+import com.dvlpr.CampusJobBoardSystem.search.JobSuggestionIndex;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +53,36 @@ class JobServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private JobSearchIndex jobSearchIndex;
+
+    @Mock
+    private JobFacetService jobFacetService;
+
+    @Mock
+    private JobQueryPlanner jobQueryPlanner;
+
+    @Mock
+    private ApprovedJobCatalog approvedJobCatalog;
+
+    @Mock
+    private JobSuggestionIndex jobSuggestionIndex;
+
+    @Mock
+    private LocationService locationService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private JobChangeTracker jobChangeTracker;
+
+    @Mock
+    private JobFragmentCache jobFragmentCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private JobService jobService;
 
@@ -47,6 +105,9 @@ class JobServiceTest {
 
         // Assert
         assertEquals(JobStatus.PENDING, job.getStatus()); // Crucial logic check
+        InOrder order = inOrder(locationService, transactionManager);
+        order.verify(locationService).applyTo(job);
+        order.verify(transactionManager).getTransaction(any());
         verify(jobRepository, times(1)).save(job);
     }
 
@@ -57,6 +118,9 @@ class JobServiceTest {
         Job job = new Job();
         job.setId(jobId);
         job.setStatus(JobStatus.PENDING);
+        User employer = new User();
+        employer.setEmail("employer@company.com");
+        job.setEmployer(employer);
 
         when(jobRepository.findById(jobId)).thenReturn(Optional.of(job));
 
@@ -66,5 +130,261 @@ class JobServiceTest {
         // Assert
         assertEquals(JobStatus.APPROVED, job.getStatus());
         verify(jobRepository, times(1)).save(job);
+        verify(jobChangeTracker).approvedChanged();
+        verify(jobChangeTracker).employerChanged("employer@company.com");
+    }
+
+    @Test
+    void testUpdateJobStatus_PublishesJobChangedEvent() {
+        // Arrange
+        Job job = new Job();
+        job.setId(10L);
+        job.setStatus(JobStatus.PENDING);
+        job.setEmployer(new User());
+
+        when(jobRepository.findById(10L)).thenReturn(Optional.of(job));
+
+        // Act
+        jobService.updateJobStatus(10L, JobStatus.APPROVED);
+
+        // Assert
+        verify(eventPublisher, times(1)).publishEvent(JobChangedEvent.saved(job));
+    }
+
+    @Test
+    void testModerateJobs_Approve_UpdatesInOneStatementAndIndexesChangedJobs() {
+        List<Long> ids = List.of(1L, 2L, 3L);
+        List<Job> approved = List.of(new Job(), new Job());
+        when(jobRepository.updateStatus(ids, JobStatus.PENDING, JobStatus.APPROVED)).thenReturn(2);
+        when(jobRepository.findByIdInAndStatus(ids, JobStatus.APPROVED)).thenReturn(approved);
+
+        assertEquals(2, jobService.moderateJobs(ids, JobStatus.APPROVED));
+
+        verify(eventPublisher, times(1)).publishEvent(new JobsApprovedEvent(approved));
+        verify(jobChangeTracker).approvedChanged();
+        verify(jobChangeTracker).allEmployersChanged();
+        verify(jobFragmentCache).evict(ids);
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    void testModerateJobs_Reject_PublishesNothing() {
+        when(jobRepository.updateStatus(List.of(4L), JobStatus.PENDING, JobStatus.REJECTED)).thenReturn(1);
+
+        assertEquals(1, jobService.moderateJobs(List.of(4L), JobStatus.REJECTED));
+
+        verifyNoInteractions(eventPublisher);
+        verify(jobChangeTracker, never()).approvedChanged();
+        verify(jobChangeTracker).allEmployersChanged();
+        assertThrows(IllegalArgumentException.class, () -> jobService.moderateJobs(List.of(4L), JobStatus.PENDING));
+    }
+
+    @Test
+    void testSearchApprovedJobs_UsesIndexInsteadOfLikeScan() {
+        // Arrange
+        Job job = new Job();
+        job.setId(7L);
+        job.setStatus(JobStatus.APPROVED);
+        Job better = new Job();
+        better.setId(3L);
+        better.setStatus(JobStatus.APPROVED);
+
+        when(jobSearchIndex.isReady()).thenReturn(true);
+        when(jobSearchIndex.rank(eq("java"), eq(false), anyInt(), any())).thenReturn(List.of(3L, 7L));
+        when(jobRepository.findByIdInAndStatus(List.of(3L, 7L), JobStatus.APPROVED)).thenReturn(List.of(job, better));
+
+        // Act
+        List<Job> result = jobService.searchApprovedJobs("java");
+
+        // Assert
+        assertEquals(List.of(better, job), result);
+        verify(jobRepository, never()).searchByKeywordAndStatus(anyString(), any());
+    }
+
+    @Test
+    void testSearchApprovedJobs_NoIndexMatches_SkipsDatabase() {
+        when(jobSearchIndex.isReady()).thenReturn(true);
+        when(jobSearchIndex.rank(eq("cobol"), anyBoolean(), anyInt(), any())).thenReturn(List.of());
+
+        assertTrue(jobService.searchApprovedJobs("cobol").isEmpty());
+        verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGetApprovedJobsPage_FetchesOneExtraRowToDetectNextPage() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.of(2025, 9, 1, 12, 0);
+        Job newest = new Job();
+        newest.setId(3L);
+        Job middle = new Job();
+        middle.setId(2L);
+        ReflectionTestUtils.setField(middle, "createdAt", now);
+        Job oldest = new Job();
+        oldest.setId(1L);
+
+        when(jobQueryPlanner.plan(any())).thenReturn(new JobQueryPlan(List.of(), 3, null, null));
+        doReturn(List.of(newest, middle, oldest)).when(jobRepository).findBy(any(Specification.class), any());
+
+        // Act
+        CursorPage<JobView> page = jobService.getApprovedJobsPage(null, 2);
+
+        // Assert
+        assertEquals(List.of(3L, 2L), page.items().stream().map(JobView::id).toList());
+        assertTrue(page.hasNext());
+        assertEquals(new JobCursor(now, 2L), JobCursor.decode(page.nextCursor()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFindApprovedJobs_RunsOneLimitedQueryInFeedOrder() {
+        // Arrange
+        FluentQuery.FetchableFluentQuery<Job> query = mock(FluentQuery.FetchableFluentQuery.class, RETURNS_SELF);
+        when(jobQueryPlanner.plan(any())).thenReturn(new JobQueryPlan(List.of(), 3, null, null));
+        when(jobRepository.findBy(any(Specification.class), any())).thenAnswer(invocation ->
+                invocation.<Function<FluentQuery.FetchableFluentQuery<Job>, Object>>getArgument(1).apply(query));
+
+        // Act
+        CursorPage<JobView> page = jobService.findApprovedJobs(new JobSearchCriteria(), null, 10_000);
+
+        // Assert
+        assertFalse(page.hasNext());
+        verify(query).limit(JobService.MAX_PAGE_SIZE + 1);
+        verify(query).sortBy(JobSpecifications.FEED_ORDER);
+        verify(jobRepository, times(1)).findBy(any(Specification.class), any());
+    }
+
+    @Test
+    void testFindApprovedJobs_CatalogReady_ServedWithoutQuery() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setKeyword("java");
+        CursorPage<JobView> expected = new CursorPage<>(List.of(), null);
+        when(jobQueryPlanner.plan(criteria)).thenReturn(new JobQueryPlan(List.of(), 3, List.of(1L, 2L), null));
+        when(approvedJobCatalog.isReady()).thenReturn(true);
+        when(approvedJobCatalog.find(criteria, List.of(1L, 2L), null, JobCursor.start(), 20)).thenReturn(expected);
+
+        assertSame(expected, jobService.findApprovedJobs(criteria, null, 20));
+        verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    void testFindApprovedJobs_SortedByRelevance_PagesThroughMatchesBestFirst() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setKeyword("java");
+        criteria.setSort("relevance");
+        List<JobView> views = List.of(mock(JobView.class), mock(JobView.class));
+        when(jobSearchIndex.isReady()).thenReturn(true);
+        when(approvedJobCatalog.isReady()).thenReturn(true);
+        when(jobSearchIndex.rank(eq("java"), eq(false), eq(3), any(), isNull())).thenReturn(List.of(
+                new JobSearchIndex.ScoredJob(5L, 3.0), new JobSearchIndex.ScoredJob(9L, 2.5),
+                new JobSearchIndex.ScoredJob(2L, 1.0)));
+        when(approvedJobCatalog.findAllById(List.of(5L, 9L))).thenReturn(views);
+
+        CursorPage<JobView> page = jobService.findApprovedJobs(criteria, null, 2);
+
+        assertEquals(views, page.items());
+        assertEquals(new JobRelevanceCursor(2.5, 9L, false), JobRelevanceCursor.decode(page.nextCursor()));
+        verifyNoInteractions(jobQueryPlanner, jobRepository);
+
+        when(jobSearchIndex.rank(eq("java"), eq(false), eq(3), any(), eq(new JobSearchIndex.ScoredJob(9L, 2.5))))
+                .thenReturn(List.of(new JobSearchIndex.ScoredJob(2L, 1.0)));
+
+        assertFalse(jobService.findApprovedJobs(criteria, page.nextCursor(), 2).hasNext());
+        verify(approvedJobCatalog).findAllById(List.of(2L));
+    }
+
+    @Test
+    void testFindApprovedJobs_SortedByRelevance_LaterPagesKeepTypoTolerance() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setKeyword("jaav");
+        criteria.setSort("relevance");
+        when(jobSearchIndex.isReady()).thenReturn(true);
+        when(approvedJobCatalog.isReady()).thenReturn(true);
+        when(jobSearchIndex.rank(eq("jaav"), eq(true), eq(21), any(), any())).thenReturn(List.of());
+
+        String cursor = new JobRelevanceCursor(2.5, 9L, true).encode();
+        jobService.findApprovedJobs(criteria, cursor, 20);
+
+        verify(jobSearchIndex, never()).rank(anyString(), eq(false), anyInt(), any(), any());
+    }
+
+    @Test
+    void testFindApprovedJobs_SortedBySalary_ServedFromRangeIndex() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setSort("salary");
+        CursorPage<JobView> expected = new CursorPage<>(List.of(), null);
+        when(jobQueryPlanner.plan(criteria)).thenReturn(new JobQueryPlan(List.of(), 3, null, null));
+        when(approvedJobCatalog.isReady()).thenReturn(true);
+        when(approvedJobCatalog.findSorted(criteria, null, null, JobSort.SALARY, JobSortCursor.start(true), 20))
+                .thenReturn(expected);
+
+        assertSame(expected, jobService.findApprovedJobs(criteria, null, 20));
+        verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    void testFindApprovedJobs_UnknownSort_IsRejected() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setSort("popularity");
+
+        assertThrows(IllegalArgumentException.class, () -> jobService.findApprovedJobs(criteria, null, 20));
+    }
+
+    @Test
+    void testFindApprovedJob_BeforeCatalogIsBuilt_HidesUnapprovedJobs() {
+        Job pending = new Job();
+        pending.setId(1L);
+        pending.setStatus(JobStatus.PENDING);
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(pending));
+
+        assertTrue(jobService.findApprovedJob(1L).isEmpty());
+    }
+
+    @Test
+    void testFindApprovedJobs_PredicateKnownEmpty_SkipsDatabase() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setKeyword("cobol");
+        JobQueryPlan.Step noMatches = new JobQueryPlan.Step("keyword=\"cobol\"", "PRIMARY KEY IN (0 ids)", 0, true);
+        when(jobQueryPlanner.plan(criteria)).thenReturn(new JobQueryPlan(List.of(noMatches), 3, List.of(), null));
+
+        assertTrue(jobService.findApprovedJobs(criteria, null, 20).items().isEmpty());
+        verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    void testFindApprovedJobs_InvertedSalaryRange_IsRejected() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setMinSalary(new BigDecimal("30"));
+        criteria.setMaxSalary(new BigDecimal("20"));
+
+        assertThrows(IllegalArgumentException.class, () -> jobService.findApprovedJobs(criteria, null, 20));
+    }
+
+    @Test
+    void testJobCursor_RoundTripsAndRejectsGarbage() {
+        JobCursor cursor = new JobCursor(LocalDateTime.of(2025, 9, 1, 12, 30, 15), 42L);
+
+        assertEquals(cursor, JobCursor.decode(cursor.encode()));
+        assertThrows(IllegalArgumentException.class, () -> JobCursor.decode("not-a-cursor"));
+    }
+
+    @Test
+    void testGetAvailableCategories_ServedFromFacetsWithoutQuery() {
+        List<FacetValue> facets = List.of(new FacetValue("IT", 42));
+        when(jobFacetService.isReady()).thenReturn(true);
+        when(jobFacetService.getCategories()).thenReturn(facets);
+
+        assertEquals(facets, jobService.getAvailableCategories());
+        verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    void testSuggestJobs_ClampsLimitAndNeverQueriesDatabase() {
+        when(jobSuggestionIndex.isReady()).thenReturn(true);
+        when(jobSuggestionIndex.suggest("java", JobSuggestionIndex.MAX_SUGGESTIONS)).thenReturn(List.of());
+
+        assertTrue(jobService.suggestJobs("java", 500).isEmpty());
+        verify(jobSuggestionIndex).suggest("java", JobSuggestionIndex.MAX_SUGGESTIONS);
+        verifyNoInteractions(jobRepository);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,157 @@
+package com.dvlpr.CampusJobBoardSystem.service;
+
+import com.dvlpr.CampusJobBoardSystem.entity.Job;
+import com.dvlpr.CampusJobBoardSystem.entity.Location;
+import com.dvlpr.CampusJobBoardSystem.entity.LocationAlias;
+import com.dvlpr.CampusJobBoardSystem.repository.JobRepository;
+import com.dvlpr.CampusJobBoardSystem.repository.LocationAliasRepository;
+import com.dvlpr.CampusJobBoardSystem.repository.LocationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LocationServiceTest {
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    @Mock
+    private LocationAliasRepository locationAliasRepository;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private LocationService locationService;
+
+    @Test
+    void testKeys_DropTrailingQualifiersButNeverTheWholeName() {
+        assertEquals("calgary ab", LocationService.aliasKey("  Calgary,  AB "));
+        assertEquals("calgary", LocationService.canonicalKey("calgary ab"));
+        assertEquals("calgary", LocationService.canonicalKey("calgary campus"));
+        assertEquals("red deer", LocationService.canonicalKey("red deer alberta canada"));
+        assertEquals("campus", LocationService.canonicalKey("campus"));
+    }
+
+    @Test
+    void testDisplayName_KeepsTheTypedSpellingOfTheCanonicalWords() {
+        assertEquals("St. Albert", LocationService.displayName(" St. Albert, AB", "st albert"));
+        assertEquals("UofC", LocationService.displayName("UofC Campus", "uofc"));
+        assertEquals("Red Deer", LocationService.displayName("Red Deer", "red deer"));
+    }
+
+    @Test
+    void testResolve_NewSpellingOfKnownPlace_RecordsAliasAndReusesLocation() {
+        Location calgary = location(1L, "Calgary", "calgary");
+        when(locationRepository.findByKey("calgary")).thenReturn(Optional.of(calgary));
+
+        assertSame(calgary, locationService.resolve("calgary, AB"));
+        assertSame(calgary, locationService.resolve("Calgary AB"));
+
+        // The second spelling hits the in-memory alias table
+        verify(locationRepository, times(1)).findByKey("calgary");
+        verify(locationAliasRepository, times(1)).save(any(LocationAlias.class));
+        verify(locationRepository, never()).save(any());
+    }
+
+    @Test
+    void testResolve_UnknownPlace_CreatesCanonicalLocation() {
+        when(locationRepository.findByKey("red deer")).thenReturn(Optional.empty());
+        when(locationRepository.save(any(Location.class))).thenAnswer(invocation -> {
+            Location saved = invocation.getArgument(0);
+            saved.setId(7L);
+            return saved;
+        });
+
+        Job job = new Job();
+        job.setLocation("red deer, alberta");
+        locationService.applyTo(job);
+
+        ArgumentCaptor<Location> created = ArgumentCaptor.forClass(Location.class);
+        verify(locationRepository).save(created.capture());
+        assertEquals("red deer", created.getValue().getName());
+        assertEquals("red deer, alberta", job.getLocation());
+        assertEquals(7L, job.getLocationId());
+        assertEquals(List.of(7L), locationService.findMatchingIds("Deer"));
+        assertNull(locationService.resolve(" , "));
+    }
+
+    @Test
+    void testResolve_NewLocation_CommitsInItsOwnTransaction() {
+        when(locationRepository.findByKey("banff")).thenReturn(Optional.empty());
+        when(locationRepository.save(any(Location.class))).thenAnswer(invocation -> {
+            Location saved = invocation.getArgument(0);
+            saved.setId(9L);
+            return saved;
+        });
+
+        locationService.resolve("Banff");
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertEquals(TransactionDefinition.PROPAGATION_REQUIRES_NEW, definition.getValue().getPropagationBehavior());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void testResolve_FailedCreate_LeavesDictionaryUnchanged() {
+        when(locationRepository.findByKey("canmore")).thenReturn(Optional.empty());
+        when(locationRepository.save(any(Location.class))).thenThrow(new IllegalStateException("database down"));
+
+        assertThrows(IllegalStateException.class, () -> locationService.resolve("Canmore"));
+
+        assertTrue(locationService.findMatchingIds("canmore").isEmpty());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void testResolve_CreatedConcurrently_UsesTheCommittedLocation() {
+        Location calgary = location(1L, "Calgary", "calgary");
+        when(locationRepository.findByKey("calgary")).thenReturn(Optional.empty()).thenReturn(Optional.of(calgary));
+        when(locationRepository.save(any(Location.class))).thenThrow(new DataIntegrityViolationException("uk_location_key"));
+        when(locationAliasRepository.existsById("calgary")).thenReturn(true);
+
+        assertSame(calgary, locationService.resolve("Calgary"));
+        assertEquals(List.of(1L), locationService.findMatchingIds("calgary"));
+    }
+
+    @Test
+    void testLoad_LinksJobsSavedBeforeTheDictionaryKeepingTheirText() {
+        Location calgary = location(1L, "Calgary", "calgary");
+        Job legacy = new Job();
+        legacy.setLocation("Calgary Campus");
+        when(locationRepository.findAll()).thenReturn(List.of(calgary));
+        when(jobRepository.findByLocationIdIsNullAndLocationIsNotNull()).thenReturn(List.of(legacy));
+        when(locationRepository.findByKey("calgary")).thenReturn(Optional.of(calgary));
+
+        locationService.load();
+
+        assertTrue(locationService.isReady());
+        assertEquals(1L, legacy.getLocationId());
+        assertEquals("Calgary Campus", legacy.getLocation());
+        verify(jobRepository).saveAll(List.of(legacy));
+    }
+
+    private static Location location(Long id, String name, String key) {
+        Location location = new Location(name, key);
+        location.setId(id);
+        return location;
+    }
+}
@@ -0,0 +1,67 @@
+package com.dvlpr.CampusJobBoardSystem.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Static assets are linked by content hash, cached as immutable only under that hash and served
+ * precompressed.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+class StaticResourceTest {
+
+    private static final Pattern VERSIONED_CSS = Pattern.compile("/css/site-[0-9a-f]{32}\\.css");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testPages_LinkAssetsByContentHash() throws Exception {
+        String page = mockMvc.perform(get("/login"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(VERSIONED_CSS.matcher(page).find(), "stylesheet link is not versioned");
+    }
+
+    @Test
+    void testVersionedAsset_IsImmutableAndServedPrecompressed() throws Exception {
+        Matcher css = VERSIONED_CSS.matcher(mockMvc.perform(get("/login"))
+                .andReturn().getResponse().getContentAsString());
+        assertTrue(css.find());
+
+        mockMvc.perform(get(css.group()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string(containsString(".content-wrapper")));
+
+        mockMvc.perform(get(css.group()).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)));
+    }
+
+    @Test
+    void testPlainAssetPath_IsRevalidated() throws Exception {
+        mockMvc.perform(get("/css/site.css"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(content().string(containsString(".content-wrapper")));
+    }
+}